@@ -0,0 +1,253 @@
+package slimeknights.tconstruct.library.client.data.spritetransformer;
+
+import com.google.common.collect.ImmutableList;
+import lombok.Data;
+import net.minecraft.client.renderer.texture.NativeImage;
+import net.minecraft.resources.IResource;
+import net.minecraft.resources.IResourceManager;
+import net.minecraft.util.ResourceLocation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import slimeknights.tconstruct.library.client.data.material.MaterialPartTextureGenerator;
+import slimeknights.tconstruct.library.client.data.spritetransformer.GreyToColorMapping.Interpolate;
+import slimeknights.tconstruct.library.utils.Util;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static net.minecraft.client.renderer.texture.NativeImage.getAlpha;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares the palette based {@link GreyToColorMapping} and {@link GreyToSpriteTransformer} against replicas of the previous per pixel implementations, using generated part sprites
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpriteTransformerBenchmark {
+  /** Texture used in the sprite palette */
+  private static final ResourceLocation TEXTURE = new ResourceLocation("test", "palette_texture");
+
+  /** Width and height of the part sprite, covers standard and large tool parts */
+  @Param({"16", "32"})
+  public int size;
+
+  private NativeImage part;
+  private NativeImage copy;
+  private RecolorSpriteTransformer recolor;
+  private LegacyRecolor legacyRecolor;
+  private GreyToSpriteTransformer sprite;
+  private LegacySprite legacySprite;
+  private NativeImage legacyTexture;
+
+  @Setup
+  public void setup() throws IOException {
+    part = createPartSprite(size);
+    copy = new NativeImage(size, size, true);
+
+    GreyToColorMapping palette = GreyToColorMapping.builderFromBlack().addARGB(63, 0xFF3A2415).addARGB(102, 0xFF4F3321).addARGB(140, 0xFF6B4A2E)
+                                                   .addARGB(178, 0xFF8C6A45).addARGB(216, 0xFFB08E62).addARGB(255, 0xFFD6BB8C).build();
+    recolor = new RecolorSpriteTransformer(palette);
+    legacyRecolor = new LegacyRecolor(palette);
+
+    // serve a generated texture through the resource manager so the sprite palette can load it
+    byte[] texture;
+    try (NativeImage image = createPartSprite(16)) {
+      texture = image.getBytes();
+    }
+    IResource resource = mock(IResource.class);
+    when(resource.getInputStream()).thenAnswer(invocation -> new ByteArrayInputStream(texture));
+    IResourceManager manager = mock(IResourceManager.class);
+    when(manager.getResource(any())).thenReturn(resource);
+    when(manager.hasResource(any())).thenReturn(true);
+    GreyToSpriteTransformer.init();
+    MaterialPartTextureGenerator.runCallbacks(null, manager);
+
+    sprite = GreyToSpriteTransformer.builderFromBlack().addARGB(63, 0xFF3A2415).addTexture(140, TEXTURE, 0xFFA07850).addARGB(216, 0xFFB08E62)
+                                    .addTexture(255, TEXTURE).build();
+    legacyTexture = NativeImage.read(new ByteArrayInputStream(texture));
+    legacySprite = new LegacySprite(ImmutableList.of(
+      new LegacyMapping(0, 0xFF000000, null),
+      new LegacyMapping(63, Util.translateColorBGR(0xFF3A2415), null),
+      new LegacyMapping(140, Util.translateColorBGR(0xFFA07850), legacyTexture),
+      new LegacyMapping(216, Util.translateColorBGR(0xFFB08E62), null),
+      new LegacyMapping(255, -1, legacyTexture)));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    MaterialPartTextureGenerator.runCallbacks(null, null);
+    part.close();
+    copy.close();
+    legacyTexture.close();
+  }
+
+  /** Creates a sprite shaped like a tool part, a shaded diagonal with a transparent background */
+  private static NativeImage createPartSprite(int size) {
+    NativeImage image = new NativeImage(size, size, true);
+    for (int y = 0; y < size; y++) {
+      for (int x = 0; x < size; x++) {
+        int distance = Math.abs(x - (size - 1 - y));
+        if (distance > size / 4) {
+          image.setPixelRGBA(x, y, 0);
+        } else {
+          int grey = 255 - (distance * 4 + (x * 7 + y * 3) % 48) * 255 / 128;
+          grey = Math.max(0, Math.min(255, grey));
+          image.setPixelRGBA(x, y, 0xFF000000 | grey << 16 | grey << 8 | grey);
+        }
+      }
+    }
+    return image;
+  }
+
+  @Benchmark
+  public NativeImage recolor_palette() {
+    copy.copyImageData(part);
+    recolor.transform(copy);
+    return copy;
+  }
+
+  @Benchmark
+  public NativeImage recolor_legacy() {
+    copy.copyImageData(part);
+    legacyRecolor.transform(copy);
+    return copy;
+  }
+
+  @Benchmark
+  public NativeImage sprite_palette() {
+    copy.copyImageData(part);
+    sprite.transform(copy);
+    return copy;
+  }
+
+  @Benchmark
+  public NativeImage sprite_legacy() {
+    copy.copyImageData(part);
+    legacySprite.transform(copy);
+    return copy;
+  }
+
+  /** Replica of {@link RecolorSpriteTransformer} and {@link GreyToColorMapping} prior to the primitive palette, using a boxed cache and column major pixel access */
+  private static class LegacyRecolor {
+    private final GreyToColorMapping palette;
+    private final Integer[] recolorCache = new Integer[256];
+
+    private LegacyRecolor(GreyToColorMapping palette) {
+      this.palette = palette;
+    }
+
+    private int getColorForGrey(int grey) {
+      if (recolorCache[grey] == null) {
+        recolorCache[grey] = palette.getColorForGrey(grey);
+      }
+      return recolorCache[grey];
+    }
+
+    private int mapColor(int color) {
+      if (getAlpha(color) == 0) {
+        return 0x00000000;
+      }
+      int grey = GreyToColorMapping.getGrey(color);
+      return GreyToColorMapping.scaleColor(color, getColorForGrey(grey), grey);
+    }
+
+    private void transform(NativeImage image) {
+      for (int x = 0; x < image.getWidth(); x++) {
+        for (int y = 0; y < image.getHeight(); y++) {
+          image.setPixelRGBA(x, y, mapColor(image.getPixelRGBA(x, y)));
+        }
+      }
+    }
+  }
+
+  /** Replica of {@link GreyToSpriteTransformer} prior to the sample tables, reading the texture image and applying the tint for every pixel */
+  private static class LegacySprite {
+    private static final Interpolate<LegacyMapping,LegacyRange> RANGE = (first, second, grey) -> new LegacyRange(first, second);
+    private final List<LegacyMapping> mappings;
+    private final LegacyRange[] foundSpriteCache = new LegacyRange[256];
+
+    private LegacySprite(List<LegacyMapping> mappings) {
+      this.mappings = mappings;
+    }
+
+    private int getNewColor(int color, int x, int y) {
+      if (getAlpha(color) == 0) {
+        return 0x00000000;
+      }
+      int grey = GreyToColorMapping.getGrey(color);
+      if (foundSpriteCache[grey] == null) {
+        foundSpriteCache[grey] = GreyToColorMapping.getNearestByGrey(mappings, LegacyMapping::getGrey, grey, RANGE);
+      }
+      int newColor = foundSpriteCache[grey].getColor(x, y, grey);
+      return GreyToColorMapping.scaleColor(color, newColor, grey);
+    }
+
+    private void transform(NativeImage image) {
+      for (int x = 0; x < image.getWidth(); x++) {
+        for (int y = 0; y < image.getHeight(); y++) {
+          image.setPixelRGBA(x, y, getNewColor(image.getPixelRGBA(x, y), x, y));
+        }
+      }
+    }
+  }
+
+  /** Replica of the previous sprite mapping */
+  @Data
+  private static class LegacyMapping {
+    private final int grey;
+    private final int color;
+    @Nullable
+    private final NativeImage texture;
+
+    private int getColor(int x, int y) {
+      if (texture != null) {
+        int spriteColor = texture.getPixelRGBA(x % texture.getWidth(), y % texture.getHeight());
+        if (color != -1) {
+          spriteColor = GreyToColorMapping.scaleColor(spriteColor, color, 255);
+        }
+        return spriteColor;
+      }
+      return color;
+    }
+  }
+
+  /** Replica of the previous sprite range */
+  @Data
+  private static class LegacyRange {
+    @Nullable
+    private final LegacyMapping before;
+    @Nullable
+    private final LegacyMapping after;
+
+    private int getColor(int x, int y, int grey) {
+      if (before == null) {
+        assert after != null;
+        return after.getColor(x, y);
+      }
+      if (after == null || before == after) {
+        return before.getColor(x, y);
+      }
+      return GreyToColorMapping.interpolateColors(before.getColor(x, y), before.getGrey(), after.getColor(x, y), after.getGrey(), grey);
+    }
+  }
+}
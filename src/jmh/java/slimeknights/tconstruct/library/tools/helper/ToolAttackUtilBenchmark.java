@@ -0,0 +1,68 @@
+package slimeknights.tconstruct.library.tools.helper;
+
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.ai.attributes.Attribute;
+import net.minecraft.entity.ai.attributes.AttributeModifierManager;
+import net.minecraft.entity.ai.attributes.AttributeModifierMap;
+import net.minecraft.entity.ai.attributes.Attributes;
+import net.minecraft.inventory.EquipmentSlotType;
+import net.minecraft.item.ItemStack;
+import net.minecraft.world.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import slimeknights.tconstruct.library.tools.nbt.ToolStack;
+import slimeknights.tconstruct.test.BenchmarkTools;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures {@link ToolAttackUtil#getAttributeAttackDamage(slimeknights.tconstruct.library.tools.nbt.IModifierToolStack, LivingEntity, EquipmentSlotType)} for both hands.
+ * The holder is a mock backed by a real attribute manager, holding another tool in the main hand.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ToolAttackUtilBenchmark {
+  private ToolStack tool;
+  private LivingEntity holder;
+
+  @Setup
+  public void setup() {
+    BenchmarkTools.init();
+    tool = BenchmarkTools.createModifiedTool();
+    ItemStack mainhand = BenchmarkTools.createModifiedTool().createStack();
+
+    AttributeModifierManager attributes = new AttributeModifierManager(AttributeModifierMap.createMutableAttribute().createMutableAttribute(Attributes.ATTACK_DAMAGE).create());
+    attributes.reapplyModifiers(mainhand.getAttributeModifiers(EquipmentSlotType.MAINHAND));
+    holder = mock(LivingEntity.class);
+    holder.world = mock(World.class);
+    when(holder.getHeldItemMainhand()).thenReturn(mainhand);
+    when(holder.getAttributeManager()).thenReturn(attributes);
+    when(holder.getAttributeValue(any())).thenAnswer(invocation -> attributes.getAttributeValue(invocation.<Attribute>getArgument(0)));
+  }
+
+  @Benchmark
+  public float mainhand() {
+    return ToolAttackUtil.getAttributeAttackDamage(tool, holder, EquipmentSlotType.MAINHAND);
+  }
+
+  @Benchmark
+  public float offhand() {
+    return ToolAttackUtil.getAttributeAttackDamage(tool, holder, EquipmentSlotType.OFFHAND);
+  }
+}
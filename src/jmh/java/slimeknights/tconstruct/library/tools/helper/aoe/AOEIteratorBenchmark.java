@@ -0,0 +1,140 @@
+package slimeknights.tconstruct.library.tools.helper.aoe;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.fluid.FluidState;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.registry.Bootstrap;
+import net.minecraft.world.IBlockReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import slimeknights.tconstruct.library.tools.helper.aoe.TreeAOEHarvestLogic.TreeIterator;
+
+import javax.annotation.Nullable;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the veining and tree iterators against a synthetic world containing a large ore vein and a large branching tree
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AOEIteratorBenchmark {
+  /** Position of the center of the vein */
+  private static final BlockPos VEIN_ORIGIN = new BlockPos(0, 64, 0);
+  /** Position of the base of the tree */
+  private static final BlockPos TREE_ORIGIN = new BlockPos(100, 64, 100);
+  /** Large enough to never hit the limit */
+  private static final int MAX_VISITED = 1 << 20;
+
+  /** Radius of the ore vein cube */
+  @Param({"4", "8"})
+  public int veinRadius;
+
+  private SyntheticWorld world;
+  private BlockState ore;
+
+  @Setup
+  public void setup() {
+    Bootstrap.register();
+    world = new SyntheticWorld();
+    ore = Blocks.IRON_ORE.getDefaultState();
+
+    // ore vein is a solid cube
+    for (int x = -veinRadius; x <= veinRadius; x++) {
+      for (int y = -veinRadius; y <= veinRadius; y++) {
+        for (int z = -veinRadius; z <= veinRadius; z++) {
+          world.set(VEIN_ORIGIN.add(x, y, z), ore);
+        }
+      }
+    }
+
+    // tree is a 2x2 trunk with branches in all directions every few blocks
+    BlockState log = Blocks.OAK_LOG.getDefaultState();
+    int height = veinRadius * 4;
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < 2; x++) {
+        for (int z = 0; z < 2; z++) {
+          world.set(TREE_ORIGIN.add(x, y, z), log);
+        }
+      }
+      if (y > 2 && y % 3 == 0) {
+        for (Direction direction : Direction.Plane.HORIZONTAL) {
+          BlockPos.Mutable branch = TREE_ORIGIN.add(0, y, 0).toMutable();
+          for (int i = 0; i < 6; i++) {
+            branch.move(direction);
+            if (i % 2 == 1) {
+              branch.move(Direction.UP);
+            }
+            world.set(branch, log);
+          }
+        }
+      }
+    }
+  }
+
+  /** Fully consumes the iterator */
+  private static void consume(Iterator<BlockPos> iterator, Blackhole blackhole) {
+    while (iterator.hasNext()) {
+      blackhole.consume(iterator.next());
+    }
+  }
+
+  @Benchmark
+  public void veining(Blackhole blackhole) {
+    consume(VeiningAOEHarvestLogic.calculate(ore, world, VEIN_ORIGIN, veinRadius * 3, MAX_VISITED).iterator(), blackhole);
+  }
+
+  @Benchmark
+  public void tree(Blackhole blackhole) {
+    consume(new TreeIterator(world, Blocks.OAK_LOG, TREE_ORIGIN, Direction.EAST, 1, Direction.SOUTH, 1, MAX_VISITED), blackhole);
+  }
+
+  /** Block reader backed by a map of positions, anything unset is air */
+  private static class SyntheticWorld implements IBlockReader {
+    private final Long2ObjectMap<BlockState> blocks = new Long2ObjectOpenHashMap<>();
+
+    private SyntheticWorld() {
+      blocks.defaultReturnValue(Blocks.AIR.getDefaultState());
+    }
+
+    /** Sets the block at the given position */
+    private void set(BlockPos pos, BlockState state) {
+      blocks.put(pos.toLong(), state);
+    }
+
+    @Nullable
+    @Override
+    public TileEntity getTileEntity(BlockPos pos) {
+      return null;
+    }
+
+    @Override
+    public BlockState getBlockState(BlockPos pos) {
+      return blocks.get(pos.toLong());
+    }
+
+    @Override
+    public FluidState getFluidState(BlockPos pos) {
+      return getBlockState(pos).getFluidState();
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package slimeknights.tconstruct.library.tools.nbt;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.ListNBT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import slimeknights.tconstruct.library.tools.item.TestToolItem;
+import slimeknights.tconstruct.test.BenchmarkTools;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building tools, rebuilding their stats, and parsing them back from an item stack
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ToolStackBenchmark {
+  private TestToolItem item;
+  /** Tool rebuilt each iteration */
+  private ToolStack tool;
+  /** Stack containing a fully built tool */
+  private ItemStack stack;
+  /** Modifiers to serialize */
+  private ModifierNBT modifiers;
+  /** Serialized modifiers to read */
+  private ListNBT modifiersNBT;
+
+  @Setup
+  public void setup() {
+    item = BenchmarkTools.init();
+    tool = BenchmarkTools.createModifiedTool();
+    stack = tool.createStack();
+    modifiers = tool.getModifiers();
+    modifiersNBT = modifiers.serializeToNBT();
+  }
+
+  @Benchmark
+  public ToolStack createTool() {
+    return ToolStack.createTool(item, item.getToolDefinition(), BenchmarkTools.MATERIALS);
+  }
+
+  @Benchmark
+  public ToolStack rebuildStats() {
+    tool.rebuildStats();
+    return tool;
+  }
+
+  @Benchmark
+  public StatsNBT from_getStats() {
+    return ToolStack.from(stack).getStats();
+  }
+
+  @Benchmark
+  public ModifierNBT modifiers_read() {
+    return ModifierNBT.readFromNBT(modifiersNBT);
+  }
+
+  @Benchmark
+  public ListNBT modifiers_serialize() {
+    return modifiers.serializeToNBT();
+  }
+}
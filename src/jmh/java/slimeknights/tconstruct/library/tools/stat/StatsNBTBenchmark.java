@@ -0,0 +1,152 @@
+package slimeknights.tconstruct.library.tools.stat;
+
+import com.google.common.collect.ImmutableMap;
+import net.minecraft.util.registry.Bootstrap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import slimeknights.tconstruct.library.tools.nbt.StatsNBT;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Compares the index based {@link StatsNBT} and {@link ModifierStatsBuilder} against the previous map based storage
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatsNBTBenchmark {
+  /** Stats read during combat and mining */
+  private static final IToolStat<?>[] READ_STATS = {ToolStats.DURABILITY, ToolStats.ATTACK_DAMAGE, ToolStats.ATTACK_SPEED, ToolStats.MINING_SPEED, ToolStats.HARVEST_LEVEL, ToolStats.ARMOR};
+
+  private StatsNBT stats;
+  private ImmutableMap<IToolStat<?>,Float> mapStats;
+
+  @Setup
+  public void setup() {
+    Bootstrap.register();
+    StatsNBT.Builder builder = StatsNBT.builder();
+    ImmutableMap.Builder<IToolStat<?>,Float> mapBuilder = ImmutableMap.builder();
+    float value = 1;
+    // leave armor out so we measure the default fallback too
+    for (IToolStat<?> stat : ToolStats.getAllStats()) {
+      if (stat != ToolStats.ARMOR) {
+        builder.set(stat, value);
+        mapBuilder.put(stat, stat.clamp(value));
+        value++;
+      }
+    }
+    stats = builder.build();
+    mapStats = mapBuilder.build();
+  }
+
+  @Benchmark
+  public void getFloat_indexed(Blackhole blackhole) {
+    for (IToolStat<?> stat : READ_STATS) {
+      blackhole.consume(stats.getFloat(stat));
+    }
+  }
+
+  @Benchmark
+  public void getFloat_map(Blackhole blackhole) {
+    for (IToolStat<?> stat : READ_STATS) {
+      blackhole.consume(mapStats.getOrDefault(stat, stat.getDefaultValue()).floatValue());
+    }
+  }
+
+  @Benchmark
+  public StatsNBT build_indexed() {
+    ModifierStatsBuilder builder = ModifierStatsBuilder.builder();
+    ToolStats.ATTACK_DAMAGE.add(builder, 2);
+    ToolStats.MINING_SPEED.multiply(builder, 1.5f);
+    ToolStats.DURABILITY.multiplyAll(builder, 1.1f);
+    ToolStats.HARVEST_LEVEL.set(builder, 3);
+    return builder.build(stats);
+  }
+
+  @Benchmark
+  public ImmutableMap<IToolStat<?>,Float> build_map() {
+    MapStatsBuilder builder = new MapStatsBuilder();
+    builder.update(ToolStats.ATTACK_DAMAGE, LegacyFloatBuilder::new, b -> b.add += 2);
+    builder.update(ToolStats.MINING_SPEED, LegacyFloatBuilder::new, b -> b.multiply *= 1.5f);
+    builder.update(ToolStats.DURABILITY, LegacyFloatBuilder::new, b -> {
+      b.multiply *= 1.1f;
+      b.modifierMultiplier *= 1.1f;
+    });
+    builder.update(ToolStats.HARVEST_LEVEL, LegacyTierBuilder::new, b -> b.tier = Math.max(b.tier, 3));
+    return builder.build(mapStats);
+  }
+
+  /**
+   * Replica of the map based {@link ModifierStatsBuilder} prior to index based storage.
+   * The stat builders are replicas as the real ones are private to their stats, but perform the same updates as {@link FloatToolStat} and {@link TierToolStat}.
+   */
+  private static class MapStatsBuilder {
+    private final Map<IToolStat<?>,LegacyBuilder> map = new HashMap<>();
+
+    @SuppressWarnings("unchecked")
+    private <B extends LegacyBuilder> void update(IToolStat<?> stat, Supplier<B> constructor, Consumer<B> consumer) {
+      consumer.accept((B)map.computeIfAbsent(stat, s -> constructor.get()));
+    }
+
+    private ImmutableMap<IToolStat<?>,Float> build(ImmutableMap<IToolStat<?>,Float> base) {
+      ImmutableMap.Builder<IToolStat<?>,Float> builder = ImmutableMap.builder();
+      for (Entry<IToolStat<?>,Float> entry : base.entrySet()) {
+        IToolStat<?> stat = entry.getKey();
+        LegacyBuilder statBuilder = map.get(stat);
+        float value = statBuilder != null ? statBuilder.build(entry.getValue()) : entry.getValue();
+        builder.put(stat, stat.clamp(value));
+      }
+      for (Entry<IToolStat<?>,LegacyBuilder> entry : map.entrySet()) {
+        IToolStat<?> stat = entry.getKey();
+        if (!base.containsKey(stat)) {
+          builder.put(stat, stat.clamp(entry.getValue().build(stat.getDefaultValue())));
+        }
+      }
+      return builder.build();
+    }
+  }
+
+  /** Replica of a stat builder */
+  private interface LegacyBuilder {
+    float build(float value);
+  }
+
+  /** Replica of {@link FloatToolStat}'s builder */
+  private static class LegacyFloatBuilder implements LegacyBuilder {
+    private float add = 0;
+    private float multiply = 1;
+    private float modifierMultiplier = 1;
+
+    @Override
+    public float build(float value) {
+      return (value + add) * multiply;
+    }
+  }
+
+  /** Replica of {@link TierToolStat}'s builder */
+  private static class LegacyTierBuilder implements LegacyBuilder {
+    private int tier = 0;
+
+    @Override
+    public float build(float value) {
+      return Math.max(value, tier);
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package slimeknights.tconstruct.test;
+
+import com.google.common.collect.ImmutableList;
+import net.minecraft.item.Item;
+import net.minecraft.util.registry.Bootstrap;
+import net.minecraftforge.common.ToolType;
+import net.minecraftforge.fml.ModContainer;
+import net.minecraftforge.fml.ModLoadingContext;
+import net.minecraftforge.registries.ForgeRegistries;
+import slimeknights.tconstruct.fixture.MaterialFixture;
+import slimeknights.tconstruct.fixture.ModifierFixture;
+import slimeknights.tconstruct.fixture.ToolDefinitionFixture;
+import slimeknights.tconstruct.library.materials.MaterialRegistryExtension;
+import slimeknights.tconstruct.library.materials.definition.IMaterial;
+import slimeknights.tconstruct.library.tools.item.TestToolItem;
+import slimeknights.tconstruct.library.tools.nbt.ToolStack;
+
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Shared setup for benchmarks working with tools, reusing the test fixtures so benchmarks see the same materials, modifiers, and definition as the unit tests
+ */
+public final class BenchmarkTools {
+  /** Materials for a tool using the standard test definition */
+  public static final List<IMaterial> MATERIALS = ImmutableList.of(MaterialFixture.MATERIAL_WITH_HEAD, MaterialFixture.MATERIAL_WITH_HANDLE, MaterialFixture.MATERIAL_WITH_EXTRA);
+
+  private static TestToolItem tool;
+
+  private BenchmarkTools() {}
+
+  /**
+   * Sets up the registries and fixtures, same as {@link BaseMcTest} and {@link slimeknights.tconstruct.library.tools.item.ToolItemTest}
+   * @return  Tool item using the standard test definition
+   */
+  public static synchronized TestToolItem init() {
+    if (tool == null) {
+      Bootstrap.register();
+      ModLoadingContext.get().setActiveContainer(mock(ModContainer.class), null);
+      ModifierFixture.init();
+      // extension does not use the context, just sets up the material registry fixture
+      new MaterialRegistryExtension().beforeEach(null);
+
+      tool = new TestToolItem(new Item.Properties().addToolType(ToolType.PICKAXE, 1).maxStackSize(1), ToolDefinitionFixture.getStandardToolDefinition());
+      tool.setRegistryName("test:toolcore");
+      ForgeRegistries.ITEMS.register(tool);
+    }
+    return tool;
+  }
+
+  /**
+   * Creates a new tool with materials and both test modifiers
+   * @return  Tool stack
+   */
+  public static ToolStack createModifiedTool() {
+    TestToolItem item = init();
+    ToolStack tool = ToolStack.createTool(item, item.getToolDefinition(), MATERIALS);
+    tool.addModifier(ModifierFixture.TEST_MODIFIER_1, 2);
+    tool.addModifier(ModifierFixture.TEST_MODIFIER_2, 1);
+    return tool;
+  }
+}
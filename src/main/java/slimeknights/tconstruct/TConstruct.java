@@ -46,6 +46,8 @@ import slimeknights.tconstruct.library.tools.capability.TinkerDataCapability.Com
 import slimeknights.tconstruct.library.tools.capability.TinkerDataCapability.TinkerDataKey;
 import slimeknights.tconstruct.library.tools.definition.ToolDefinitionLoader;
 import slimeknights.tconstruct.library.tools.layout.StationSlotLayoutLoader;
+import slimeknights.tconstruct.library.tools.nbt.ModDataKey;
+import slimeknights.tconstruct.library.tools.nbt.ToolDataFingerprint;
 import slimeknights.tconstruct.library.utils.Util;
 import slimeknights.tconstruct.plugin.ImmersiveEngineeringPlugin;
 import slimeknights.tconstruct.plugin.crt.CRTHelper;
@@ -130,6 +132,7 @@ public class TConstruct {
     MaterialRegistry.init();
     ToolDefinitionLoader.init();
     StationSlotLayoutLoader.init();
+    ToolDataFingerprint.init();
   }
 
   @SubscribeEvent
@@ -284,6 +287,15 @@ public class TConstruct {
     return new ResourceLocation(MOD_ID, name);
   }
 
+  /**
+   * Gets a key for tool mod data, which caches its string form for faster NBT access
+   * @param name  Resource path
+   * @return  Mod data key for tinkers
+   */
+  public static ModDataKey getDataKey(String name) {
+    return new ModDataKey(MOD_ID, name);
+  }
+
   /**
    * Gets a data key for the capability, mainly used for modifier markers
    * @param name  Resource path
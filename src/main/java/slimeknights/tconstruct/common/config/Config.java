@@ -10,6 +10,8 @@ import net.minecraftforge.fml.config.ModConfig;
 import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
 import org.apache.commons.lang3.tuple.Pair;
 import slimeknights.tconstruct.TConstruct;
+import slimeknights.tconstruct.library.tools.nbt.ToolDataFingerprint;
+import slimeknights.tconstruct.library.tools.nbt.ToolDataFingerprint.Source;
 import slimeknights.tconstruct.library.utils.Orientation2D;
 import slimeknights.tconstruct.world.TinkerHeadType;
 import slimeknights.tconstruct.world.TinkerStructures;
@@ -24,6 +26,13 @@ public class Config {
   public static class Common {
 
     public final BooleanValue shouldSpawnWithTinkersBook;
+    public final BooleanValue batchAOEBreaking;
+    public final IntValue maxAOEVisited;
+    public final IntValue structureDetectionBudget;
+    public final BooleanValue compactModifierNBT;
+    public final BooleanValue compactToolSync;
+    public final BooleanValue batchClientSyncs;
+    public final BooleanValue modifierProfiling;
 
     // recipes
     public final BooleanValue addGravelToFlintRecipe;
@@ -108,6 +117,47 @@ public class Config {
         .translation("tconstruct.configgui.showAllAnvilVariants")
         .define("showAllAnvilVariants", true);
 
+      this.batchAOEBreaking = builder
+        .comment("If true, blocks broken by AOE tools send block updates once per chunk section and merge identical drops, adding them to the world after all blocks are broken.",
+                 "Disable if another mod relies on each block broken by AOE spawning its own drops.")
+        .translation("tconstruct.configgui.batchAOEBreaking")
+        .define("batchAOEBreaking", true);
+
+      this.maxAOEVisited = builder
+        .comment("Maximum number of positions veining and tree felling tools will check in a single break. Prevents huge veins or modded trees from stalling the server.")
+        .translation("tconstruct.configgui.maxAOEVisited")
+        .defineInRange("maxAOEVisited", 4096, 64, 65536);
+
+      this.structureDetectionBudget = builder
+        .comment("Maximum number of blocks the smeltery and foundry check each tick when detecting their structure. Larger structures are detected over multiple ticks, keeping the previous structure active until done.")
+        .translation("tconstruct.configgui.structureDetectionBudget")
+        .defineInRange("structureDetectionBudget", 2048, 64, 1048576);
+
+      this.compactModifierNBT = builder
+        .comment("If true, tool modifiers are saved as a list of IDs with an array of levels instead of a compound per modifier, reducing the size of tools in saves and packets.",
+                 "Both formats are always read, but versions without this option cannot read the compact format.")
+        .translation("tconstruct.configgui.compactModifierNBT")
+        .define("compactModifierNBT", false);
+
+      this.compactToolSync = builder
+        .comment("If true, tools synced to clients leave out their stats, modifiers, and other data calculated from materials and modifiers, letting the client calculate them instead.",
+                 "Reduces the size of inventory and equipment packets, but requires clients to calculate the stats for each changed tool.",
+                 "Only the server value is used. Clients calculate stats from the synced tool data and use the server value of compactModifierNBT, so client config does not change the result.")
+        .translation("tconstruct.configgui.compactToolSync")
+        .define("compactToolSync", false);
+
+      this.batchClientSyncs = builder
+        .comment("If true, fluid and item updates for channels, faucets, melters, and tables are collected and sent once at the end of each tick, only sending the latest state for each block.",
+                 "Disable if block renders appear out of date.")
+        .translation("tconstruct.configgui.batchClientSyncs")
+        .define("batchClientSyncs", true);
+
+      this.modifierProfiling = builder
+        .comment("If true, the /tconstruct profile command can be used to record how often each modifier hook runs and how long it takes.",
+                 "Adds a small overhead to modifier hooks while recording, so only enable when tracking down lag.")
+        .translation("tconstruct.configgui.modifierProfiling")
+        .define("modifierProfiling", false);
+
       builder.pop();
 
       builder.comment("Options related to recipes, limited options as a datapack allows most recipes to be modified").push("recipes");
@@ -297,6 +347,8 @@ public class Config {
     public final ForgeConfigSpec.BooleanValue showModifiersInJEI;
     public final ForgeConfigSpec.BooleanValue renderShieldSlotItem;
     public final ForgeConfigSpec.IntValue maxSmelteryItemQuads;
+    public final ForgeConfigSpec.BooleanValue asyncDynamicModels;
+    public final ForgeConfigSpec.BooleanValue warmUpDynamicModels;
 
     // framed modifier
     public final ForgeConfigSpec.BooleanValue renderItemFrame;
@@ -346,6 +398,18 @@ public class Config {
                  "Setting this lower will cause fewer items to be renderer (but never a partial item). Set to -1 to allow unlimited quads, and 0 to disable the item renderer.")
         .defineInRange("maxSmelteryItemQuads", 3500, -1, Short.MAX_VALUE);
 
+      this.asyncDynamicModels = builder
+        .comment("If true, tool and part models for new material combinations are baked on a background thread, showing the base model for a few frames until ready.",
+                 "If false, they are baked on the render thread, which may cause stutters when many new tools are shown at once.",
+                 "Modifier models from other mods are baked on the background thread too, so only enable if all installed modifier models are thread-safe.")
+        .translation("tconstruct.configgui.asyncDynamicModels")
+        .define("asyncDynamicModels", false);
+
+      this.warmUpDynamicModels = builder
+        .comment("If true, tool and part models for every item in the creative tabs are baked after models or materials reload, so they are ready before they are first shown.")
+        .translation("tconstruct.configgui.warmUpDynamicModels")
+        .define("warmUpDynamicModels", false);
+
       builder.comment("Settings related to modifiers").push("modifiers");
       {
 
@@ -404,6 +468,16 @@ public class Config {
 
     IEventBus bus = FMLJavaModLoadingContext.get().getModEventBus();
     bus.addListener(Config::configChanged);
+    bus.addListener(Config::updateFingerprint);
+  }
+
+  /** Called when config loads or reloads to update the tool fingerprint, only includes values that change the data written by tool rebuilds */
+  private static void updateFingerprint(ModConfig.ModConfigEvent event) {
+    ModConfig config = event.getConfig();
+    if (config.getModId().equals(TConstruct.MOD_ID) && config.getSpec() == Config.commonSpec) {
+      // modifier format changes the tic_modifiers tag, so rebuild to migrate tools to the new format
+      ToolDataFingerprint.update(Source.CONFIG, COMMON.compactModifierNBT.get() ? 1 : 0);
+    }
   }
 
   /** Called when config reloaded to update cached settings */
@@ -0,0 +1,80 @@
+package slimeknights.tconstruct.common.network;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import lombok.AllArgsConstructor;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.network.NetworkEvent.Context;
+import slimeknights.mantle.network.packet.IThreadsafePacket;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Packet containing several block sync packets queued by {@link SyncBatcher} during a single tick
+ */
+@AllArgsConstructor
+public class SyncBatchPacket implements IThreadsafePacket {
+  /** Decoders for each packet type that can be batched, index is the type ID */
+  private static final List<Function<PacketBuffer,? extends IThreadsafePacket>> DECODERS = new ArrayList<>();
+  /** Type IDs for each packet class */
+  private static final Object2IntMap<Class<?>> TYPE_IDS = new Object2IntOpenHashMap<>();
+  static {
+    TYPE_IDS.defaultReturnValue(-1);
+  }
+
+  private final List<IThreadsafePacket> packets;
+
+  /**
+   * Registers a packet type that can be batched. Should be called during network setup, in the same order on both sides
+   * @param clazz    Packet class
+   * @param decoder  Packet decoder
+   * @param <T>  Packet type
+   */
+  public static <T extends IThreadsafePacket> void registerType(Class<T> clazz, Function<PacketBuffer,T> decoder) {
+    if (TYPE_IDS.containsKey(clazz)) {
+      throw new IllegalArgumentException("Duplicate batched packet type " + clazz);
+    }
+    TYPE_IDS.put(clazz, DECODERS.size());
+    DECODERS.add(decoder);
+  }
+
+  /**
+   * Checks if the given packet can be added to a batch
+   * @param packet  Packet to check
+   * @return  True if the packet type was registered
+   */
+  public static boolean canBatch(IThreadsafePacket packet) {
+    return TYPE_IDS.containsKey(packet.getClass());
+  }
+
+  public SyncBatchPacket(PacketBuffer buffer) {
+    int size = buffer.readVarInt();
+    packets = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      int type = buffer.readVarInt();
+      if (type < 0 || type >= DECODERS.size()) {
+        throw new IllegalArgumentException("Unknown batched packet type " + type);
+      }
+      packets.add(DECODERS.get(type).apply(buffer));
+    }
+  }
+
+  @Override
+  public void encode(PacketBuffer buffer) {
+    buffer.writeVarInt(packets.size());
+    for (IThreadsafePacket packet : packets) {
+      buffer.writeVarInt(TYPE_IDS.getInt(packet.getClass()));
+      packet.encode(buffer);
+    }
+  }
+
+  @Override
+  public void handleThreadsafe(Context context) {
+    // already on the main thread, so just run each packet in order
+    for (IThreadsafePacket packet : packets) {
+      packet.handleThreadsafe(context);
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package slimeknights.tconstruct.common.network;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import lombok.Data;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent.Phase;
+import net.minecraftforge.event.TickEvent.WorldTickEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import slimeknights.mantle.network.packet.IThreadsafePacket;
+import slimeknights.tconstruct.common.config.Config;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Collects block sync packets during a tick, sending them to each player in a single {@link SyncBatchPacket} at the end of the world tick.
+ * Later packets for the same block and key replace earlier ones, so a block that changes several times in a tick only syncs its final state.
+ */
+public class SyncBatcher {
+  private static boolean init = false;
+  /** Maximum number of packets to send in a single batch */
+  private static final int MAX_BATCH_SIZE = 512;
+  /** Pending packets in each world, grouped by chunk */
+  private static final Map<IWorld,Long2ObjectMap<Map<Key,IThreadsafePacket>>> PENDING = new WeakHashMap<>();
+
+  /** Registers the tick listeners */
+  public static void init() {
+    if (init) {
+      return;
+    }
+    init = true;
+    // lowest priority so packets queued by other world tick listeners go out the same tick
+    MinecraftForge.EVENT_BUS.addListener(EventPriority.LOWEST, SyncBatcher::onWorldTick);
+    MinecraftForge.EVENT_BUS.addListener(SyncBatcher::onWorldUnload);
+  }
+
+  /**
+   * Queues a packet to be sent to all players tracking the position at the end of the tick.
+   * The packet is encoded when sent, so it must not hold any stacks that may change before then.
+   * @param world   World instance, if not a server world nothing is sent
+   * @param pos     Position of the block syncing
+   * @param key     Key for the data being synced, a later packet with the same position and key replaces this packet
+   * @param packet  Packet to send
+   */
+  public static void queue(@Nullable IWorld world, BlockPos pos, Object key, IThreadsafePacket packet) {
+    if (!(world instanceof ServerWorld)) {
+      return;
+    }
+    if (!Config.COMMON.batchClientSyncs.get() || !SyncBatchPacket.canBatch(packet)) {
+      TinkerNetwork.getInstance().sendToClientsAround(packet, (ServerWorld)world, pos);
+      return;
+    }
+    PENDING.computeIfAbsent(world, w -> new Long2ObjectLinkedOpenHashMap<>())
+           .computeIfAbsent(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4), c -> new LinkedHashMap<>())
+           .put(new Key(pos.toLong(), key), packet);
+  }
+
+  /** Sends all pending packets at the end of the world tick */
+  private static void onWorldTick(WorldTickEvent event) {
+    if (event.phase == Phase.END && event.world instanceof ServerWorld) {
+      Long2ObjectMap<Map<Key,IThreadsafePacket>> pending = PENDING.remove(event.world);
+      if (pending != null && !pending.isEmpty()) {
+        flush((ServerWorld)event.world, pending);
+      }
+    }
+  }
+
+  /** Clears pending packets when the world unloads */
+  private static void onWorldUnload(WorldEvent.Unload event) {
+    PENDING.remove(event.getWorld());
+  }
+
+  /**
+   * Sends the pending packets to each player tracking their chunks
+   * @param world    World instance
+   * @param pending  Packets to send in each chunk
+   */
+  private static void flush(ServerWorld world, Long2ObjectMap<Map<Key,IThreadsafePacket>> pending) {
+    // group by player, keeping the order packets were queued
+    Map<ServerPlayerEntity,List<IThreadsafePacket>> byPlayer = new IdentityHashMap<>();
+    for (Long2ObjectMap.Entry<Map<Key,IThreadsafePacket>> entry : pending.long2ObjectEntrySet()) {
+      Iterable<IThreadsafePacket> packets = entry.getValue().values();
+      world.getChunkProvider().chunkManager.getTrackingPlayers(new ChunkPos(entry.getLongKey()), false).forEach(player -> {
+        List<IThreadsafePacket> list = byPlayer.computeIfAbsent(player, p -> new ArrayList<>());
+        for (IThreadsafePacket packet : packets) {
+          list.add(packet);
+        }
+      });
+    }
+
+    // send the packets, no need to wrap a single packet
+    TinkerNetwork network = TinkerNetwork.getInstance();
+    for (Map.Entry<ServerPlayerEntity,List<IThreadsafePacket>> entry : byPlayer.entrySet()) {
+      ServerPlayerEntity player = entry.getKey();
+      List<IThreadsafePacket> packets = entry.getValue();
+      if (packets.size() == 1) {
+        network.sendTo(packets.get(0), player);
+      } else {
+        for (int start = 0; start < packets.size(); start += MAX_BATCH_SIZE) {
+          network.sendTo(new SyncBatchPacket(packets.subList(start, Math.min(start + MAX_BATCH_SIZE, packets.size()))), player);
+        }
+      }
+    }
+  }
+
+  /** Key for a pending packet */
+  @Data
+  private static class Key {
+    private final long pos;
+    private final Object key;
+  }
+}
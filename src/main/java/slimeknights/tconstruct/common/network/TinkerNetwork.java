@@ -21,6 +21,7 @@ import slimeknights.tconstruct.smeltery.network.ChannelFlowPacket;
 import slimeknights.tconstruct.smeltery.network.FaucetActivationPacket;
 import slimeknights.tconstruct.smeltery.network.FluidUpdatePacket;
 import slimeknights.tconstruct.smeltery.network.SmelteryFluidClickedPacket;
+import slimeknights.tconstruct.smeltery.network.SmelteryTankResyncPacket;
 import slimeknights.tconstruct.smeltery.network.SmelteryTankUpdatePacket;
 import slimeknights.tconstruct.smeltery.network.StructureErrorPositionPacket;
 import slimeknights.tconstruct.smeltery.network.StructureUpdatePacket;
@@ -69,6 +70,7 @@ public class TinkerNetwork extends NetworkWrapper {
     instance.registerPacket(UpdateNeighborsPacket.class, UpdateNeighborsPacket::new, NetworkDirection.PLAY_TO_CLIENT);
     instance.registerPacket(GeneratePartTexturesPacket.class, GeneratePartTexturesPacket::new, NetworkDirection.PLAY_TO_CLIENT);
     instance.registerPacket(SyncPersistentDataPacket.class, SyncPersistentDataPacket::new, NetworkDirection.PLAY_TO_CLIENT);
+    instance.registerPacket(SyncBatchPacket.class, SyncBatchPacket::new, NetworkDirection.PLAY_TO_CLIENT);
 
     // gadgets
     instance.registerPacket(EntityMovementChangePacket.class, EntityMovementChangePacket::new, NetworkDirection.PLAY_TO_CLIENT);
@@ -94,9 +96,17 @@ public class TinkerNetwork extends NetworkWrapper {
     instance.registerPacket(FaucetActivationPacket.class, FaucetActivationPacket::new, NetworkDirection.PLAY_TO_CLIENT);
     instance.registerPacket(ChannelFlowPacket.class, ChannelFlowPacket::new, NetworkDirection.PLAY_TO_CLIENT);
     instance.registerPacket(SmelteryTankUpdatePacket.class, SmelteryTankUpdatePacket::new, NetworkDirection.PLAY_TO_CLIENT);
+    instance.registerPacket(SmelteryTankResyncPacket.class, SmelteryTankResyncPacket::new, NetworkDirection.PLAY_TO_SERVER);
     instance.registerPacket(StructureUpdatePacket.class, StructureUpdatePacket::new, NetworkDirection.PLAY_TO_CLIENT);
     instance.registerPacket(SmelteryFluidClickedPacket.class, SmelteryFluidClickedPacket::new, NetworkDirection.PLAY_TO_SERVER);
     instance.registerPacket(StructureErrorPositionPacket.class, StructureErrorPositionPacket::new, NetworkDirection.PLAY_TO_CLIENT);
+
+    // block syncs that can be sent in a batch
+    SyncBatchPacket.registerType(InventorySlotSyncPacket.class, InventorySlotSyncPacket::new);
+    SyncBatchPacket.registerType(FluidUpdatePacket.class, FluidUpdatePacket::new);
+    SyncBatchPacket.registerType(FaucetActivationPacket.class, FaucetActivationPacket::new);
+    SyncBatchPacket.registerType(ChannelFlowPacket.class, ChannelFlowPacket::new);
+    SyncBatcher.init();
   }
 
   /**
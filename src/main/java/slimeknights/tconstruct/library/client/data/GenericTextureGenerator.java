@@ -30,11 +30,18 @@ public abstract class GenericTextureGenerator implements IDataProvider {
         Paths.get(ResourcePackType.CLIENT_RESOURCES.getDirectoryName(),
                   location.getNamespace(), folder, location.getPath() + ".png"));
       String hash = HASH_FUNCTION.hashBytes(image.getBytes()).toString();
-      if (!Objects.equals(cache.getPreviousHash(path), hash) || !Files.exists(path)) {
+      // images may be saved from multiple threads, and the cache is not threadsafe
+      String previousHash;
+      synchronized (cache) {
+        previousHash = cache.getPreviousHash(path);
+      }
+      if (!Objects.equals(previousHash, hash) || !Files.exists(path)) {
         Files.createDirectories(path.getParent());
         image.write(path);
       }
-      cache.recordHash(path, hash);
+      synchronized (cache) {
+        cache.recordHash(path, hash);
+      }
     } catch (IOException e) {
       log.error("Couldn't create data for {}", location, e);
     }
@@ -1,5 +1,6 @@
 package slimeknights.tconstruct.library.client.data.material;
 
+import lombok.Data;
 import net.minecraft.client.renderer.texture.NativeImage;
 import net.minecraft.data.DataGenerator;
 import net.minecraft.data.DirectoryCache;
@@ -9,6 +10,7 @@ import net.minecraftforge.common.data.ExistingFileHelper;
 import slimeknights.tconstruct.library.client.data.GenericTextureGenerator;
 import slimeknights.tconstruct.library.client.data.material.AbstractMaterialSpriteProvider.MaterialSpriteInfo;
 import slimeknights.tconstruct.library.client.data.material.AbstractPartSpriteProvider.PartSpriteInfo;
+import slimeknights.tconstruct.library.client.data.spritetransformer.ISpriteTransformer;
 import slimeknights.tconstruct.library.client.data.util.AbstractSpriteReader;
 import slimeknights.tconstruct.library.client.data.util.DataGenSpriteReader;
 
@@ -17,6 +19,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 
@@ -81,19 +85,52 @@ public class MaterialPartTextureGenerator extends GenericTextureGenerator {
       // want cross product of textures
       BiConsumer<ResourceLocation, NativeImage> saver = (path, image) -> saveImage(cache, path, image);
       Predicate<ResourceLocation> shouldGenerate = path -> !spriteReader.exists(path);
-      for (MaterialSpriteInfo material : materials) {
-        for (PartSpriteInfo part : parts) {
-          if (material.supportStatType(part.getStatType())) {
-            generateSprite(spriteReader, material, part, shouldGenerate, saver);
-          }
-        }
-      }
+      generateSprites(spriteReader, materials, parts, shouldGenerate, null, saver);
     }
     spriteReader.closeAll();
     partProvider.cleanCache();
     runCallbacks(null, null);
   }
 
+  /**
+   * Gets the path to the sprite generated for the given material and part
+   * @param material  Material for the sprite
+   * @param part      Part for the sprite
+   * @return  Sprite path
+   */
+  public static ResourceLocation getSpritePath(MaterialSpriteInfo material, PartSpriteInfo part) {
+    // path format: pNamespace:pPath_mNamespace_mPath
+    ResourceLocation partPath = part.getPath();
+    ResourceLocation materialTexture = material.getTexture();
+    return new ResourceLocation(partPath.getNamespace(), partPath.getPath() + "_" + materialTexture.getNamespace() + "_" + materialTexture.getPath());
+  }
+
+  /**
+   * Finds the base image for the given material and part, using the first material fallback that exists
+   * @param spriteReader  Reader to find existing sprites
+   * @param material      Material for the sprite
+   * @param part          Part for the sprite
+   * @return  Base image
+   * @throws IllegalStateException  If the part has no base image
+   */
+  public static NativeImage findBaseImage(AbstractSpriteReader spriteReader, MaterialSpriteInfo material, PartSpriteInfo part) {
+    NativeImage base = null;
+    for (String fallback : material.getFallbacks()) {
+      base = part.getTexture(spriteReader, fallback);
+      if (base != null) {
+        break;
+      }
+    }
+    // no fallback existed, try the main one
+    if (base == null) {
+      base = part.getTexture(spriteReader, "");
+    }
+    if (base == null) {
+      throw new IllegalStateException("Missing sprite at " + part.getPath() + ".png, cannot generate textures");
+    }
+    return base;
+  }
+
   /**
    * Generates the given sprite
    * @param spriteReader    Reader to find existing sprites
@@ -104,33 +141,87 @@ public class MaterialPartTextureGenerator extends GenericTextureGenerator {
    */
   public static void generateSprite(AbstractSpriteReader spriteReader, MaterialSpriteInfo material, PartSpriteInfo part, Predicate<ResourceLocation> shouldGenerate, BiConsumer<ResourceLocation, NativeImage> saver) {
     // first step: see if this sprite has already been generated, if so nothing to do
-    // path format: pNamespace:pPath_mNamespace_mPath
-    ResourceLocation partPath = part.getPath();
-    ResourceLocation materialTexture = material.getTexture();
-    ResourceLocation spritePath = new ResourceLocation(partPath.getNamespace(),
-      partPath.getPath() + "_" + materialTexture.getNamespace() + "_" + materialTexture.getPath());
-
+    ResourceLocation spritePath = getSpritePath(material, part);
     // image does not exist? first step is to find a base image
     if (shouldGenerate.test(spritePath)) {
-      NativeImage base = null;
-      for (String fallback : material.getFallbacks()) {
-        base = part.getTexture(spriteReader, fallback);
-        if (base != null) {
-          break;
+      // successfully found a texture, now transform and save
+      NativeImage transformed = material.getTransformer().transformCopy(findBaseImage(spriteReader, material, part));
+      spriteReader.track(transformed);
+      saver.accept(spritePath, transformed);
+    }
+  }
+
+  /**
+   * Generates sprites for every supported pair of material and part.
+   * Base sprites are read on the calling thread as the sprite reader and part caches are not threadsafe, then each material is transformed and saved as a separate task.
+   * A material's sprites always run on a single thread, so transformers may keep caches without synchronizing.
+   * @param spriteReader    Reader to find existing sprites
+   * @param materials       Materials to generate
+   * @param parts           Parts to generate
+   * @param shouldGenerate  Predicate to determine if the sprite should generate, given the local path to the sprite
+   * @param manifest        If nonnull, sprites whose inputs are unchanged since the last run are skipped
+   * @param saver           Function to save the file, must be threadsafe. The image is closed after saving
+   * @return  Number of sprites generated
+   */
+  public static int generateSprites(AbstractSpriteReader spriteReader, Collection<MaterialSpriteInfo> materials, List<PartSpriteInfo> parts,
+                                    Predicate<ResourceLocation> shouldGenerate, @Nullable PartTextureManifest manifest, BiConsumer<ResourceLocation, NativeImage> saver) {
+    // find all base images first
+    List<Runnable> pending = new ArrayList<>();
+    int count = 0;
+    for (MaterialSpriteInfo material : materials) {
+      List<PendingSprite> sprites = new ArrayList<>();
+      for (PartSpriteInfo part : parts) {
+        if (material.supportStatType(part.getStatType())) {
+          ResourceLocation spritePath = getSpritePath(material, part);
+          if (shouldGenerate.test(spritePath)) {
+            NativeImage base = findBaseImage(spriteReader, material, part);
+            if (manifest == null || manifest.checkChanged(spritePath, material, base)) {
+              sprites.add(new PendingSprite(spritePath, base));
+            }
+          }
         }
       }
-      // no fallback existed, try the main one
-      if (base == null) {
-        base = part.getTexture(spriteReader, "");
+      if (!sprites.isEmpty()) {
+        pending.add(() -> transformSprites(material, sprites, saver));
+        count += sprites.size();
       }
-      if (base == null) {
-        throw new IllegalStateException("Missing sprite at " + partPath + ".png, cannot generate textures");
+    }
+    if (pending.isEmpty()) {
+      return 0;
+    }
+
+    // transform each material in parallel, base images are only read from here on
+    ForkJoinPool pool = new ForkJoinPool(Math.min(pending.size(), Runtime.getRuntime().availableProcessors()));
+    try {
+      List<ForkJoinTask<?>> tasks = new ArrayList<>(pending.size());
+      for (Runnable task : pending) {
+        tasks.add(pool.submit(task));
       }
-      // successfully found a texture, now transform and save
-      NativeImage transformed = material.getTransformer().transformCopy(base);
-      spriteReader.track(transformed);
-      saver.accept(spritePath, transformed);
+      // join rethrows any exception from the task
+      for (ForkJoinTask<?> task : tasks) {
+        task.join();
+      }
+    } finally {
+      pool.shutdown();
     }
+    return count;
+  }
+
+  /** Transforms and saves all sprites for a single material */
+  private static void transformSprites(MaterialSpriteInfo material, List<PendingSprite> sprites, BiConsumer<ResourceLocation, NativeImage> saver) {
+    ISpriteTransformer transformer = material.getTransformer();
+    for (PendingSprite sprite : sprites) {
+      try (NativeImage transformed = transformer.transformCopy(sprite.getBase())) {
+        saver.accept(sprite.getPath(), transformed);
+      }
+    }
+  }
+
+  /** Sprite waiting to be transformed */
+  @Data
+  private static class PendingSprite {
+    private final ResourceLocation path;
+    private final NativeImage base;
   }
 
 
@@ -0,0 +1,142 @@
+package slimeknights.tconstruct.library.client.data.material;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import lombok.extern.log4j.Log4j2;
+import net.minecraft.client.renderer.texture.NativeImage;
+import net.minecraft.util.JSONUtils;
+import net.minecraft.util.ResourceLocation;
+import slimeknights.tconstruct.library.client.data.material.AbstractMaterialSpriteProvider.MaterialSpriteInfo;
+import slimeknights.tconstruct.library.client.data.spritetransformer.ISpriteTransformer;
+import slimeknights.tconstruct.library.client.materials.MaterialRenderInfoLoader;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * Tracks a hash of the inputs used to generate each part texture, so a later run can skip textures whose material transformer and base sprite are unchanged.
+ * Note that textures referenced by a transformer, such as in {@link slimeknights.tconstruct.library.client.data.spritetransformer.GreyToSpriteTransformer}, are not part of the hash.
+ */
+@Log4j2
+public class PartTextureManifest {
+  /** Name of the manifest file in the output folder */
+  public static final String FILE_NAME = "tconstruct_part_textures.json";
+  /** Increment to invalidate all old manifests if the generator output changes */
+  private static final int VERSION = 1;
+  private static final String KEY_VERSION = "version";
+  private static final String KEY_SPRITES = "sprites";
+  private static final HashFunction HASH_FUNCTION = Hashing.sha1();
+
+  /** Path to the manifest file */
+  private final Path path;
+  /** Checks if the output texture exists, if missing it is regenerated regardless of hash */
+  private final Predicate<ResourceLocation> outputExists;
+  /** Input hash for each generated sprite */
+  private final Map<ResourceLocation,String> hashes = new HashMap<>();
+  /** Cache of transformer hashes, as each is used for many parts */
+  private final Map<ISpriteTransformer,String> transformerHashes = new IdentityHashMap<>();
+  /** Cache of base image hashes, as each is used for many materials */
+  private final Map<NativeImage,String> imageHashes = new IdentityHashMap<>();
+
+  /**
+   * Creates a new manifest, loading any existing data
+   * @param folder        Output folder containing the manifest
+   * @param outputExists  Checks if the output texture exists
+   */
+  public PartTextureManifest(Path folder, Predicate<ResourceLocation> outputExists) {
+    this.path = folder.resolve(FILE_NAME);
+    this.outputExists = outputExists;
+    load();
+  }
+
+  /** Loads the manifest from the file */
+  private void load() {
+    if (!Files.exists(path)) {
+      return;
+    }
+    try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+      JsonObject json = JSONUtils.fromJson(reader);
+      // old versions are simply discarded
+      if (JSONUtils.getInt(json, KEY_VERSION, 0) == VERSION) {
+        for (Entry<String,JsonElement> entry : JSONUtils.getJsonObject(json, KEY_SPRITES).entrySet()) {
+          hashes.put(new ResourceLocation(entry.getKey()), entry.getValue().getAsString());
+        }
+      }
+    } catch (IOException | JsonParseException | IllegalStateException e) {
+      log.warn("Failed to read part texture manifest, regenerating all textures", e);
+      hashes.clear();
+    }
+  }
+
+  /** Saves the manifest to the file */
+  public void save() {
+    JsonObject json = new JsonObject();
+    json.addProperty(KEY_VERSION, VERSION);
+    JsonObject sprites = new JsonObject();
+    // sort so the file is stable between runs
+    new TreeMap<>(hashes).forEach((location, hash) -> sprites.addProperty(location.toString(), hash));
+    json.add(KEY_SPRITES, sprites);
+    try {
+      Files.createDirectories(path.getParent());
+      try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+        writer.write(MaterialRenderInfoLoader.GSON.toJson(json));
+      }
+    } catch (IOException e) {
+      log.error("Couldn't save part texture manifest", e);
+    }
+  }
+
+  /** Gets the hash for the given transformer */
+  private String getTransformerHash(ISpriteTransformer transformer) {
+    return transformerHashes.computeIfAbsent(transformer, t -> HASH_FUNCTION.hashString(MaterialRenderInfoLoader.GSON.toJson(t, ISpriteTransformer.class), StandardCharsets.UTF_8).toString());
+  }
+
+  /** Gets the hash for the given image */
+  private String getImageHash(NativeImage image) {
+    return imageHashes.computeIfAbsent(image, img -> {
+      Hasher hasher = HASH_FUNCTION.newHasher();
+      int width = img.getWidth();
+      int height = img.getHeight();
+      hasher.putInt(width).putInt(height);
+      for (int y = 0; y < height; y++) {
+        for (int x = 0; x < width; x++) {
+          hasher.putInt(img.getPixelRGBA(x, y));
+        }
+      }
+      return hasher.hash().toString();
+    });
+  }
+
+  /**
+   * Checks if the sprite needs to be generated, updating the stored hash if so
+   * @param sprite    Output sprite location
+   * @param material  Material being generated
+   * @param base      Base image for the sprite
+   * @return  True if the inputs changed or the output is missing
+   */
+  public boolean checkChanged(ResourceLocation sprite, MaterialSpriteInfo material, NativeImage base) {
+    String hash = HASH_FUNCTION.newHasher()
+                               .putString(getTransformerHash(material.getTransformer()), StandardCharsets.UTF_8)
+                               .putString(getImageHash(base), StandardCharsets.UTF_8)
+                               .hash().toString();
+    if (hash.equals(hashes.get(sprite)) && outputExists.test(sprite)) {
+      return false;
+    }
+    hashes.put(sprite, hash);
+    return true;
+  }
+}
@@ -8,9 +8,7 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonSerializationContext;
-import lombok.AccessLevel;
 import lombok.Data;
-import lombok.RequiredArgsConstructor;
 import net.minecraft.util.JSONUtils;
 import net.minecraft.util.ResourceLocation;
 import slimeknights.mantle.util.JsonHelper;
@@ -29,13 +27,13 @@ import static net.minecraft.client.renderer.texture.NativeImage.getGreen;
 import static net.minecraft.client.renderer.texture.NativeImage.getRed;
 
 /** Color mapping that maps greyscale values to a palette for each value */
-@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class GreyToColorMapping implements IColorMapping {
   public static final ResourceLocation NAME = TConstruct.getResource("grey_to_color");
   public static final Deserializer DESERIALIZER = new Deserializer();
 
   private final List<ColorMapping> mappings;
-  private final Integer[] recolorCache = new Integer[256];
+  /** Color for each grey value, filled when the mapping is created as nearly every value is used by a typical sprite */
+  private final int[] palette = new int[256];
 
   /** Function to interpolate color values of two colors */
   private static final Interpolate<ColorMapping,Integer> INTERPOLATE_COLORS = (first, second, grey) -> {
@@ -52,17 +50,20 @@ public class GreyToColorMapping implements IColorMapping {
   /** Gets the grey value of a color */
   private static final ToIntFunction<ColorMapping> GET_GREY = ColorMapping::getGrey;
 
+  protected GreyToColorMapping(List<ColorMapping> mappings) {
+    this.mappings = mappings;
+    for (int grey = 0; grey < 256; grey++) {
+      palette[grey] = getNearestByGrey(mappings, GET_GREY, grey, INTERPOLATE_COLORS);
+    }
+  }
+
   /**
-   * Gets the color for the given greyscale from the palette, using the cache
+   * Gets the color for the given greyscale from the palette
    * @param grey  Grey value
    * @return  Color
    */
   public int getColorForGrey(int grey) {
-    if (recolorCache[grey] == null) {
-      int calculated = getNearestByGrey(mappings, GET_GREY, grey, INTERPOLATE_COLORS);
-      recolorCache[grey] = calculated;
-    }
-    return recolorCache[grey];
+    return palette[grey];
   }
 
   @Override
@@ -73,7 +74,21 @@ public class GreyToColorMapping implements IColorMapping {
       return 0x00000000;
     }
     int grey = getGrey(color);
-    return scaleColor(color, getColorForGrey(grey), grey);
+    return scaleColor(color, palette[grey], grey);
+  }
+
+  @Override
+  public void mapColors(int[] colors, int length) {
+    int[] palette = this.palette;
+    for (int i = 0; i < length; i++) {
+      int color = colors[i];
+      if (getAlpha(color) == 0) {
+        colors[i] = 0x00000000;
+      } else {
+        int grey = getGrey(color);
+        colors[i] = scaleColor(color, palette[grey], grey);
+      }
+    }
   }
 
   @Override
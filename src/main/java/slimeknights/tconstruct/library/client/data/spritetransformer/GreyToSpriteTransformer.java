@@ -38,7 +38,6 @@ import static net.minecraft.client.renderer.texture.NativeImage.getAlpha;
 /**
  * Extension of {@link GreyToColorMapping} that also supports including sprites as "part of the palette"
  */
-@RequiredArgsConstructor
 public class GreyToSpriteTransformer implements ISpriteTransformer {
   public static final ResourceLocation NAME = TConstruct.getResource("grey_to_sprite");
   public static final Deserializer DESERIALIZER = new Deserializer();
@@ -54,40 +53,50 @@ public class GreyToSpriteTransformer implements ISpriteTransformer {
   /** List of sprites to try */
   private final List<SpriteMapping> sprites;
 
-  /** Cache of the sprites to use for each color value */
-  private final SpriteRange[] foundSpriteCache = new SpriteRange[256];
+  /** Sprites to use for each grey value, null if the grey value uses a plain color from {@link #colors} */
+  private final SpriteRange[] spriteRanges = new SpriteRange[256];
+  /** Color for each grey value that does not use a sprite */
+  private final int[] colors = new int[256];
 
   /** Constructor for search */
   private static final Interpolate<SpriteMapping, SpriteRange> SPRITE_RANGE = (first, second, grey) -> new SpriteRange(first, second);
   /** Gets the grey value of a color */
   private static final ToIntFunction<SpriteMapping> GET_GREY = SpriteMapping::getGrey;
 
-  /** Gets the sprite for the given color */
-  private SpriteRange getSpriteRange(int grey) {
-    if (foundSpriteCache[grey] == null) {
-      foundSpriteCache[grey] = GreyToColorMapping.getNearestByGrey(sprites, GET_GREY, grey, SPRITE_RANGE);
-    }
-    return foundSpriteCache[grey];
-  }
-
-  /** Gets the color at the given location from its full color value */
-  private int getNewColor(int color, int x, int y) {
-    // if fully transparent, just return fully transparent
-    // we do not do 0 alpha RGB values to save effort
-    if (getAlpha(color) == 0) {
-      return 0x00000000;
+  public GreyToSpriteTransformer(List<SpriteMapping> sprites) {
+    this.sprites = sprites;
+    // resolve the range for each grey value now, ranges without a sprite can be reduced to a single color
+    for (int grey = 0; grey < 256; grey++) {
+      SpriteRange range = GreyToColorMapping.getNearestByGrey(sprites, GET_GREY, grey, SPRITE_RANGE);
+      if (range.hasSprite()) {
+        spriteRanges[grey] = range;
+      } else {
+        colors[grey] = range.getColor(0, 0, grey);
+      }
     }
-    int grey = GreyToColorMapping.getGrey(color);
-    int newColor = getSpriteRange(grey).getColor(x, y, grey);
-    return GreyToColorMapping.scaleColor(color, newColor, grey);
   }
 
   @Override
   public void transform(NativeImage image) {
-    for (int x = 0; x < image.getWidth(); x++) {
-      for (int y = 0; y < image.getHeight(); y++) {
-        image.setPixelRGBA(x, y, getNewColor(image.getPixelRGBA(x, y), x, y));
+    int width = image.getWidth();
+    int height = image.getHeight();
+    int[] row = new int[width];
+    for (int y = 0; y < height; y++) {
+      ISpriteTransformer.readRow(image, y, row);
+      for (int x = 0; x < width; x++) {
+        int color = row[x];
+        // if fully transparent, just return fully transparent
+        // we do not do 0 alpha RGB values to save effort
+        if (getAlpha(color) == 0) {
+          row[x] = 0x00000000;
+        } else {
+          int grey = GreyToColorMapping.getGrey(color);
+          SpriteRange range = spriteRanges[grey];
+          int newColor = range == null ? colors[grey] : range.getColor(x, y, grey);
+          row[x] = GreyToColorMapping.scaleColor(color, newColor, grey);
+        }
       }
+      ISpriteTransformer.writeRow(image, y, row);
     }
   }
 
@@ -220,37 +229,58 @@ public class GreyToSpriteTransformer implements ISpriteTransformer {
     @Nullable
     private final ResourceLocation path;
 
-    /** Loaded image */
-    private transient NativeImage image = null;
+    /** Pixels of the loaded image with the tint applied, indexed by x + y * width */
+    @Nullable
+    private transient volatile int[] samples = null;
+    /** Size of the loaded image, set before {@link #samples} */
+    private transient int width, height;
 
-    /** Gets the image for this mapping */
+    /** Gets the sample table for this mapping, loading the image if needed */
     @Nullable
-    private NativeImage getImage() {
-      if (path != null && image == null) {
-        if (READER == null) {
-          throw new IllegalStateException("Cannot get image for a sprite without reader");
-        }
-        try {
-          image = READER.read(path);
-        } catch (IOException ex) {
-          throw new IllegalStateException("Failed to load required image", ex);
+    private int[] getSamples() {
+      if (path != null && samples == null) {
+        // part textures generate in parallel, and the reader is shared between all transformers
+        synchronized (MAPPINGS_TO_CLEAR) {
+          if (samples == null) {
+            if (READER == null) {
+              throw new IllegalStateException("Cannot get image for a sprite without reader");
+            }
+            NativeImage image;
+            try {
+              image = READER.read(path);
+            } catch (IOException ex) {
+              throw new IllegalStateException("Failed to load required image", ex);
+            }
+            // copy the pixels once so each lookup is just an array read
+            width = image.getWidth();
+            height = image.getHeight();
+            int[] loaded = new int[width * height];
+            int[] row = new int[width];
+            for (int y = 0; y < height; y++) {
+              ISpriteTransformer.readRow(image, y, row);
+              for (int x = 0; x < width; x++) {
+                int spriteColor = row[x];
+                // if we have a color set, treat it as a tint
+                if (color != -1) {
+                  spriteColor = GreyToColorMapping.scaleColor(spriteColor, color, 255);
+                }
+                loaded[x + y * width] = spriteColor;
+              }
+            }
+            samples = loaded;
+            MAPPINGS_TO_CLEAR.add(this);
+          }
         }
-        MAPPINGS_TO_CLEAR.add(this);
       }
-      return image;
+      return samples;
     }
 
     /** Gets the color for the given X and Y */
     public int getColor(int x, int y) {
       if (path != null) {
-        NativeImage image = getImage();
-        if (image != null) {
-          int spriteColor = image.getPixelRGBA(x % image.getWidth(), y % image.getHeight());
-          // if we have a color set, treat it as a tint
-          if (color != -1) {
-            spriteColor = GreyToColorMapping.scaleColor(spriteColor, color, 255);
-          }
-          return spriteColor;
+        int[] samples = getSamples();
+        if (samples != null) {
+          return samples[(x % width) + (y % height) * width];
         }
       }
       return color;
@@ -267,6 +297,11 @@ public class GreyToSpriteTransformer implements ISpriteTransformer {
     @Nullable
     private final SpriteMapping after;
 
+    /** Checks if either end of this range uses a sprite, if not the color does not depend on position */
+    public boolean hasSprite() {
+      return (before != null && before.path != null) || (after != null && after.path != null);
+    }
+
     /** Gets the color of this range */
     public int getColor(int x, int y, int grey) {
       // after only
@@ -299,7 +334,7 @@ public class GreyToSpriteTransformer implements ISpriteTransformer {
   /** Called before generating to set up the reader */
   private static void textureCallback(@Nullable ExistingFileHelper existingFileHelper, @Nullable IResourceManager manager) {
     if (READER != null) {
-      MAPPINGS_TO_CLEAR.forEach(mapping -> mapping.image = null);
+      MAPPINGS_TO_CLEAR.forEach(mapping -> mapping.samples = null);
       MAPPINGS_TO_CLEAR.clear();
       READER.closeAll();
       READER = null;
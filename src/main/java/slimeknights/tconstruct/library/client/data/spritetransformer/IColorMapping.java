@@ -16,4 +16,15 @@ public interface IColorMapping extends IJsonSerializable {
    * @return New color in AABBGGRR format
    */
   int mapColor(int color);
+
+  /**
+   * Maps a run of colors in place, override to avoid the per color call if the mapping can be done in bulk
+   * @param colors  Colors in AABBGGRR format
+   * @param length  Number of colors to map, starting from the first
+   */
+  default void mapColors(int[] colors, int length) {
+    for (int i = 0; i < length; i++) {
+      colors[i] = mapColor(colors[i]);
+    }
+  }
 }
@@ -34,6 +34,32 @@ public interface ISpriteTransformer extends IJsonSerializable {
     return copy;
   }
 
+  /**
+   * Reads a row of pixels from the image, iterating rows keeps reads in the same order as the image memory
+   * @param image  Image to read
+   * @param y      Row to read
+   * @param row    Array to fill, must be at least the image width
+   */
+  static void readRow(NativeImage image, int y, int[] row) {
+    int width = image.getWidth();
+    for (int x = 0; x < width; x++) {
+      row[x] = image.getPixelRGBA(x, y);
+    }
+  }
+
+  /**
+   * Writes a row of pixels to the image
+   * @param image  Image to write
+   * @param y      Row to write
+   * @param row    Colors to write, must be at least the image width
+   */
+  static void writeRow(NativeImage image, int y, int[] row) {
+    int width = image.getWidth();
+    for (int x = 0; x < width; x++) {
+      image.setPixelRGBA(x, y, row[x]);
+    }
+  }
+
   /** Copies the given native image */
   static NativeImage copyImage(NativeImage image) {
     NativeImage copy = new NativeImage(image.getWidth(), image.getHeight(), true);
@@ -25,10 +25,13 @@ public class RecolorSpriteTransformer implements ISpriteTransformer {
 
   @Override
   public void transform(NativeImage image) {
-    for (int x = 0; x < image.getWidth(); x++) {
-      for (int y = 0; y < image.getHeight(); y++) {
-        image.setPixelRGBA(x, y, colorMapping.mapColor(image.getPixelRGBA(x, y)));
-      }
+    int width = image.getWidth();
+    int height = image.getHeight();
+    int[] row = new int[width];
+    for (int y = 0; y < height; y++) {
+      ISpriteTransformer.readRow(image, y, row);
+      colorMapping.mapColors(row, width);
+      ISpriteTransformer.writeRow(image, y, row);
     }
   }
 
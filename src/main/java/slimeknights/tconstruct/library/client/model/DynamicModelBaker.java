@@ -0,0 +1,156 @@
+package slimeknights.tconstruct.library.client.model;
+
+import lombok.extern.log4j.Log4j2;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.ItemModelMesher;
+import net.minecraft.client.renderer.model.IBakedModel;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemGroup;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.NonNullList;
+import net.minecraft.util.Util;
+import net.minecraftforge.client.event.ModelBakeEvent;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent.ClientTickEvent;
+import net.minecraftforge.event.TickEvent.Phase;
+import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
+import net.minecraftforge.registries.ForgeRegistries;
+import slimeknights.tconstruct.common.config.Config;
+import slimeknights.tconstruct.library.events.MaterialsLoadedEvent;
+import slimeknights.tconstruct.library.materials.MaterialRegistry;
+import slimeknights.tconstruct.library.tools.item.IModifiable;
+import slimeknights.tconstruct.library.tools.part.IMaterialItem;
+
+import javax.annotation.Nullable;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Bakes dynamic variants of item models on a background thread, so a cache miss while rendering shows the base model for a few frames instead of stalling the frame.
+ * Also handles warming up dynamic model caches by resolving the model for every tool and part in the creative tabs after models or materials reload.
+ * @param <K>  Cache key for the variant
+ */
+@Log4j2
+public class DynamicModelBaker<K> {
+  private static boolean init = false;
+  /** Set when models or materials reload, warm up runs on the next client tick once loading finishes */
+  private static volatile boolean warmUpPending = false;
+
+  /** Keys currently baking in the background */
+  private final Set<K> baking = ConcurrentHashMap.newKeySet();
+  /** Keys that failed to bake, kept so a broken model does not rebake every frame */
+  private final Set<K> failed = ConcurrentHashMap.newKeySet();
+  /** Called from the background thread with the finished model, should store it in the cache */
+  private final BiConsumer<K,IBakedModel> onBaked;
+
+  /**
+   * Creates a new baker
+   * @param onBaked  Called with the finished model, must be threadsafe
+   */
+  public DynamicModelBaker(BiConsumer<K,IBakedModel> onBaked) {
+    this.onBaked = onBaked;
+  }
+
+  /**
+   * Checks if the given key is currently baking in the background. Can be used to skip preparing bake inputs
+   * @param key  Cache key
+   * @return  True if baking
+   */
+  public boolean isBaking(K key) {
+    return baking.contains(key);
+  }
+
+  /**
+   * Checks if the given key failed to bake, in which case it will not be baked again
+   * @param key  Cache key
+   * @return  True if the bake failed
+   */
+  public boolean hasFailed(K key) {
+    return failed.contains(key);
+  }
+
+  /**
+   * Bakes the model for the given key. If async baking is disabled, bakes immediately
+   * @param key    Cache key, should not already be cached
+   * @param baker  Logic to bake the model, must not depend on state that may change on the render thread
+   * @return  Baked model, or null if the model is baking in the background or failed to bake
+   */
+  @Nullable
+  public IBakedModel bake(K key, Supplier<IBakedModel> baker) {
+    if (!Config.CLIENT.asyncDynamicModels.get()) {
+      return baker.get();
+    }
+    if (!failed.contains(key) && baking.add(key)) {
+      CompletableFuture.supplyAsync(baker, Util.getServerExecutor()).whenComplete((model, error) -> {
+        if (error != null) {
+          log.error("Failed to bake dynamic model for {}", key, error);
+          failed.add(key);
+          baking.remove(key);
+        } else {
+          // add to the cache before removing so there is no gap where the key is neither
+          onBaked.accept(key, model);
+          baking.remove(key);
+        }
+      });
+    }
+    return null;
+  }
+
+
+  /* Warm up */
+
+  /** Registers listeners to warm up model caches */
+  public static void init() {
+    if (init) {
+      return;
+    }
+    init = true;
+    MinecraftForge.EVENT_BUS.addListener(DynamicModelBaker::onMaterialsLoaded);
+    MinecraftForge.EVENT_BUS.addListener(DynamicModelBaker::onClientTick);
+    FMLJavaModLoadingContext.get().getModEventBus().addListener(DynamicModelBaker::onModelBake);
+  }
+
+  /** Models changed, so caches are empty */
+  private static void onModelBake(ModelBakeEvent event) {
+    warmUpPending = true;
+  }
+
+  /** Materials changed, so the tools in the creative tabs changed. May be called from the server thread */
+  private static void onMaterialsLoaded(MaterialsLoadedEvent event) {
+    warmUpPending = true;
+  }
+
+  /** Runs the warm up once loading finishes */
+  private static void onClientTick(ClientTickEvent event) {
+    if (event.phase != Phase.END || !warmUpPending) {
+      return;
+    }
+    Minecraft minecraft = Minecraft.getInstance();
+    // models are not swapped in until the reload finishes, and tools cannot be built without materials
+    if (minecraft.getLoadingGui() != null || !MaterialRegistry.isFullyLoaded()) {
+      return;
+    }
+    warmUpPending = false;
+    if (Config.CLIENT.warmUpDynamicModels.get()) {
+      warmUp(minecraft.getItemRenderer().getItemModelMesher());
+    }
+  }
+
+  /** Resolves the model for each tool and part in the creative tabs, causing dynamic models to bake */
+  private static void warmUp(ItemModelMesher mesher) {
+    NonNullList<ItemStack> stacks = NonNullList.create();
+    for (Item item : ForgeRegistries.ITEMS) {
+      if (item instanceof IModifiable || item instanceof IMaterialItem) {
+        item.fillItemGroup(ItemGroup.SEARCH, stacks);
+      }
+    }
+    for (ItemStack stack : stacks) {
+      IBakedModel model = mesher.getItemModel(stack);
+      model.getOverrides().getOverrideModel(model, stack, null, null);
+    }
+    log.debug("Warmed up dynamic models for {} stacks", stacks.size());
+  }
+}
@@ -45,6 +45,7 @@ import slimeknights.tconstruct.common.config.Config;
 import slimeknights.tconstruct.library.client.materials.MaterialRenderInfo;
 import slimeknights.tconstruct.library.client.materials.MaterialRenderInfo.TintedSprite;
 import slimeknights.tconstruct.library.client.materials.MaterialRenderInfoLoader;
+import slimeknights.tconstruct.library.client.model.DynamicModelBaker;
 import slimeknights.tconstruct.library.materials.definition.MaterialId;
 import slimeknights.tconstruct.library.tools.part.IMaterialItem;
 
@@ -251,6 +252,8 @@ public class MaterialModel implements IModelGeometry<MaterialModel> {
   private static final class MaterialOverrideHandler extends ItemOverrideList {
     // contains all the baked models since they'll never change, cleared automatically as the baked model is discarded
     private final Map<MaterialId, IBakedModel> cache = new ConcurrentHashMap<>();
+    // bakes new materials in the background
+    private final DynamicModelBaker<MaterialId> baker = new DynamicModelBaker<>(cache::put);
 
     // parameters needed for rebaking
     private final IModelConfiguration owner;
@@ -267,7 +270,21 @@ public class MaterialModel implements IModelGeometry<MaterialModel> {
       // fetch the material from the stack
       MaterialId material = IMaterialItem.getMaterialIdFromStack(stack);
       // cache all baked material models, they will not need to be recreated as materials will not change
-      return cache.computeIfAbsent(material, this::bakeDynamic);
+      IBakedModel model = cache.get(material);
+      if (model == null) {
+        // broken model, remember the fallback so later lookups stop at the cache
+        if (baker.hasFailed(material)) {
+          cache.put(material, originalModel);
+          return originalModel;
+        }
+        model = baker.bake(material, () -> bakeDynamic(material));
+        // still baking, show the base model for now
+        if (model == null) {
+          return originalModel;
+        }
+        cache.put(material, model);
+      }
+      return model;
     }
 
     /**
@@ -14,7 +14,6 @@ import com.mojang.datafixers.util.Pair;
 import lombok.Data;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.log4j.Log4j2;
 import net.minecraft.block.BlockState;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.color.IItemColor;
@@ -31,6 +30,8 @@ import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.client.world.ClientWorld;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.INBT;
 import net.minecraft.resources.IResourceManager;
 import net.minecraft.util.Direction;
 import net.minecraft.util.JSONUtils;
@@ -51,6 +52,7 @@ import slimeknights.mantle.util.JsonHelper;
 import slimeknights.mantle.util.ReversedListBuilder;
 import slimeknights.tconstruct.library.TinkerRegistries;
 import slimeknights.tconstruct.library.client.materials.MaterialRenderInfoLoader;
+import slimeknights.tconstruct.library.client.model.DynamicModelBaker;
 import slimeknights.tconstruct.library.client.modifiers.IBakedModifierModel;
 import slimeknights.tconstruct.library.client.modifiers.ModifierModelManager;
 import slimeknights.tconstruct.library.materials.definition.MaterialId;
@@ -70,14 +72,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
-@Log4j2
 @RequiredArgsConstructor
 public class ToolModel implements IModelGeometry<ToolModel> {
   /** Shared loader instance */
@@ -395,6 +395,11 @@ public class ToolModel implements IModelGeometry<ToolModel> {
       // ensure we can display every single tool that shows in JEI, plus a couple extra
       .maximumSize(MaterialRenderInfoLoader.INSTANCE.getAllRenderInfos().size() * 3L / 2)
       .build();
+    // last model resolved for each stack tag, compared by identity so rendering the same stack each frame skips parsing the tool
+    // entries are removed once the stack is garbage collected
+    private final Cache<CompoundNBT, ResolvedModel> resolvedModels = CacheBuilder.newBuilder().weakKeys().build();
+    // bakes new combinations in the background
+    private final DynamicModelBaker<ToolCacheKey> baker = new DynamicModelBaker<>(cache::put);
 
     // parameters needed for rebaking
     private final IModelConfiguration owner;
@@ -435,6 +440,34 @@ public class ToolModel implements IModelGeometry<ToolModel> {
 
     @Override
     public IBakedModel getOverrideModel(IBakedModel originalModel, ItemStack stack, @Nullable ClientWorld world, @Nullable LivingEntity entity) {
+      CompoundNBT nbt = stack.getTag();
+      if (nbt == null) {
+        return resolveModel(originalModel, stack);
+      }
+      // tags may be modified in place, such as client side damage, so ensure the parts that select the model are unchanged
+      // materials and upgrades are replaced rather than modified when the tool changes, so comparing by identity is enough
+      INBT materials = nbt.get(ToolStack.TAG_MATERIALS);
+      INBT upgrades = nbt.get(ToolStack.TAG_UPGRADES);
+      boolean broken = nbt.getBoolean(ToolStack.TAG_BROKEN);
+      ResolvedModel resolved = resolvedModels.getIfPresent(nbt);
+      if (resolved != null && resolved.getOriginal() == originalModel && resolved.getMaterials() == materials && resolved.getUpgrades() == upgrades && resolved.isBroken() == broken) {
+        return resolved.getModel();
+      }
+      IBakedModel model = resolveModel(originalModel, stack);
+      // still baking, show the base model without remembering it
+      if (model == null) {
+        return originalModel;
+      }
+      resolvedModels.put(nbt, new ResolvedModel(materials, upgrades, broken, originalModel, model));
+      return model;
+    }
+
+    /**
+     * Gets the model to display for the given stack, skipping the tag memo
+     * @return  Model to display, or null if the model is baking in the background
+     */
+    @Nullable
+    private IBakedModel resolveModel(IBakedModel originalModel, ItemStack stack) {
       // use material IDs for the sake of internal rendering materials
       List<MaterialId> materialIds = MaterialIdNBT.from(stack).getMaterials();
       IModifierToolStack tool = ToolStack.from(stack);
@@ -459,15 +492,47 @@ public class ToolModel implements IModelGeometry<ToolModel> {
       }
 
       // render special model
-      try {
-        return cache.get(new ToolCacheKey(materialIds, builder.build(), broken), () -> bakeDynamic(materialIds, tool));
-      } catch (ExecutionException e) {
-        log.error(e);
-        return originalModel;
+      ToolCacheKey key = new ToolCacheKey(materialIds, builder.build(), broken);
+      IBakedModel model = cache.getIfPresent(key);
+      if (model == null) {
+        // already baking, no need to copy the tool again
+        if (baker.isBaking(key)) {
+          return null;
+        }
+        // broken model, remember the fallback so later lookups stop at the cache
+        if (baker.hasFailed(key)) {
+          cache.put(key, originalModel);
+          return originalModel;
+        }
+        // the stack may change while baking in the background, so bake from a copy
+        IModifierToolStack bakeTool = ToolStack.copyFrom(stack);
+        model = baker.bake(key, () -> bakeDynamic(materialIds, bakeTool));
+        if (model != null) {
+          cache.put(key, model);
+        }
       }
+      return model;
     }
   }
 
+  /** Model resolved for a stack tag */
+  @Getter
+  @RequiredArgsConstructor
+  private static class ResolvedModel {
+    /** Materials tag at the time of resolving, compared by identity */
+    @Nullable
+    private final INBT materials;
+    /** Upgrades tag at the time of resolving, compared by identity */
+    @Nullable
+    private final INBT upgrades;
+    /** Broken state at the time of resolving */
+    private final boolean broken;
+    /** Model passed into the override handler */
+    private final IBakedModel original;
+    /** Resolved model */
+    private final IBakedModel model;
+  }
+
   /** Baked model for large tools, has separate quads in GUIs */
   private static class BakedLargeToolModel implements IBakedModel {
     private final ImmutableList<BakedQuad> largeQuads;
@@ -13,7 +13,8 @@ import javax.annotation.Nullable;
 import java.util.function.Function;
 
 /**
- * Modifier model for a particular tool. One copy of a class with this interface exists per modifier per tool
+ * Modifier model for a particular tool. One copy of a class with this interface exists per modifier per tool.
+ * Quads may be fetched off the render thread if the asyncDynamicModels client config is enabled, so implementations should be thread-safe.
  */
 public interface IBakedModifierModel {
   /**
@@ -40,6 +41,7 @@ public interface IBakedModifierModel {
 
   /**
    * Gets quads for the given model. These quads should not be cached as that will make them inconsistent with {@link ItemLayerPixels}.
+   * If the asyncDynamicModels client config is enabled, this is called on a background thread, so it should not modify shared state.
    * @param tool             Tool instance for modifier sensitive models
    * @param modifier         Modifier being rendered
    * @param spriteGetter     Function to fetch sprites
@@ -4,7 +4,10 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonSyntaxException;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import it.unimi.dsi.fastutil.HashCommon;
 import lombok.extern.log4j.Log4j2;
 import net.minecraft.resources.IResource;
 import net.minecraft.resources.IResourceManager;
@@ -12,6 +15,7 @@ import net.minecraft.resources.IResourceManagerReloadListener;
 import net.minecraft.util.JSONUtils;
 import net.minecraft.util.ResourceLocation;
 import org.apache.commons.io.IOUtils;
+import slimeknights.tconstruct.library.utils.JsonUtils;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -38,6 +42,9 @@ public abstract class MergingJsonDataLoader<B> implements IResourceManagerReload
   protected final String folder;
   @VisibleForTesting
   protected final Function<ResourceLocation,B> builderConstructor;
+  /** Hash of all JSON contents from the last load */
+  @Getter(AccessLevel.PROTECTED)
+  private long contentHash = 0;
 
   /**
    * Parses a particular JSON into the builder
@@ -58,10 +65,13 @@ public abstract class MergingJsonDataLoader<B> implements IResourceManagerReload
   @Override
   public void onResourceManagerReload(IResourceManager manager) {
     Map<ResourceLocation,B> map = new HashMap<>();
+    long hash = 0;
     for (ResourceLocation filePath : manager.getAllResourceLocations(folder, fileName -> fileName.endsWith(".json"))) {
       String path = filePath.getPath();
       ResourceLocation id = new ResourceLocation(filePath.getNamespace(), path.substring(folder.length() + 1, path.length() - JSON_LENGTH));
 
+      // later packs override earlier ones, so the hash for each file depends on the pack order
+      long fileHash = 0;
       try {
         for (IResource resource : manager.getAllResources(filePath)) {
           try (
@@ -74,6 +84,7 @@ public abstract class MergingJsonDataLoader<B> implements IResourceManagerReload
             } else {
               B builder = map.computeIfAbsent(id, builderConstructor);
               parse(builder, id, json);
+              fileHash = 31 * fileHash + JsonUtils.hashJson(id, json);
             }
           } catch (RuntimeException | IOException ex) {
             log.error("Couldn't parse data file {} from {} in data pack {}", id, filePath, resource.getPackName(), ex);
@@ -84,7 +95,10 @@ public abstract class MergingJsonDataLoader<B> implements IResourceManagerReload
       } catch (IOException ex) {
         log.error("Couldn't read material trait mapping {} from {}", id, filePath, ex);
       }
+      // files are not in a stable order, so combine them independent of order
+      hash += HashCommon.mix(fileHash);
     }
+    contentHash = hash;
     finishLoad(map, manager);
   }
 }
@@ -1,10 +1,9 @@
 package slimeknights.tconstruct.library.fluid;
 
 import net.minecraft.world.World;
-import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.fluids.capability.templates.FluidTank;
 import slimeknights.mantle.tileentity.MantleTileEntity;
-import slimeknights.tconstruct.common.network.TinkerNetwork;
+import slimeknights.tconstruct.common.network.SyncBatcher;
 import slimeknights.tconstruct.smeltery.network.FluidUpdatePacket;
 
 public class FluidTankBase<T extends MantleTileEntity> extends FluidTank {
@@ -25,7 +24,7 @@ public class FluidTankBase<T extends MantleTileEntity> extends FluidTank {
     parent.markDirty();
     World world = parent.getWorld();
     if(!world.isRemote) {
-      TinkerNetwork.getInstance().sendToClientsAround(new FluidUpdatePacket(parent.getPos(), this.getFluid()), (ServerWorld) world, parent.getPos());
+      SyncBatcher.queue(world, parent.getPos(), FluidUpdatePacket.class, new FluidUpdatePacket(parent.getPos(), this.getFluid().copy()));
     }
   }
 }
@@ -20,6 +20,7 @@ import slimeknights.tconstruct.library.materials.stats.MaterialStatsManager;
 import slimeknights.tconstruct.library.materials.stats.UpdateMaterialStatsPacket;
 import slimeknights.tconstruct.library.materials.traits.MaterialTraitsManager;
 import slimeknights.tconstruct.library.materials.traits.UpdateMaterialTraitsPacket;
+import slimeknights.tconstruct.library.tools.nbt.ToolShareTag;
 import slimeknights.tconstruct.tools.stats.ExtraMaterialStats;
 import slimeknights.tconstruct.tools.stats.HandleMaterialStats;
 import slimeknights.tconstruct.tools.stats.HeadMaterialStats;
@@ -107,6 +108,7 @@ public final class MaterialRegistry {
    */
   public static void updateMaterialsFromServer(UpdateMaterialsPacket packet) {
     INSTANCE.materialManager.updateMaterialsFromServer(packet.getMaterials(), packet.getRedirects());
+    ToolShareTag.clearCache();
   }
 
   /**
@@ -115,6 +117,7 @@ public final class MaterialRegistry {
    */
   public static void updateMaterialStatsFromServer(UpdateMaterialStatsPacket packet) {
     INSTANCE.materialStatsManager.updateMaterialStatsFromServer(packet.getMaterialToStats());
+    ToolShareTag.clearCache();
   }
 
   /**
@@ -123,6 +126,7 @@ public final class MaterialRegistry {
    */
   public static void updateMaterialTraitsFromServer(UpdateMaterialTraitsPacket packet) {
     INSTANCE.materialTraitsManager.updateFromServer(packet.getMaterialToTraits());
+    ToolShareTag.clearCache();
   }
 
 
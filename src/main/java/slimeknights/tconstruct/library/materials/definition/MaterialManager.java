@@ -22,6 +22,9 @@ import net.minecraftforge.common.crafting.conditions.ICondition;
 import slimeknights.mantle.util.LogicHelper;
 import slimeknights.tconstruct.library.exception.TinkerJSONException;
 import slimeknights.tconstruct.library.materials.json.MaterialJson;
+import slimeknights.tconstruct.library.tools.nbt.ToolDataFingerprint;
+import slimeknights.tconstruct.library.tools.nbt.ToolDataFingerprint.Source;
+import slimeknights.tconstruct.library.utils.JsonUtils;
 import slimeknights.tconstruct.library.utils.Util;
 
 import javax.annotation.Nullable;
@@ -132,6 +135,7 @@ public class MaterialManager extends JsonReloadListener {
         Function.identity())
       );
     this.redirects = redirects;
+    ToolDataFingerprint.update(Source.MATERIALS, JsonUtils.hashJson(splashList));
     onMaterialUpdate();
   }
 
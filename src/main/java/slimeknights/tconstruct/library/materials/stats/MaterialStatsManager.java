@@ -14,6 +14,8 @@ import slimeknights.tconstruct.library.data.MergingJsonDataLoader;
 import slimeknights.tconstruct.library.exception.TinkerAPIMaterialException;
 import slimeknights.tconstruct.library.materials.definition.MaterialId;
 import slimeknights.tconstruct.library.materials.json.MaterialStatJson;
+import slimeknights.tconstruct.library.tools.nbt.ToolDataFingerprint;
+import slimeknights.tconstruct.library.tools.nbt.ToolDataFingerprint.Source;
 import slimeknights.tconstruct.library.utils.Util;
 
 import javax.annotation.Nullable;
@@ -190,6 +192,7 @@ public class MaterialStatsManager extends MergingJsonDataLoader<Map<ResourceLoca
               Util.toIndentedStringList(materialToStatsPerType.entrySet().stream()
                                                               .map(entry -> String.format("%s - %s", entry.getKey(), Arrays.toString(entry.getValue().keySet().toArray())))
                                                               .collect(Collectors.toList())));
+    ToolDataFingerprint.update(Source.STATS, getContentHash());
     onLoaded.run();
   }
 
@@ -14,6 +14,8 @@ import slimeknights.tconstruct.library.materials.definition.MaterialId;
 import slimeknights.tconstruct.library.materials.json.MaterialTraitsJson;
 import slimeknights.tconstruct.library.materials.stats.MaterialStatsId;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.tools.nbt.ToolDataFingerprint;
+import slimeknights.tconstruct.library.tools.nbt.ToolDataFingerprint.Source;
 import slimeknights.tconstruct.library.utils.Util;
 
 import java.util.Arrays;
@@ -137,6 +139,7 @@ public class MaterialTraitsManager extends MergingJsonDataLoader<MaterialTraits.
                                                 .collect(Collectors.toList())));
     }
     materialTraits = builder.build();
+    ToolDataFingerprint.update(Source.TRAITS, getContentHash());
     onLoaded.run();
   }
 
@@ -65,6 +65,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Random;
+import java.util.Set;
 import java.util.function.BiConsumer;
 
 /**
@@ -105,6 +106,9 @@ public class Modifier implements IForgeRegistryEntry<Modifier> {
   /** Cached text component for description */
   @Nullable
   private ITextComponent description;
+  /** Hooks overridden by this modifier, lazily computed */
+  @Nullable
+  private Set<ModifierHook> hooks;
 
   /**
    * Override this method to make your modifier run earlier or later.
@@ -116,6 +120,19 @@ public class Modifier implements IForgeRegistryEntry<Modifier> {
   }
 
 
+  /**
+   * Checks if this modifier overrides the given hook. Used by callers to skip modifiers that would run the no-op default.
+   * @param hook  Hook to check
+   * @return  True if the hook is overridden
+   */
+  public final boolean hasHook(ModifierHook hook) {
+    if (hooks == null) {
+      hooks = ModifierHook.findHooks(getClass());
+    }
+    return hooks.contains(hook);
+  }
+
+
   /* Registry methods */
 
   @Override
@@ -0,0 +1,110 @@
+package slimeknights.tconstruct.library.modifiers;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.inventory.EquipmentSlotType;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.DamageSource;
+import net.minecraft.util.Direction;
+import net.minecraft.world.World;
+import net.minecraftforge.event.entity.player.PlayerEvent.BreakSpeed;
+import slimeknights.tconstruct.library.tools.context.EquipmentChangeContext;
+import slimeknights.tconstruct.library.tools.context.EquipmentContext;
+import slimeknights.tconstruct.library.tools.context.ToolAttackContext;
+import slimeknights.tconstruct.library.tools.context.ToolHarvestContext;
+import slimeknights.tconstruct.library.tools.context.ToolRebuildContext;
+import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
+import slimeknights.tconstruct.library.tools.nbt.ModDataNBT;
+import slimeknights.tconstruct.library.tools.stat.ModifierStatsBuilder;
+
+import java.lang.reflect.Method;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Frequently called hooks in {@link Modifier}, used to skip modifiers that do not override the hook and to group calls in {@link ModifierProfiler}.
+ * A hook counts as overridden if the modifier declares any method with the hook's name, which covers deprecated overloads the default implementation delegates to.
+ */
+@RequiredArgsConstructor
+public enum ModifierHook {
+  // tool building
+  /** {@link Modifier#addVolatileData(ToolRebuildContext, int, ModDataNBT)} */
+  VOLATILE_DATA("addVolatileData"),
+  /** {@link Modifier#addToolStats(ToolRebuildContext, int, ModifierStatsBuilder)} */
+  TOOL_STATS("addToolStats"),
+
+  // general
+  /** {@link Modifier#onDamageTool(IModifierToolStack, int, int, LivingEntity)} */
+  DAMAGE_TOOL("onDamageTool"),
+  /** {@link Modifier#onInventoryTick(IModifierToolStack, int, World, LivingEntity, int, boolean, boolean, ItemStack)} */
+  INVENTORY_TICK("onInventoryTick"),
+  /** {@link Modifier#addAttributes(IModifierToolStack, int, EquipmentSlotType, java.util.function.BiConsumer)} */
+  ATTRIBUTES("addAttributes"),
+
+  // harvest
+  /** {@link Modifier#onBreakSpeed(IModifierToolStack, int, BreakSpeed, Direction, boolean, float)} */
+  BREAK_SPEED("onBreakSpeed"),
+  /** {@link Modifier#removeBlock(IModifierToolStack, int, ToolHarvestContext)} */
+  REMOVE_BLOCK("removeBlock"),
+  /** {@link Modifier#afterBlockBreak(IModifierToolStack, int, ToolHarvestContext)} */
+  AFTER_BLOCK_BREAK("afterBlockBreak"),
+  /** {@link Modifier#finishBreakingBlocks(IModifierToolStack, int, ToolHarvestContext)} */
+  FINISH_BREAKING_BLOCKS("finishBreakingBlocks"),
+
+  // attack
+  /** {@link Modifier#getEntityDamage(IModifierToolStack, int, ToolAttackContext, float, float)} */
+  ENTITY_DAMAGE("getEntityDamage"),
+  /** {@link Modifier#beforeEntityHit(IModifierToolStack, int, ToolAttackContext, float, float, float)} */
+  BEFORE_ENTITY_HIT("beforeEntityHit"),
+  /** {@link Modifier#afterEntityHit(IModifierToolStack, int, ToolAttackContext, float)} */
+  AFTER_ENTITY_HIT("afterEntityHit"),
+
+  // armor
+  /** {@link Modifier#getProtectionModifier(IModifierToolStack, int, EquipmentContext, EquipmentSlotType, DamageSource, float)} */
+  PROTECTION("getProtectionModifier"),
+  /** {@link Modifier#isSourceBlocked(IModifierToolStack, int, EquipmentContext, EquipmentSlotType, DamageSource, float)} */
+  SOURCE_BLOCKED("isSourceBlocked"),
+  /** {@link Modifier#onAttacked(IModifierToolStack, int, EquipmentContext, EquipmentSlotType, DamageSource, float, boolean)} */
+  ATTACKED("onAttacked"),
+  /** {@link Modifier#attackWithArmor(IModifierToolStack, int, EquipmentContext, EquipmentSlotType, LivingEntity, DamageSource, float, boolean)} */
+  ATTACK_WITH_ARMOR("attackWithArmor"),
+
+  // equipment
+  /** {@link Modifier#onUnequip(IModifierToolStack, int, EquipmentChangeContext)} */
+  UNEQUIP("onUnequip"),
+  /** {@link Modifier#onEquip(IModifierToolStack, int, EquipmentChangeContext)} */
+  EQUIP("onEquip"),
+  /** {@link Modifier#onEquipmentChange(IModifierToolStack, int, EquipmentChangeContext, EquipmentSlotType)} */
+  EQUIPMENT_CHANGE("onEquipmentChange");
+
+  /** Name of the method implementing this hook */
+  @Getter
+  private final String method;
+
+  /**
+   * Finds all hooks overridden by the given modifier class
+   * @param clazz  Modifier class
+   * @return  Set of overridden hooks
+   */
+  static Set<ModifierHook> findHooks(Class<?> clazz) {
+    // collect all methods declared below the base modifier class
+    Set<String> declared = new HashSet<>();
+    for (Class<?> current = clazz; current != null && current != Modifier.class; current = current.getSuperclass()) {
+      for (Method method : current.getDeclaredMethods()) {
+        if (!java.lang.reflect.Modifier.isStatic(method.getModifiers())) {
+          declared.add(method.getName());
+        }
+      }
+    }
+    // any hook with a declared method is overridden
+    EnumSet<ModifierHook> hooks = EnumSet.noneOf(ModifierHook.class);
+    for (ModifierHook hook : values()) {
+      if (declared.contains(hook.method)) {
+        hooks.add(hook);
+      }
+    }
+    return hooks;
+  }
+}
@@ -2,13 +2,14 @@ package slimeknights.tconstruct.library.modifiers;
 
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.ResourceLocationException;
+import slimeknights.tconstruct.library.tools.nbt.ModDataKey;
 
 import javax.annotation.Nullable;
 
 /**
- * This is just a copy of ResourceLocation for type safety.
+ * This is just a copy of ResourceLocation for type safety. Extends {@link ModDataKey} as modifier IDs are often used as mod data keys.
  */
-public class ModifierId extends ResourceLocation {
+public class ModifierId extends ModDataKey {
 
   public ModifierId(String resourceName) {
     super(resourceName);
@@ -19,7 +20,7 @@ public class ModifierId extends ResourceLocation {
   }
 
   public ModifierId(ResourceLocation resourceLocation) {
-    super(resourceLocation.getNamespace(), resourceLocation.getPath());
+    super(resourceLocation);
   }
 
   /**
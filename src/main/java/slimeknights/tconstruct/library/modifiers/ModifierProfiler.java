@@ -0,0 +1,160 @@
+package slimeknights.tconstruct.library.modifiers;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Records how often each modifier hook is called and roughly how long the calls take, used to find modifiers responsible for lag.
+ * Counts are kept per thread so hooks never contend on a lock, and only a sample of calls are timed to limit the cost of {@link System#nanoTime()}.
+ * <p>
+ * Usage around a hook call:
+ * <pre>
+ *   long start = ModifierProfiler.start();
+ *   entry.getModifier().onInventoryTick(...);
+ *   ModifierProfiler.end(entry.getModifier(), ModifierHook.INVENTORY_TICK, start);
+ * </pre>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ModifierProfiler {
+  /** Start value when not recording */
+  private static final long DISABLED = Long.MIN_VALUE;
+  /** Start value when the call is counted but not timed */
+  private static final long UNTIMED = Long.MIN_VALUE + 1;
+  /** One in this many calls is timed */
+  private static final int SAMPLE_RATE = 16;
+
+  /* Indices in the data array for each hook */
+  private static final int CALLS = 0;
+  private static final int TIMED = 1;
+  private static final int NANOS = 2;
+  private static final int FIELDS = 3;
+  private static final int SIZE = ModifierHook.values().length * FIELDS;
+
+  /** If true, hook calls are recorded */
+  private static volatile boolean recording = false;
+  /** Data from all threads that have recorded calls */
+  private static final List<Map<Modifier,long[]>> ALL_DATA = new CopyOnWriteArrayList<>();
+  /** Data for the current thread, only written by the owning thread */
+  private static final ThreadLocal<Map<Modifier,long[]>> THREAD_DATA = ThreadLocal.withInitial(() -> {
+    Map<Modifier,long[]> data = new ConcurrentHashMap<>();
+    ALL_DATA.add(data);
+    return data;
+  });
+
+  /** Checks if the profiler is recording */
+  public static boolean isRecording() {
+    return recording;
+  }
+
+  /** Starts or stops recording hook calls */
+  public static void setRecording(boolean recording) {
+    ModifierProfiler.recording = recording;
+  }
+
+  /** Clears all recorded data */
+  public static void reset() {
+    for (Map<Modifier,long[]> data : ALL_DATA) {
+      data.clear();
+    }
+  }
+
+  /**
+   * Called before a hook runs
+   * @return  Value to pass into {@link #end(Modifier, ModifierHook, long)}
+   */
+  public static long start() {
+    if (!recording) {
+      return DISABLED;
+    }
+    if (ThreadLocalRandom.current().nextInt(SAMPLE_RATE) != 0) {
+      return UNTIMED;
+    }
+    return System.nanoTime();
+  }
+
+  /**
+   * Called after a hook runs to record the call
+   * @param modifier  Modifier that ran
+   * @param hook      Hook that ran
+   * @param start     Value from {@link #start()}
+   */
+  public static void end(Modifier modifier, ModifierHook hook, long start) {
+    if (start == DISABLED) {
+      return;
+    }
+    long[] data = THREAD_DATA.get().computeIfAbsent(modifier, m -> new long[SIZE]);
+    int index = hook.ordinal() * FIELDS;
+    data[index + CALLS]++;
+    if (start != UNTIMED) {
+      data[index + TIMED]++;
+      data[index + NANOS] += System.nanoTime() - start;
+    }
+  }
+
+  /**
+   * Gets the recorded results from all threads, with the slowest hooks first
+   * @return  List of results
+   */
+  public static List<Result> getResults() {
+    // merge data from each thread
+    Map<Modifier,long[]> merged = new IdentityHashMap<>();
+    for (Map<Modifier,long[]> threadData : ALL_DATA) {
+      for (Entry<Modifier,long[]> entry : threadData.entrySet()) {
+        long[] total = merged.computeIfAbsent(entry.getKey(), m -> new long[SIZE]);
+        long[] data = entry.getValue();
+        for (int i = 0; i < SIZE; i++) {
+          total[i] += data[i];
+        }
+      }
+    }
+
+    // build a result for each hook that was called
+    ModifierHook[] hooks = ModifierHook.values();
+    List<Result> results = new ArrayList<>();
+    for (Entry<Modifier,long[]> entry : merged.entrySet()) {
+      long[] data = entry.getValue();
+      for (ModifierHook hook : hooks) {
+        int index = hook.ordinal() * FIELDS;
+        long calls = data[index + CALLS];
+        if (calls > 0) {
+          long timed = data[index + TIMED];
+          long nanos = data[index + NANOS];
+          // scale the timed calls up to all calls
+          long estimated = timed > 0 ? (long)(nanos * ((double)calls / timed)) : 0;
+          results.add(new Result(entry.getKey().getId(), hook, calls, timed, estimated));
+        }
+      }
+    }
+    results.sort(Comparator.comparingLong(Result::getEstimatedNanos).reversed().thenComparing(Result::getModifier).thenComparing(Result::getHook));
+    return results;
+  }
+
+  /** Recorded data for a single modifier hook */
+  @Data
+  public static class Result {
+    private final ModifierId modifier;
+    private final ModifierHook hook;
+    /** Number of times the hook was called */
+    private final long calls;
+    /** Number of calls that were timed */
+    private final long timedCalls;
+    /** Estimated time spent in all calls */
+    private final long estimatedNanos;
+
+    /** Average time per call in nanoseconds */
+    public long getAverageNanos() {
+      return timedCalls > 0 ? estimatedNanos / calls : 0;
+    }
+  }
+}
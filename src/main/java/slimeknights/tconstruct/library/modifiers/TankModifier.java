@@ -14,6 +14,7 @@ import slimeknights.tconstruct.library.tools.capability.ToolFluidCapability;
 import slimeknights.tconstruct.library.tools.capability.ToolFluidCapability.IFluidModifier;
 import slimeknights.tconstruct.library.tools.nbt.IModDataReadOnly;
 import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
+import slimeknights.tconstruct.library.tools.nbt.ModDataKey;
 import slimeknights.tconstruct.library.tools.nbt.ModDataNBT;
 import slimeknights.tconstruct.library.tools.nbt.StatsNBT;
 
@@ -27,11 +28,11 @@ public class TankModifier extends Modifier {
   private static final String CAPACITY_KEY = TConstruct.makeTranslationKey("modifier", "tank.capacity");
 
   /** Volatile NBT string indicating which modifier is in charge of logic for the one tank */
-  private static final ResourceLocation OWNER = TConstruct.getResource("tank_owner");
+  private static final ModDataKey OWNER = TConstruct.getDataKey("tank_owner");
   /** Volatile NBT integer indicating the tank's max capacity */
-  private static final ResourceLocation CAPACITY = TConstruct.getResource("tank_capacity");
+  private static final ModDataKey CAPACITY = TConstruct.getDataKey("tank_capacity");
   /** Persistent NBT compound containing the fluid in the tank */
-  private static final ResourceLocation FLUID = TConstruct.getResource("tank_fluid");
+  private static final ModDataKey FLUID = TConstruct.getDataKey("tank_fluid");
 
   /** Helper function to parse a fluid from NBT */
   public static final BiFunction<CompoundNBT, String, FluidStack> PARSE_FLUID = (nbt, key) -> FluidStack.loadFluidStackFromNBT(nbt.getCompound(key));
@@ -0,0 +1,174 @@
+package slimeknights.tconstruct.library.recipe.alloying;
+
+import com.google.common.collect.ImmutableList;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.item.crafting.RecipeManager;
+import net.minecraft.world.World;
+import net.minecraftforge.fluids.FluidStack;
+import slimeknights.mantle.recipe.RecipeHelper;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+import slimeknights.tconstruct.library.recipe.RecipeTypes;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Class handling an index of alloy recipes by input fluid, so changing a fluid only needs to check recipes using that fluid
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class AlloyRecipeLookup {
+  /** Current recipe index, null if it needs to be rebuilt */
+  @Nullable
+  private static volatile Index index = null;
+  /** Number of lookups against the index, for profiling */
+  private static final LongAdder LOOKUPS = new LongAdder();
+  /** Number of lookups that found at least one recipe, for profiling */
+  private static final LongAdder HITS = new LongAdder();
+
+  static {
+    RecipeCacheInvalidator.addReloadListener(client -> index = null);
+  }
+
+  /**
+   * Gets the recipe index, building it if needed
+   * @param manager  Recipe manager
+   * @return  Recipe index
+   */
+  private static Index getIndex(RecipeManager manager) {
+    Index index = AlloyRecipeLookup.index;
+    if (index == null) {
+      index = Index.build(manager);
+      AlloyRecipeLookup.index = index;
+    }
+    return index;
+  }
+
+  /**
+   * Gets all recipes using the given fluid as an input
+   * @param manager  Recipe manager
+   * @param fluid    Input fluid
+   * @return  List of recipes using the fluid
+   */
+  public static List<AlloyRecipe> getRecipes(RecipeManager manager, Fluid fluid) {
+    List<AlloyRecipe> recipes = getIndex(manager).byFluid.getOrDefault(fluid, Collections.emptyList());
+    countLookup(!recipes.isEmpty());
+    return recipes;
+  }
+
+  /** Updates the profiling counters for a lookup */
+  private static void countLookup(boolean hit) {
+    LOOKUPS.increment();
+    if (hit) {
+      HITS.increment();
+    }
+  }
+
+  /**
+   * Finds all recipes with inputs in the tank that pass the given filter
+   * @param manager  Recipe manager
+   * @param tank     Alloy tank
+   * @param filter   Filter for recipes to return
+   * @param limit    Maximum number of recipes to return
+   * @return  Mutable list of recipes in the tank
+   */
+  private static List<AlloyRecipe> findRecipes(RecipeManager manager, IAlloyTank tank, Predicate<AlloyRecipe> filter, int limit) {
+    Index index = getIndex(manager);
+    List<AlloyRecipe> found = new ArrayList<>();
+    // recipes are listed under each of their fluids, so track which we checked already
+    Set<AlloyRecipe> checked = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (int i = 0; i < tank.getTanks() && found.size() < limit; i++) {
+      FluidStack fluid = tank.getFluidInTank(i);
+      if (!fluid.isEmpty()) {
+        for (AlloyRecipe recipe : index.byFluid.getOrDefault(fluid.getFluid(), Collections.emptyList())) {
+          if (checked.add(recipe) && filter.test(recipe)) {
+            found.add(recipe);
+            if (found.size() >= limit) {
+              break;
+            }
+          }
+        }
+      }
+    }
+    countLookup(!found.isEmpty());
+    return found;
+  }
+
+  /**
+   * Finds all recipes matching the given tank
+   * @param world  World instance
+   * @param tank   Alloy tank
+   * @return  Mutable list of matching recipes
+   */
+  public static List<AlloyRecipe> findMatchingRecipes(World world, IAlloyTank tank) {
+    return findRecipes(world.getRecipeManager(), tank, recipe -> recipe.matches(tank, world), Integer.MAX_VALUE);
+  }
+
+  /**
+   * Finds the first recipe with inputs in the tank that passes the given filter
+   * @param manager  Recipe manager
+   * @param tank     Alloy tank
+   * @param filter   Recipe filter
+   * @return  Recipe found, or null if none pass
+   */
+  @Nullable
+  public static AlloyRecipe findRecipe(RecipeManager manager, IAlloyTank tank, Predicate<AlloyRecipe> filter) {
+    List<AlloyRecipe> found = findRecipes(manager, tank, filter, 1);
+    return found.isEmpty() ? null : found.get(0);
+  }
+
+  /** Gets the number of lookups since the last reset */
+  public static long getLookups() {
+    return LOOKUPS.sum();
+  }
+
+  /** Gets the number of lookups that found a recipe since the last reset */
+  public static long getHits() {
+    return HITS.sum();
+  }
+
+  /** Resets the lookup counters */
+  public static void resetCounters() {
+    LOOKUPS.reset();
+    HITS.reset();
+  }
+
+  /** Immutable index of all alloy recipes at the time it was built */
+  @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+  private static class Index {
+    /** Recipes using each fluid as an input */
+    private final Map<Fluid,List<AlloyRecipe>> byFluid;
+
+    /**
+     * Builds the index from the recipe manager
+     * @param manager  Recipe manager
+     * @return  Recipe index
+     */
+    private static Index build(RecipeManager manager) {
+      Map<Fluid,ImmutableList.Builder<AlloyRecipe>> builders = new IdentityHashMap<>();
+      for (AlloyRecipe recipe : RecipeHelper.getRecipes(manager, RecipeTypes.ALLOYING, AlloyRecipe.class)) {
+        // a recipe may list the same fluid under multiple inputs, only add it once
+        Set<Fluid> added = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (List<FluidStack> input : recipe.getDisplayInputs()) {
+          for (FluidStack fluid : input) {
+            if (added.add(fluid.getFluid())) {
+              builders.computeIfAbsent(fluid.getFluid(), f -> ImmutableList.builder()).add(recipe);
+            }
+          }
+        }
+      }
+      Map<Fluid,List<AlloyRecipe>> byFluid = new IdentityHashMap<>();
+      builders.forEach((fluid, builder) -> byFluid.put(fluid, builder.build()));
+      return new Index(byFluid);
+    }
+  }
+}
@@ -0,0 +1,160 @@
+package slimeknights.tconstruct.library.recipe.casting;
+
+import com.google.common.collect.ImmutableList;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.IRecipeType;
+import net.minecraft.item.crafting.Ingredient;
+import net.minecraft.item.crafting.RecipeManager;
+import net.minecraft.world.World;
+import net.minecraftforge.fluids.FluidStack;
+import slimeknights.mantle.recipe.RecipeHelper;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+import slimeknights.tconstruct.library.recipe.casting.container.ContainerFillingRecipe;
+import slimeknights.tconstruct.smeltery.recipe.ICastingInventory;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class handling a two level index of casting recipes, by cast item then by fluid, as the recipe manager has to check every casting recipe for each lookup.
+ * Recipes that do not have a fixed fluid, such as material casting and container filling, are placed in a wildcard bucket for their cast item.
+ * Recipes with casts that cannot be indexed are checked for every cast after the indexed recipes.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CastingRecipeLookup {
+  /** Recipe index for each casting recipe type */
+  private static final Map<IRecipeType<?>,Index> INDEXES = new ConcurrentHashMap<>();
+
+  static {
+    RecipeCacheInvalidator.addReloadListener(client -> INDEXES.clear());
+  }
+
+  /**
+   * Finds a casting recipe for the given inventory
+   * @param world  World instance
+   * @param type   Casting recipe type
+   * @param inv    Casting inventory
+   * @return  Casting recipe, or null if no recipe matches
+   */
+  @Nullable
+  public static ICastingRecipe findRecipe(World world, IRecipeType<ICastingRecipe> type, ICastingInventory inv) {
+    Index index = INDEXES.computeIfAbsent(type, t -> Index.build(world.getRecipeManager(), type));
+    CastIndex cast = index.byCast.get(inv.getStack().getItem());
+    if (cast != null) {
+      // start with recipes for the fluid
+      List<ICastingRecipe> byFluid = cast.byFluid.get(inv.getFluid());
+      if (byFluid != null) {
+        ICastingRecipe recipe = findMatch(byFluid, world, inv);
+        if (recipe != null) {
+          return recipe;
+        }
+      }
+      // next, recipes that accept any fluid
+      ICastingRecipe recipe = findMatch(cast.anyFluid, world, inv);
+      if (recipe != null) {
+        return recipe;
+      }
+    }
+    // finally, recipes that could not be indexed
+    return findMatch(index.fallback, world, inv);
+  }
+
+  /** Finds the first matching recipe in the list */
+  @Nullable
+  private static ICastingRecipe findMatch(List<ICastingRecipe> recipes, World world, ICastingInventory inv) {
+    for (ICastingRecipe recipe : recipes) {
+      if (recipe.matches(inv, world)) {
+        return recipe;
+      }
+    }
+    return null;
+  }
+
+  /** Recipes for a single cast item */
+  private static class CastIndex {
+    /** Recipes that require a specific fluid */
+    private final Map<Fluid,List<ICastingRecipe>> byFluid = new IdentityHashMap<>();
+    /** Recipes that may accept any fluid */
+    private final List<ICastingRecipe> anyFluid = new ArrayList<>();
+  }
+
+  /** Index of all casting recipes of a type at the time it was built */
+  @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+  private static class Index {
+    /** Recipes for each cast item, empty casts are under air */
+    private final Map<Item,CastIndex> byCast;
+    /** Recipes that cannot be indexed by cast */
+    private final List<ICastingRecipe> fallback;
+
+    /**
+     * Builds the index from the recipe manager
+     * @param manager  Recipe manager
+     * @param type     Casting recipe type
+     * @return  Recipe index
+     */
+    private static Index build(RecipeManager manager, IRecipeType<ICastingRecipe> type) {
+      Map<Item,CastIndex> byCast = new IdentityHashMap<>();
+      ImmutableList.Builder<ICastingRecipe> fallback = ImmutableList.builder();
+      for (ICastingRecipe recipe : RecipeHelper.getRecipes(manager, type, ICastingRecipe.class)) {
+        // find the cast items for the recipe
+        List<Item> casts;
+        if (recipe instanceof ContainerFillingRecipe) {
+          casts = Collections.singletonList(((ContainerFillingRecipe)recipe).getContainer().asItem());
+        } else if (recipe instanceof AbstractCastingRecipe && ((AbstractCastingRecipe)recipe).getCast().isSimple()) {
+          casts = getCastItems(((AbstractCastingRecipe)recipe).getCast());
+        } else {
+          fallback.add(recipe);
+          continue;
+        }
+
+        // find the fluids for the recipe, null means any fluid
+        List<FluidStack> fluids = null;
+        if (recipe instanceof ItemCastingRecipe) {
+          fluids = ((ItemCastingRecipe)recipe).getFluid().getFluids();
+        }
+        for (Item item : casts) {
+          CastIndex cast = byCast.computeIfAbsent(item, i -> new CastIndex());
+          if (fluids == null) {
+            addRecipe(cast.anyFluid, recipe);
+          } else {
+            for (FluidStack fluid : fluids) {
+              addRecipe(cast.byFluid.computeIfAbsent(fluid.getFluid(), f -> new ArrayList<>(1)), recipe);
+            }
+          }
+        }
+      }
+      return new Index(byCast, fallback.build());
+    }
+
+    /** Gets all items matched by a cast ingredient */
+    private static List<Item> getCastItems(Ingredient cast) {
+      ItemStack[] stacks = cast.getMatchingStacks();
+      // an ingredient with no items matches only an empty cast slot
+      if (stacks.length == 0) {
+        return Collections.singletonList(ItemStack.EMPTY.getItem());
+      }
+      List<Item> items = new ArrayList<>(stacks.length);
+      for (ItemStack stack : stacks) {
+        items.add(stack.getItem());
+      }
+      return items;
+    }
+
+    /** Adds a recipe to the given list, skipping duplicates from ingredients listing an entry twice */
+    private static void addRecipe(List<ICastingRecipe> recipes, ICastingRecipe recipe) {
+      if (recipes.isEmpty() || recipes.get(recipes.size() - 1) != recipe) {
+        recipes.add(recipe);
+      }
+    }
+  }
+}
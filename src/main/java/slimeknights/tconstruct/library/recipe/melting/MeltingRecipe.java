@@ -36,6 +36,7 @@ public class MeltingRecipe implements IMeltingRecipe {
   private final ResourceLocation id;
   @Getter
   private final String group;
+  @Getter(AccessLevel.PROTECTED)
   private final Ingredient input;
   @Getter(AccessLevel.PROTECTED)
   private final FluidStack output;
@@ -0,0 +1,142 @@
+package slimeknights.tconstruct.library.recipe.melting;
+
+import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap.Entry;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.Ingredient;
+import net.minecraft.item.crafting.RecipeManager;
+import net.minecraft.world.World;
+import slimeknights.mantle.recipe.RecipeHelper;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+import slimeknights.tconstruct.library.recipe.RecipeTypes;
+import slimeknights.tconstruct.library.recipe.casting.material.MaterialCastingLookup;
+import slimeknights.tconstruct.library.tools.part.IMaterialItem;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class handling an item based index of melting recipes, as the recipe manager has to check every melting recipe for each lookup.
+ * Tag ingredients are expanded into their items, recipes that cannot be indexed are checked for every item, keeping the recipe manager order between both.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class MeltingRecipeLookup {
+  /** Current recipe index, null if it needs to be rebuilt */
+  @Nullable
+  private static volatile Index index = null;
+
+  static {
+    RecipeCacheInvalidator.addReloadListener(client -> index = null);
+  }
+
+  /**
+   * Gets the recipe index, building it if needed
+   * @param manager  Recipe manager
+   * @return  Recipe index
+   */
+  private static Index getIndex(RecipeManager manager) {
+    Index index = MeltingRecipeLookup.index;
+    if (index == null) {
+      index = Index.build(manager);
+      MeltingRecipeLookup.index = index;
+    }
+    return index;
+  }
+
+  /**
+   * Finds a melting recipe for the given inventory
+   * @param world  World instance
+   * @param inv    Melting inventory
+   * @return  Melting recipe, or null if no recipe matches
+   */
+  @Nullable
+  public static IMeltingRecipe findRecipe(World world, IMeltingInventory inv) {
+    ItemStack stack = inv.getStack();
+    if (stack.isEmpty()) {
+      return null;
+    }
+    Index index = getIndex(world.getRecipeManager());
+    // both lists are in recipe manager order, so merge them to check recipes in the same order as the recipe manager
+    List<OrderedRecipe> indexed = index.byItem.getOrDefault(stack.getItem(), Collections.emptyList());
+    List<OrderedRecipe> fallback = index.fallback;
+    int i = 0, f = 0;
+    while (i < indexed.size() || f < fallback.size()) {
+      OrderedRecipe next;
+      if (f >= fallback.size() || (i < indexed.size() && indexed.get(i).order < fallback.get(f).order)) {
+        next = indexed.get(i++);
+      } else {
+        next = fallback.get(f++);
+      }
+      if (next.recipe.matches(inv, world)) {
+        return next.recipe;
+      }
+    }
+    return null;
+  }
+
+  /** Recipe along with its position in the recipe manager */
+  @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+  private static class OrderedRecipe {
+    private final int order;
+    private final IMeltingRecipe recipe;
+  }
+
+  /** Immutable index of all melting recipes at the time it was built */
+  @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+  private static class Index {
+    /** Recipes for each item, in recipe manager order */
+    private final Map<Item,List<OrderedRecipe>> byItem;
+    /** Recipes that cannot be indexed by item, in recipe manager order */
+    private final List<OrderedRecipe> fallback;
+
+    /**
+     * Builds the index from the recipe manager
+     * @param manager  Recipe manager
+     * @return  Recipe index
+     */
+    private static Index build(RecipeManager manager) {
+      Map<Item,List<OrderedRecipe>> byItem = new IdentityHashMap<>();
+      ImmutableList.Builder<OrderedRecipe> fallback = ImmutableList.builder();
+      List<IMeltingRecipe> recipes = RecipeHelper.getRecipes(manager, RecipeTypes.MELTING, IMeltingRecipe.class);
+      for (int i = 0; i < recipes.size(); i++) {
+        IMeltingRecipe recipe = recipes.get(i);
+        OrderedRecipe ordered = new OrderedRecipe(i, recipe);
+        if (recipe instanceof MeltingRecipe) {
+          // simple ingredients only match the items they list, other ingredients may not list all matches
+          Ingredient input = ((MeltingRecipe)recipe).getInput();
+          if (input.isSimple()) {
+            for (ItemStack stack : input.getMatchingStacks()) {
+              addRecipe(byItem, stack.getItem(), ordered);
+            }
+          } else {
+            fallback.add(ordered);
+          }
+        } else if (recipe instanceof MaterialMeltingRecipe) {
+          // material melting only matches items with a registered item cost
+          for (Entry<IMaterialItem> entry : MaterialCastingLookup.getAllItemCosts()) {
+            addRecipe(byItem, entry.getKey().asItem(), ordered);
+          }
+        } else {
+          fallback.add(ordered);
+        }
+      }
+      return new Index(byItem, fallback.build());
+    }
+
+    /** Adds a recipe to the given item, skipping duplicates from ingredients listing an item twice */
+    private static void addRecipe(Map<Item,List<OrderedRecipe>> byItem, Item item, OrderedRecipe recipe) {
+      List<OrderedRecipe> recipes = byItem.computeIfAbsent(item, i -> new ArrayList<>(1));
+      if (recipes.isEmpty() || recipes.get(recipes.size() - 1) != recipe) {
+        recipes.add(recipe);
+      }
+    }
+  }
+}
@@ -67,7 +67,7 @@ public class IndestructibleItemEntity extends ItemEntity {
 
   /** Checks if the given stack has a custom entity */
   public static boolean hasCustomEntity(ItemStack stack) {
-    return ModifierUtil.checkVolatileFlag(stack, IModifiable.INDESTRUCTIBLE_ENTITY);
+    return ModifierUtil.checkVolatileFlag(stack, IModifiable.INDESTRUCTIBLE_ENTITY_KEY);
   }
 
   /**
@@ -79,7 +79,7 @@ public class IndestructibleItemEntity extends ItemEntity {
    */
   @Nullable
   public static Entity createFrom(World world, Entity original, ItemStack stack) {
-    if (ModifierUtil.checkVolatileFlag(stack, IModifiable.INDESTRUCTIBLE_ENTITY)) {
+    if (ModifierUtil.checkVolatileFlag(stack, IModifiable.INDESTRUCTIBLE_ENTITY_KEY)) {
       IndestructibleItemEntity entity = new IndestructibleItemEntity(world, original.getPosX(), original.getPosY(), original.getPosZ(), stack);
       entity.setPickupDelayFrom(original);
       return entity;
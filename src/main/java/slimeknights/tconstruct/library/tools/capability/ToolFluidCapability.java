@@ -14,6 +14,7 @@ import slimeknights.tconstruct.library.modifiers.ModifierEntry;
 import slimeknights.tconstruct.library.tools.capability.ToolCapabilityProvider.IToolCapabilityProvider;
 import slimeknights.tconstruct.library.tools.nbt.IModDataReadOnly;
 import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
+import slimeknights.tconstruct.library.tools.nbt.ModDataKey;
 import slimeknights.tconstruct.library.tools.nbt.ModDataNBT;
 
 import java.util.function.Supplier;
@@ -25,9 +26,12 @@ import java.util.function.Supplier;
 public class ToolFluidCapability implements IFluidHandlerItem {
   /** @deprecated use {@link #TOTAL_TANKS}, a value greater than 0 is treated as having the capability */
   @Deprecated
-  public static final ResourceLocation HAS_CAPABILITY = TConstruct.getResource("has_fluid_capability");
+  public static final ResourceLocation HAS_CAPABILITY = TConstruct.getDataKey("has_fluid_capability");
   /** Boolean key to set in volatile mod data to enable the fluid capability */
-  public static final ResourceLocation TOTAL_TANKS = TConstruct.getResource("total_tanks");
+  public static final ModDataKey TOTAL_TANKS_KEY = TConstruct.getDataKey("total_tanks");
+  /** @deprecated use {@link #TOTAL_TANKS_KEY} */
+  @Deprecated
+  public static final ResourceLocation TOTAL_TANKS = TOTAL_TANKS_KEY;
 
   @Getter
   private final ItemStack container;
@@ -35,7 +39,7 @@ public class ToolFluidCapability implements IFluidHandlerItem {
 
   @Override
   public int getTanks() {
-    return tool.get().getVolatileData().getInt(TOTAL_TANKS);
+    return tool.get().getVolatileData().getInt(TOTAL_TANKS_KEY);
   }
 
   /**
@@ -179,7 +183,7 @@ public class ToolFluidCapability implements IFluidHandlerItem {
   /** Adds the tanks from the fluid modifier to the tool */
   public static void addTanks(ModDataNBT volatileData, IFluidModifier modifier) {
     volatileData.putBoolean(HAS_CAPABILITY, true); // deprecated
-    volatileData.putInt(TOTAL_TANKS, modifier.getTanks(volatileData) + volatileData.getInt(TOTAL_TANKS));
+    volatileData.putInt(TOTAL_TANKS_KEY, modifier.getTanks(volatileData) + volatileData.getInt(TOTAL_TANKS_KEY));
   }
 
   /** Interface for modifiers with fluid capabilities to return */
@@ -275,7 +279,7 @@ public class ToolFluidCapability implements IFluidHandlerItem {
 
     @Override
     public <T> LazyOptional<T> getCapability(IModifierToolStack tool, Capability<T> cap) {
-      if (cap == CapabilityFluidHandler.FLUID_HANDLER_ITEM_CAPABILITY && tool.getVolatileData().getInt(TOTAL_TANKS) > 0) {
+      if (cap == CapabilityFluidHandler.FLUID_HANDLER_ITEM_CAPABILITY && tool.getVolatileData().getInt(TOTAL_TANKS_KEY) > 0) {
         return fluidCap.cast();
       }
       return LazyOptional.empty();
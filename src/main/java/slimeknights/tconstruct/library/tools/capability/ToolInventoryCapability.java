@@ -23,6 +23,7 @@ import slimeknights.tconstruct.library.tools.ToolDefinition;
 import slimeknights.tconstruct.library.tools.capability.ToolCapabilityProvider.IToolCapabilityProvider;
 import slimeknights.tconstruct.library.tools.helper.TooltipUtil;
 import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
+import slimeknights.tconstruct.library.tools.nbt.ModDataKey;
 import slimeknights.tconstruct.library.tools.nbt.ModDataNBT;
 import slimeknights.tconstruct.tools.inventory.ToolContainer;
 
@@ -33,9 +34,15 @@ import java.util.function.Supplier;
 @RequiredArgsConstructor
 public class ToolInventoryCapability implements IItemHandlerModifiable {
   /** Boolean key to set in volatile mod data to enable the fluid capability */
-  public static final ResourceLocation TOTAL_SLOTS = TConstruct.getResource("total_item_slots");
+  public static final ModDataKey TOTAL_SLOTS_KEY = TConstruct.getDataKey("total_item_slots");
+  /** @deprecated use {@link #TOTAL_SLOTS_KEY} */
+  @Deprecated
+  public static final ResourceLocation TOTAL_SLOTS = TOTAL_SLOTS_KEY;
   /** Boolean key to set in volatile mod data to enable the fluid capability */
-  public static final ResourceLocation INCLUDE_OFFHAND = TConstruct.getResource("inventory_show_offhand");
+  public static final ModDataKey INCLUDE_OFFHAND_KEY = TConstruct.getDataKey("inventory_show_offhand");
+  /** @deprecated use {@link #INCLUDE_OFFHAND_KEY} */
+  @Deprecated
+  public static final ResourceLocation INCLUDE_OFFHAND = INCLUDE_OFFHAND_KEY;
 
   /** Supplier to the tool instance */
   private final Supplier<? extends IModifierToolStack> tool;
@@ -48,7 +55,7 @@ public class ToolInventoryCapability implements IItemHandlerModifiable {
   @Override
   public int getSlots() {
     if (slots == -1) {
-      slots = tool.get().getVolatileData().getInt(TOTAL_SLOTS);
+      slots = tool.get().getVolatileData().getInt(TOTAL_SLOTS_KEY);
     }
     return slots;
   }
@@ -281,7 +288,7 @@ public class ToolInventoryCapability implements IItemHandlerModifiable {
 
   /** Interface for an inventory modifier to use */
   public interface IInventoryModifier {
-    /** Gets the number of item slots used by the given tool. The number returned here must also be added into volatile data under {@link #TOTAL_SLOTS} */
+    /** Gets the number of item slots used by the given tool. The number returned here must also be added into volatile data under {@link #TOTAL_SLOTS_KEY} */
     int getSlots(IModifierToolStack tool, int level);
 
     /** Sets the stack in the given slot */
@@ -316,7 +323,7 @@ public class ToolInventoryCapability implements IItemHandlerModifiable {
 
     @Override
     public <T> LazyOptional<T> getCapability(IModifierToolStack tool, Capability<T> cap) {
-      if (cap == CapabilityItemHandler.ITEM_HANDLER_CAPABILITY && tool.getVolatileData().getInt(TOTAL_SLOTS) > 0) {
+      if (cap == CapabilityItemHandler.ITEM_HANDLER_CAPABILITY && tool.getVolatileData().getInt(TOTAL_SLOTS_KEY) > 0) {
         return handler.cast();
       }
       return LazyOptional.empty();
@@ -333,7 +340,7 @@ public class ToolInventoryCapability implements IItemHandlerModifiable {
 
   /** Adds the given number of slots to the data */
   public static void addSlots(ModDataNBT volatileData, int count) {
-    volatileData.putInt(TOTAL_SLOTS, volatileData.getInt(TOTAL_SLOTS) + count);
+    volatileData.putInt(TOTAL_SLOTS_KEY, volatileData.getInt(TOTAL_SLOTS_KEY) + count);
   }
 
 
@@ -16,6 +16,10 @@ import net.minecraftforge.event.OnDatapackSyncEvent;
 import slimeknights.tconstruct.common.network.TinkerNetwork;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
 import slimeknights.tconstruct.library.tools.ToolDefinition;
+import slimeknights.tconstruct.library.tools.nbt.ToolDataFingerprint;
+import slimeknights.tconstruct.library.tools.nbt.ToolDataFingerprint.Source;
+import slimeknights.tconstruct.library.tools.nbt.ToolShareTag;
+import slimeknights.tconstruct.library.utils.JsonUtils;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -65,6 +69,7 @@ public class ToolDefinitionLoader extends JsonReloadListener {
    */
   protected void updateDataFromServer(Map<ResourceLocation,ToolDefinitionData> dataMap) {
     this.dataMap = dataMap;
+    ToolShareTag.clearCache();
     for (Entry<ResourceLocation,ToolDefinition> entry : definitions.entrySet()) {
       ToolDefinitionData data = dataMap.get(entry.getKey());
       ToolDefinition definition = entry.getValue();
@@ -101,6 +106,7 @@ public class ToolDefinitionLoader extends JsonReloadListener {
       }
     }
     this.dataMap = builder.build();
+    ToolDataFingerprint.update(Source.DEFINITIONS, JsonUtils.hashJson(splashList));
   }
 
   /** Gets a list of all tool definitions registered to the loader */
@@ -0,0 +1,183 @@
+package slimeknights.tconstruct.library.tools.helper;
+
+import it.unimi.dsi.fastutil.shorts.ShortIterator;
+import it.unimi.dsi.fastutil.shorts.ShortOpenHashSet;
+import it.unimi.dsi.fastutil.shorts.ShortSet;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.item.ItemEntity;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.network.play.server.SChangeBlockPacket;
+import net.minecraft.network.play.server.SMultiBlockChangePacket;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.entity.EntityJoinWorldEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.items.ItemHandlerHelper;
+import slimeknights.tconstruct.common.network.TinkerNetwork;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Collects the results of breaking extra blocks with an AOE tool, so block updates and drops are each handled once for the whole swing.
+ * Tool damage is still applied per block, so damage reduction and durability match breaking the blocks one by one
+ */
+public class AOEBreakBatch {
+  private static boolean init = false;
+  /** Batch currently running, only set while breaking blocks on the server thread */
+  @Nullable
+  private static AOEBreakBatch current = null;
+
+  /** World the blocks are broken in */
+  private final ServerWorld world;
+  /** Player breaking the blocks */
+  private final ServerPlayerEntity player;
+  /** Changed positions in each chunk section, packed as section relative offsets */
+  private final Map<SectionPos,ShortSet> changedPositions = new LinkedHashMap<>();
+  /** Drops from all blocks, held back until the batch finishes */
+  private final List<ItemEntity> drops = new ArrayList<>();
+  /** If true, item entities joining the world are drops from a block in this batch */
+  private boolean capturing = false;
+
+  private AOEBreakBatch(ServerWorld world, ServerPlayerEntity player) {
+    this.world = world;
+    this.player = player;
+  }
+
+  /** Initializies the drop capture listener */
+  public static void init() {
+    if (init) {
+      return;
+    }
+    init = true;
+    // lowest priority so drops removed by other mods are never captured
+    MinecraftForge.EVENT_BUS.addListener(EventPriority.LOWEST, AOEBreakBatch::onEntityJoinWorld);
+  }
+
+  /**
+   * Starts capturing block breaks and drops
+   * @param world   World instance
+   * @param player  Player breaking the blocks
+   * @return  New batch, or null if a batch is already running
+   */
+  @Nullable
+  static AOEBreakBatch start(ServerWorld world, ServerPlayerEntity player) {
+    if (current != null) {
+      return null;
+    }
+    AOEBreakBatch batch = new AOEBreakBatch(world, player);
+    current = batch;
+    return batch;
+  }
+
+  /** Holds back item entities dropped by blocks in the batch */
+  private static void onEntityJoinWorld(EntityJoinWorldEvent event) {
+    AOEBreakBatch batch = current;
+    Entity entity = event.getEntity();
+    if (batch != null && batch.capturing && event.getWorld() == batch.world && entity instanceof ItemEntity) {
+      batch.addDrop((ItemEntity)entity);
+      event.setCanceled(true);
+    }
+  }
+
+  /**
+   * Sets whether item entities joining the world are captured, should be true only while harvesting a block in this batch
+   * @param capturing  New capturing state
+   */
+  void setCapturing(boolean capturing) {
+    this.capturing = capturing;
+  }
+
+  /**
+   * Adds a drop to the batch, merging its stack into previous drops where possible
+   * @param entity  Dropped entity, not yet in the world
+   */
+  private void addDrop(ItemEntity entity) {
+    // subclasses may behave differently, so only merge plain item entities
+    if (entity.getClass() == ItemEntity.class) {
+      ItemStack stack = entity.getItem();
+      for (ItemEntity drop : drops) {
+        if (drop.getClass() == ItemEntity.class) {
+          ItemStack merged = drop.getItem();
+          int space = merged.getMaxStackSize() - merged.getCount();
+          if (space > 0 && ItemHandlerHelper.canItemStacksStack(merged, stack)) {
+            int moved = Math.min(space, stack.getCount());
+            merged.grow(moved);
+            stack.shrink(moved);
+            if (stack.isEmpty()) {
+              return;
+            }
+          }
+        }
+      }
+    }
+    drops.add(entity);
+  }
+
+  /**
+   * Marks the given position as changed, so its update is sent to the player
+   * @param pos  Changed position
+   */
+  void markChanged(BlockPos pos) {
+    // same packing vanilla uses for multi block changes, x then z then y
+    short offset = (short)((pos.getX() & 15) << 8 | (pos.getZ() & 15) << 4 | (pos.getY() & 15));
+    changedPositions.computeIfAbsent(SectionPos.from(pos), p -> new ShortOpenHashSet()).add(offset);
+  }
+
+  /** Stops capturing drops, should be called in a finally block after starting */
+  void stop() {
+    capturing = false;
+    if (current == this) {
+      current = null;
+    }
+  }
+
+  /** Sends all block updates and adds the held back drops to the world */
+  void finish() {
+    stop();
+
+    // one packet per section, single changes can use the smaller packet
+    for (Entry<SectionPos,ShortSet> entry : changedPositions.entrySet()) {
+      SectionPos sectionPos = entry.getKey();
+      ShortSet positions = entry.getValue();
+      ChunkSection section = null;
+      if (positions.size() > 1) {
+        Chunk chunk = world.getChunk(sectionPos.getSectionX(), sectionPos.getSectionZ());
+        ChunkSection[] sections = chunk.getSections();
+        int y = sectionPos.getSectionY();
+        if (y >= 0 && y < sections.length) {
+          section = sections[y];
+        }
+      }
+      if (section != null) {
+        TinkerNetwork.getInstance().sendVanillaPacket(player, new SMultiBlockChangePacket(sectionPos, positions, section, false));
+      } else {
+        // section removed as it became empty, or just one change
+        ShortIterator iterator = positions.iterator();
+        while (iterator.hasNext()) {
+          short offset = iterator.nextShort();
+          BlockPos pos = new BlockPos((sectionPos.getSectionX() << 4) + (offset >>> 8 & 15),
+                                      (sectionPos.getSectionY() << 4) + (offset & 15),
+                                      (sectionPos.getSectionZ() << 4) + (offset >>> 4 & 15));
+          TinkerNetwork.getInstance().sendVanillaPacket(player, new SChangeBlockPacket(world, pos));
+        }
+      }
+    }
+    changedPositions.clear();
+
+    // add the original entities, keeping their motion, pickup delay, and data
+    for (ItemEntity drop : drops) {
+      world.addEntity(drop);
+    }
+    drops.clear();
+  }
+}
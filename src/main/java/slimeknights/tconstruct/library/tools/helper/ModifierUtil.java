@@ -192,18 +192,8 @@ public final class ModifierUtil {
   public static int getModifierLevel(ItemStack stack, Modifier modifier) {
     if (!stack.isEmpty() && TinkerTags.Items.MODIFIABLE.contains(stack.getItem()) && !ToolDamageUtil.isBroken(stack)) {
       CompoundNBT nbt = stack.getTag();
-      if (nbt != null && nbt.contains(ToolStack.TAG_MODIFIERS, NBT.TAG_LIST)) {
-        ListNBT list = nbt.getList(ToolStack.TAG_MODIFIERS, NBT.TAG_COMPOUND);
-        int size = list.size();
-        if (size > 0) {
-          String key = modifier.getId().toString();
-          for (int i = 0; i < size; i++) {
-            CompoundNBT entry = list.getCompound(i);
-            if (key.equals(entry.getString(ModifierNBT.TAG_MODIFIER))) {
-              return entry.getInt(ModifierNBT.TAG_LEVEL);
-            }
-          }
-        }
+      if (nbt != null) {
+        return ModifierNBT.readLevel(nbt.get(ToolStack.TAG_MODIFIERS), modifier.getId().toString());
       }
     }
     return 0;
@@ -35,6 +35,8 @@ import slimeknights.mantle.util.SingleKeyMultimap;
 import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.common.TinkerTags;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierHook;
+import slimeknights.tconstruct.library.modifiers.ModifierProfiler;
 import slimeknights.tconstruct.library.tools.context.ToolAttackContext;
 import slimeknights.tconstruct.library.tools.item.IModifiableWeapon;
 import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
@@ -104,8 +106,10 @@ public class ToolAttackUtil {
         listBuilder.add(modifier);
       }
     };
-    for (ModifierEntry entry : tool.getModifierList()) {
+    for (ModifierEntry entry : tool.getModifierList(ModifierHook.ATTRIBUTES)) {
+      long start = ModifierProfiler.start();
       entry.getModifier().addAttributes(tool, entry.getLevel(), EquipmentSlotType.MAINHAND, attributeConsumer);
+      ModifierProfiler.end(entry.getModifier(), ModifierHook.ATTRIBUTES, start);
     }
     Multimap<Attribute,AttributeModifier> offhandModifiers = new SingleKeyMultimap<>(Attributes.ATTACK_DAMAGE, listBuilder.build());
 
@@ -196,8 +200,10 @@ public class ToolAttackUtil {
     // boost damage from traits
     float baseDamage = damage;
     List<ModifierEntry> modifiers = tool.getModifierList();
-    for (ModifierEntry entry : modifiers) {
+    for (ModifierEntry entry : tool.getModifierList(ModifierHook.ENTITY_DAMAGE)) {
+      long start = ModifierProfiler.start();
       damage = entry.getModifier().getEntityDamage(tool, entry.getLevel(), context, baseDamage, damage);
+      ModifierProfiler.end(entry.getModifier(), ModifierHook.ENTITY_DAMAGE, start);
     }
 
     // no damage? do nothing
@@ -261,8 +267,10 @@ public class ToolAttackUtil {
 
     // apply modifier knockback and special effects
     float baseKnockback = knockback;
-    for (ModifierEntry entry : modifiers) {
+    for (ModifierEntry entry : tool.getModifierList(ModifierHook.BEFORE_ENTITY_HIT)) {
+      long start = ModifierProfiler.start();
       knockback = entry.getModifier().beforeEntityHit(tool, entry.getLevel(), context, damage, baseKnockback, knockback);
+      ModifierProfiler.end(entry.getModifier(), ModifierHook.BEFORE_ENTITY_HIT, start);
     }
 
     // set hand for proper looting context
@@ -369,7 +377,9 @@ public class ToolAttackUtil {
     // removed: bane of arthropods hook, replaced by this
     int durabilityLost = targetLiving != null ? 1 : 0;
     for (ModifierEntry entry : modifiers) {
+      long start = ModifierProfiler.start();
       durabilityLost += entry.getModifier().afterEntityHit(tool, entry.getLevel(), context, damageDealt);
+      ModifierProfiler.end(entry.getModifier(), ModifierHook.AFTER_ENTITY_HIT, start);
     }
 
     // hurt resistance adjustment for high speed weapons
@@ -10,6 +10,8 @@ import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.util.Hand;
 import net.minecraft.util.math.MathHelper;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierHook;
+import slimeknights.tconstruct.library.modifiers.ModifierProfiler;
 import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
 import slimeknights.tconstruct.library.tools.nbt.ToolStack;
 import slimeknights.tconstruct.library.tools.stat.ToolStats;
@@ -126,7 +128,9 @@ public class ToolDamageUtil {
 
     // try each modifier
     for (ModifierEntry entry : tool.getModifierList()) {
+      long start = ModifierProfiler.start();
       amount = entry.getModifier().onDamageTool(tool, entry.getLevel(), amount, entity);
+      ModifierProfiler.end(entry.getModifier(), ModifierHook.DAMAGE_TOOL, start);
       // if no more damage, done
       if (amount < 0) {
         return false;
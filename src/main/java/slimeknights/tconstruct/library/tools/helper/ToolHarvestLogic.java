@@ -25,14 +25,19 @@ import net.minecraftforge.common.ToolType;
 import net.minecraftforge.common.util.Constants;
 import net.minecraftforge.common.util.Constants.WorldEvents;
 import slimeknights.tconstruct.common.TinkerTags;
+import slimeknights.tconstruct.common.config.Config;
 import slimeknights.tconstruct.common.network.TinkerNetwork;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierHook;
+import slimeknights.tconstruct.library.modifiers.ModifierProfiler;
 import slimeknights.tconstruct.library.tools.context.ToolHarvestContext;
 import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
 import slimeknights.tconstruct.library.tools.nbt.ToolStack;
 import slimeknights.tconstruct.library.tools.stat.ToolStats;
 import slimeknights.tconstruct.library.utils.BlockSideHitListener;
 
+import javax.annotation.Nullable;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Objects;
 import java.util.function.Predicate;
@@ -138,7 +143,7 @@ public class ToolHarvestLogic {
   private boolean removeBlock(IModifierToolStack tool, ToolHarvestContext context) {
     Boolean removed = null;
     if (!tool.isBroken()) {
-      for (ModifierEntry entry : tool.getModifierList()) {
+      for (ModifierEntry entry : tool.getModifierList(ModifierHook.REMOVE_BLOCK)) {
         removed = entry.getModifier().removeBlock(tool, entry.getLevel(), context);
         if (removed != null) {
           break;
@@ -167,6 +172,18 @@ public class ToolHarvestLogic {
    * @return  True if broken
    */
   protected boolean breakBlock(ToolStack tool, ItemStack stack, ToolHarvestContext context) {
+    return breakBlock(tool, stack, context, null);
+  }
+
+  /**
+   * Called to break a block using this tool
+   * @param tool      Tool instance
+   * @param stack     Stack instance for vanilla functions
+   * @param context   Harvest context
+   * @param batch     Batch collecting drops, if null drops spawn immediately
+   * @return  True if broken
+   */
+  private boolean breakBlock(ToolStack tool, ItemStack stack, ToolHarvestContext context, @Nullable AOEBreakBatch batch) {
     // have to rerun the event to get the EXP, also ensures extra blocks broken get EXP properly
     ServerPlayerEntity player = Objects.requireNonNull(context.getPlayer());
     ServerWorld world = context.getWorld();
@@ -199,7 +216,17 @@ public class ToolHarvestLogic {
     // harvest drops
     Block block = state.getBlock();
     if (removed && canHarvest) {
-      block.harvestBlock(world, player, pos, state, te, stack);
+      if (batch != null) {
+        // only capture drops from the block itself, not items spawned by other hooks
+        batch.setCapturing(true);
+        try {
+          block.harvestBlock(world, player, pos, state, te, stack);
+        } finally {
+          batch.setCapturing(false);
+        }
+      } else {
+        block.harvestBlock(world, player, pos, state, te, stack);
+      }
     }
 
     // drop XP
@@ -210,8 +237,10 @@ public class ToolHarvestLogic {
     // handle modifiers if not broken
     // broken means we are using "empty hand"
     if (!tool.isBroken()) {
-      for (ModifierEntry entry : tool.getModifierList()) {
+      for (ModifierEntry entry : tool.getModifierList(ModifierHook.AFTER_BLOCK_BREAK)) {
+        long start = ModifierProfiler.start();
         entry.getModifier().afterBlockBreak(tool, entry.getLevel(), context);
+        ModifierProfiler.end(entry.getModifier(), ModifierHook.AFTER_BLOCK_BREAK, start);
       }
       ToolDamageUtil.damageAnimated(tool, damage, player);
     }
@@ -235,6 +264,21 @@ public class ToolHarvestLogic {
     }
   }
 
+  /**
+   * Breaks a secondary block as part of a batch, the block update is sent once the batch finishes
+   * @param tool      Tool instance
+   * @param stack     Stack instance for vanilla functions
+   * @param context   Tool harvest context
+   * @param batch     Batch collecting block updates and drops
+   */
+  private void breakExtraBlock(ToolStack tool, ItemStack stack, ToolHarvestContext context, AOEBreakBatch batch) {
+    if (breakBlock(tool, stack, context, batch)) {
+      BlockPos pos = context.getPos();
+      context.getWorld().playEvent(WorldEvents.BREAK_BLOCK_EFFECTS, pos, Block.getStateId(context.getState()));
+      batch.markChanged(pos);
+    }
+  }
+
   /**
    * Call on block break to break a block.
    * Used in {@link net.minecraftforge.common.extensions.IForgeItem#onBlockStartBreak(ItemStack, BlockPos, PlayerEntity)}.
@@ -276,19 +320,43 @@ public class ToolHarvestLogic {
       // need to calculate the iterator before we break the block, as we need the reference hardness from the center
       Iterable<BlockPos> extraBlocks = context.isEffective() ? getAOEBlocks(tool, stack, player, state, world, pos, sideHit, AOEMatchType.BREAKING) : Collections.emptyList();
 
-      // actually break the block, run AOE if successful
-      if (breakBlock(tool, stack, context)) {
-        for (BlockPos extraPos : extraBlocks) {
-          BlockState extraState = world.getBlockState(extraPos);
-          // prevent calling that stuff for air blocks, could lead to unexpected behaviour since it fires events
-          // this should never actually happen, but just in case some AOE is odd
-          if (!extraState.isAir(world, extraPos)) {
-            // prevent mutable position leak, breakBlock has a few places wanting immutable
-            breakExtraBlock(tool, stack, context.forPosition(extraPos.toImmutable(), extraState));
+      // batching merges drops and updates from the whole swing, only worth it if we may have extra blocks
+      // AOE iterables are lazy and may depend on the center block being broken, so cannot check if they are empty yet
+      AOEBreakBatch batch = null;
+      if (Config.COMMON.batchAOEBreaking.get() && !(extraBlocks instanceof Collection && ((Collection<?>)extraBlocks).isEmpty())) {
+        batch = AOEBreakBatch.start(world, serverPlayer);
+      }
+      try {
+        // actually break the block, run AOE if successful
+        if (breakBlock(tool, stack, context, batch)) {
+          for (BlockPos extraPos : extraBlocks) {
+            BlockState extraState = world.getBlockState(extraPos);
+            // prevent calling that stuff for air blocks, could lead to unexpected behaviour since it fires events
+            // this should never actually happen, but just in case some AOE is odd
+            if (!extraState.isAir(world, extraPos)) {
+              // prevent mutable position leak, breakBlock has a few places wanting immutable
+              ToolHarvestContext extraContext = context.forPosition(extraPos.toImmutable(), extraState);
+              if (batch != null) {
+                breakExtraBlock(tool, stack, extraContext, batch);
+              } else {
+                breakExtraBlock(tool, stack, extraContext);
+              }
+            }
+          }
+          // finish the batch before the hook, so modifiers see the final drops
+          if (batch != null) {
+            batch.finish();
+          }
+          for (ModifierEntry entry : tool.getModifierList(ModifierHook.FINISH_BREAKING_BLOCKS)) {
+            entry.getModifier().finishBreakingBlocks(tool, entry.getLevel(), context);
           }
+        } else if (batch != null) {
+          // center block failed, may still have drops from it
+          batch.finish();
         }
-        for (ModifierEntry entry : tool.getModifierList()) {
-          entry.getModifier().finishBreakingBlocks(tool, entry.getLevel(), context);
+      } finally {
+        if (batch != null) {
+          batch.stop();
         }
       }
 
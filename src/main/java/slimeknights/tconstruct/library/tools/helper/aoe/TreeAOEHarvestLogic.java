@@ -1,6 +1,10 @@
 package slimeknights.tconstruct.library.tools.helper.aoe;
 
 import com.google.common.collect.AbstractIterator;
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import lombok.RequiredArgsConstructor;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -9,17 +13,15 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.util.Direction;
 import net.minecraft.util.Direction.Plane;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockReader;
 import net.minecraft.world.World;
 import slimeknights.tconstruct.common.TinkerTags;
+import slimeknights.tconstruct.common.config.Config;
 import slimeknights.tconstruct.library.tools.helper.ToolHarvestLogic;
 import slimeknights.tconstruct.library.tools.helper.aoe.RectangleAOEHarvestLogic.RectangleIterator;
 import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
 import slimeknights.tconstruct.tools.TinkerModifiers;
 
-import java.util.ArrayDeque;
-import java.util.HashSet;
-import java.util.Queue;
-import java.util.Set;
 import java.util.function.Predicate;
 
 /** Tree harvest logic that destroys a tree */
@@ -92,23 +94,40 @@ public class TreeAOEHarvestLogic extends ToolHarvestLogic {
    * The trunk can start new branches within a 3x3x1 square area, again requiring nothing to be below the block
    */
   public static class TreeIterator extends AbstractIterator<BlockPos> {
-    /** Queue of upcoming positions to try */
-    private final Queue<TreePos> upcomingPositions = new ArrayDeque<>();
-    /** Position for returns, saves some object allocation */
+    /** Bit set in {@link #upcomingData} if the position has been validated already for a log */
+    private static final int CHECKED = 0x8;
+    /** Mask for the direction index in {@link #upcomingData} */
+    private static final int DIRECTION_MASK = 0x7;
+
+    /** Queue of upcoming positions to try, packed using {@link BlockPos#toLong()} */
+    private final LongArrayFIFOQueue upcomingPositions = new LongArrayFIFOQueue();
+    /** Direction and checked flag for each position in {@link #upcomingPositions} */
+    private final IntArrayFIFOQueue upcomingData = new IntArrayFIFOQueue();
+    /** Position for neighbor checks, saves some object allocation */
     private final BlockPos.Mutable mutable = new BlockPos.Mutable();
-    /** Branches that have been visited already */
-    private final Set<BlockPos> branchVisited = new HashSet<>();
+    /** Position for returns, saves some object allocation */
+    private final BlockPos.Mutable current = new BlockPos.Mutable();
+    /** Branches that have been visited already, packed using {@link BlockPos#toLong()} */
+    private final LongSet branchVisited = new LongOpenHashSet();
 
-    private final World world;
+    private final IBlockReader world;
     private final Block filter;
     /** Bounds for branch detection */
     private final int minX, maxX, minZ, maxZ;
+    /** Number of positions that may still be queued before we stop growing the tree */
+    private int remainingVisits;
+
     public TreeIterator(World world, Block filter, BlockPos origin, Direction widthDir, int extraWidth, Direction depthDir, int extraDepth) {
+      this(world, filter, origin, widthDir, extraWidth, depthDir, extraDepth, Config.COMMON.maxAOEVisited.get());
+    }
+
+    public TreeIterator(IBlockReader world, Block filter, BlockPos origin, Direction widthDir, int extraWidth, Direction depthDir, int extraDepth, int maxVisited) {
       this.world = world;
       this.filter = filter;
+      this.remainingVisits = maxVisited;
 
       // first, enqueue the origin
-      upcomingPositions.add(new TreePos(origin.up(), false));
+      enqueue(origin.up().toLong(), Direction.UP, false);
 
       // next, start adding AOE
       int minX = origin.getX();
@@ -123,7 +142,7 @@ public class TreeAOEHarvestLogic extends ToolHarvestLogic {
               // if its valid, queue
               mutable.setPos(origin).move(depthDir, d).move(widthDir, w);
               if (isValidBlock(mutable)) {
-                upcomingPositions.add(new TreePos(mutable, true));
+                enqueue(mutable.toLong(), Direction.UP, true);
                 // update bounds
                 if (mutable.getX() < minX) minX = mutable.getX();
                 if (mutable.getX() > maxX) maxX = mutable.getX();
@@ -140,6 +159,20 @@ public class TreeAOEHarvestLogic extends ToolHarvestLogic {
       this.maxZ = maxZ;
     }
 
+    /**
+     * Adds a position to the queue, unless we hit the visit limit
+     * @param pos        Packed position
+     * @param direction  Direction of the trunk or branch
+     * @param isChecked  If true, the position was already validated as a log
+     */
+    private void enqueue(long pos, Direction direction, boolean isChecked) {
+      if (remainingVisits > 0) {
+        remainingVisits--;
+        upcomingPositions.enqueue(pos);
+        upcomingData.enqueue(direction.getIndex() | (isChecked ? CHECKED : 0));
+      }
+    }
+
     /** Checks if the position matches the filter block */
     private boolean isValidBlock(BlockPos pos) {
       return world.getBlockState(pos).getBlock() == filter;
@@ -158,27 +191,25 @@ public class TreeAOEHarvestLogic extends ToolHarvestLogic {
       // find the distance to the nearest corner
       int deltaX = Math.min(Math.abs(pos.getX() - minX), Math.abs(pos.getX() - maxX));
       int deltaZ = Math.min(Math.abs(pos.getZ() - minZ), Math.abs(pos.getZ() - maxZ));
-      if ((deltaX + deltaZ) > MAX_BRANCK_DISTANCE || branchVisited.contains(pos)) {
+      if ((deltaX + deltaZ) > MAX_BRANCK_DISTANCE || !branchVisited.add(pos.toLong())) {
         return false;
       }
-      branchVisited.add(pos.toImmutable());
       return isValidBlock(pos);
     }
 
     /** Adds a branch to the queue at the current mutable position */
     private void addBranch(Direction direction) {
-      upcomingPositions.add(new TreePos(mutable, direction));
+      enqueue(mutable.toLong(), direction, true);
     }
 
     /** Tries to find a branch at the current mutable position */
     private void tryBranch(Direction direction) {
       // block must not have log both above and below it to count
       if (isBranch(mutable)) {
-        // copies position, so safe to change after
-        TreePos branchPos = new TreePos(mutable, direction);
+        long branchPos = mutable.toLong();
         // must have a non-solid block below, and must be a corner or be 1-2 blocks tall (dark oak support/jungle sapling thick branches)
         if (!world.getBlockState(mutable.move(0, -1, 0)).isSolid()) {
-          upcomingPositions.add(branchPos);
+          enqueue(branchPos, direction, true);
         }
       }
     }
@@ -187,127 +218,100 @@ public class TreeAOEHarvestLogic extends ToolHarvestLogic {
     protected BlockPos computeNext() {
       while (!upcomingPositions.isEmpty()) {
         // if the position matches the block, add it. Some positions are already added
-        TreePos treePos = upcomingPositions.remove();
+        long pos = upcomingPositions.dequeueLong();
+        int data = upcomingData.dequeueInt();
+        Direction treeDirection = Direction.byIndex(data & DIRECTION_MASK);
+        current.setPos(pos);
 
         // trunk logic
-        if (treePos.direction == Direction.UP) {
-          boolean isTreeUp = treePos.isChecked || isValidBlock(treePos.pos);
+        if (treeDirection == Direction.UP) {
+          boolean isTreeUp = (data & CHECKED) != 0 || isValidBlock(current);
 
           // find branches in all 4 directions if going up, assuming we are in the
           for (Direction direction : Plane.HORIZONTAL) {
             // if the position is a branch, meaning its a log with no log above it, queue it
-            mutable.setPos(treePos.pos).move(direction);
+            mutable.setPos(current).move(direction);
             // if we did not find a log at the current position, treat the position as our new tree, for acacia
             tryBranch(!isTreeUp ? Direction.UP : direction);
           }
 
           if (isTreeUp) {
             // corner case, only care if we have a tree at current position
-            boolean isMinX = treePos.pos.getX() == minX;
-            boolean isMaxX = treePos.pos.getX() == maxX;
-            boolean isMinZ = treePos.pos.getZ() == minZ;
-            boolean isMaxZ = treePos.pos.getZ() == maxZ;
+            boolean isMinX = current.getX() == minX;
+            boolean isMaxX = current.getX() == maxX;
+            boolean isMinZ = current.getZ() == minZ;
+            boolean isMaxZ = current.getZ() == maxZ;
             // if either min or max on both axis, but not both (1x1), we are a corner, do corner case
             if (isMinX) {
               if (isMinZ) {
-                mutable.setPos(treePos.pos).move(-1, 0, -1);
+                mutable.setPos(current).move(-1, 0, -1);
                 tryBranch(Direction.WEST);
               }
               if (isMaxZ) {
-                mutable.setPos(treePos.pos).move(-1, 0, 1);
+                mutable.setPos(current).move(-1, 0, 1);
                 tryBranch(Direction.WEST);
               }
             }
             if (isMaxX) {
               if (isMinZ) {
-                mutable.setPos(treePos.pos).move(1, 0, -1);
+                mutable.setPos(current).move(1, 0, -1);
                 tryBranch(Direction.EAST);
               }
               if (isMaxZ) {
-                mutable.setPos(treePos.pos).move(1, 0, 1);
+                mutable.setPos(current).move(1, 0, 1);
                 tryBranch(Direction.EAST);
               }
             }
 
             // finally, return this position
             // insert the updated position into the queue and return the current position
-            mutable.setPos(treePos.pos);
-            upcomingPositions.add(treePos.move());
+            enqueue(BlockPos.offset(pos, Direction.UP), Direction.UP, false);
             // acacia can continue outside the original trunk, so start marking it visited to prevent redundancy
-            if (outsideTrunk(treePos.pos)) {
-              branchVisited.add(treePos.pos);
+            if (outsideTrunk(current)) {
+              branchVisited.add(pos);
             }
-            return mutable;
+            return current;
           }
         } else {
           // branch logic, should always be checked ahead of time (question is which further branches can we find)
           // continue in same direction
-          mutable.setPos(treePos.pos).move(0, 1, 0);
+          mutable.setPos(current).move(0, 1, 0);
           if (isBranch(mutable)) {
-            addBranch(treePos.direction);
+            addBranch(treeDirection);
             // just direction, no up
-          } else if (isBranch(mutable.move(treePos.direction).move(0, -1, 0))) {
-            addBranch(treePos.direction);
+          } else if (isBranch(mutable.move(treeDirection).move(0, -1, 0))) {
+            addBranch(treeDirection);
             // direction and up
           } else if (isBranch(mutable.move(0, 1, 0))) {
-            addBranch(treePos.direction);
+            addBranch(treeDirection);
           }
           // try each side, we check pos, above, then continuing the side
-          Direction rotated = treePos.direction.rotateY();
-          mutable.setPos(treePos.pos).move(rotated);
+          Direction rotated = treeDirection.rotateY();
+          mutable.setPos(current).move(rotated);
           if (isBranch(mutable)) {
             addBranch(rotated);
           } else if (isBranch(mutable.move(0, 1, 0))) {
             addBranch(rotated);
-          } else if (isBranch(mutable.move(treePos.direction).move(0, -1, 0))) {
+          } else if (isBranch(mutable.move(treeDirection).move(0, -1, 0))) {
             addBranch(rotated);
           } else if (isBranch(mutable.move(0, 1, 0))) {
             addBranch(rotated);
           }
           rotated = rotated.getOpposite();
-          mutable.setPos(treePos.pos).move(rotated);
+          mutable.setPos(current).move(rotated);
           if (isBranch(mutable)) {
             addBranch(rotated);
           } else if (isBranch(mutable.move(0, 1, 0))) {
             addBranch(rotated);
-          } else if (isBranch(mutable.move(treePos.direction).move(0, -1, 0))) {
+          } else if (isBranch(mutable.move(treeDirection).move(0, -1, 0))) {
             addBranch(rotated);
           } else if (isBranch(mutable.move(0, 1, 0))) {
             addBranch(rotated);
           }
-          return treePos.pos;
+          return current;
         }
       }
       return endOfData();
     }
   }
-
-  /** Helper class for queue contents */
-  private static class TreePos {
-    private final BlockPos.Mutable pos;
-    private final Direction direction;
-    /** If true, this position has been validated already for a log */
-    private boolean isChecked;
-
-    TreePos(BlockPos pos, boolean isChecked) {
-      // note this copies the mutable if already mutable
-      this.pos = pos.toMutable();
-      this.direction = Direction.UP;
-      this.isChecked = isChecked;
-    }
-
-    TreePos(BlockPos pos, Direction direction) {
-      // note this copies the mutable if already mutable
-      this.pos = pos.toMutable();
-      this.direction = direction;
-      this.isChecked = true;
-    }
-
-    /** Moves the tree position in the given direction */
-    public TreePos move() {
-      pos.move(direction);
-      isChecked = false;
-      return this;
-    }
-  }
 }
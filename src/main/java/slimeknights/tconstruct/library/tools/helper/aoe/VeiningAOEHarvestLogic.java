@@ -1,7 +1,10 @@
 package slimeknights.tconstruct.library.tools.helper.aoe;
 
 import com.google.common.collect.AbstractIterator;
-import lombok.Data;
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import lombok.RequiredArgsConstructor;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -9,16 +12,13 @@ import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockReader;
 import net.minecraft.world.World;
+import slimeknights.tconstruct.common.config.Config;
 import slimeknights.tconstruct.library.tools.helper.ToolHarvestLogic;
 import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
 import slimeknights.tconstruct.tools.TinkerModifiers;
 
-import java.util.ArrayDeque;
-import java.util.HashSet;
-import java.util.Queue;
-import java.util.Set;
-
 /**
  * Harvest logic that breaks a block plus neighbors of the same type
  */
@@ -43,40 +43,71 @@ public class VeiningAOEHarvestLogic extends ToolHarvestLogic {
    * @return  Iterator for veining
    */
   public static Iterable<BlockPos> calculate(BlockState state, World world, BlockPos origin, int maxDistance) {
-    return () -> new VeiningIterator(world, origin, state.getBlock(), maxDistance);
+    return calculate(state, world, origin, maxDistance, Config.COMMON.maxAOEVisited.get());
+  }
+
+  /**
+   * Calculates the blocks for veining
+   *
+   * @param state        State being mined
+   * @param world        World instance
+   * @param origin       Position origin
+   * @param maxDistance  Max distance to vein
+   * @param maxVisited   Max number of positions to check
+   * @return  Iterator for veining
+   */
+  public static Iterable<BlockPos> calculate(BlockState state, IBlockReader world, BlockPos origin, int maxDistance, int maxVisited) {
+    return () -> new VeiningIterator(world, origin, state.getBlock(), maxDistance, maxVisited);
   }
 
   /** Iterator that navigates block and other similar blocks */
   private static class VeiningIterator extends AbstractIterator<BlockPos> {
-    private final Set<BlockPos> visited = new HashSet<>();
-    private final Queue<DistancePos> queue = new ArrayDeque<>();
+    /** Cached direction values, as the values method copies the array */
+    private static final Direction[] DIRECTIONS = Direction.values();
 
-    private final World world;
+    /** Positions already queued, packed using {@link BlockPos#toLong()} */
+    private final LongSet visited = new LongOpenHashSet();
+    /** Queued positions to check, packed using {@link BlockPos#toLong()} */
+    private final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+    /** Distance for each position in {@link #queue} */
+    private final IntArrayFIFOQueue distances = new IntArrayFIFOQueue();
+    /** Position for returns, saves some object allocation */
+    private final BlockPos.Mutable mutable = new BlockPos.Mutable();
+
+    private final IBlockReader world;
     private final Block target;
     private final int maxDistance;
-    private VeiningIterator(World world, BlockPos origin, Block target, int maxDistance) {
+    private final int maxVisited;
+    private VeiningIterator(IBlockReader world, BlockPos origin, Block target, int maxDistance, int maxVisited) {
       this.world = world;
       this.target = target;
       this.maxDistance = maxDistance;
+      this.maxVisited = maxVisited;
       // make use of origin
-      visited.add(origin);
+      long packed = origin.toLong();
+      visited.add(packed);
       if (maxDistance > 0) {
         // start off the queue with the position in each direction
-        enqueueNeighbors(origin, 1);
+        enqueueNeighbors(packed, 1);
       }
     }
 
     /**
      * Enqueues all neighbors of this position
-     * @param pos       Position
+     * @param pos       Packed position
      * @param distance  Distance for neighbors
      */
-    private void enqueueNeighbors(BlockPos pos, int distance) {
-      for (Direction direction : Direction.values()) {
-        BlockPos offset = pos.offset(direction);
-        if (!visited.contains(offset)) {
-          visited.add(offset); // mark position visited to prevent adding again before we get to it
-          queue.add(new DistancePos(offset, distance));
+    private void enqueueNeighbors(long pos, int distance) {
+      for (Direction direction : DIRECTIONS) {
+        // stop growing the vein once we hit the limit, the queue will drain as normal
+        if (visited.size() >= maxVisited) {
+          return;
+        }
+        long offset = BlockPos.offset(pos, direction);
+        // mark position visited to prevent adding again before we get to it
+        if (visited.add(offset)) {
+          queue.enqueue(offset);
+          distances.enqueue(distance);
         }
       }
     }
@@ -85,28 +116,20 @@ public class VeiningAOEHarvestLogic extends ToolHarvestLogic {
     protected BlockPos computeNext() {
       while (!queue.isEmpty()) {
         // grab the next queued position to check
-        DistancePos distancePos = queue.remove();
-        BlockPos pos = distancePos.getPos();
+        long pos = queue.dequeueLong();
+        int distance = distances.dequeueInt();
         // must be a valid block
-        if (world.getBlockState(pos).matchesBlock(target)) {
+        if (world.getBlockState(mutable.setPos(pos)).matchesBlock(target)) {
           // if not at max distance yet, add blocks on all sides
-          int distance = distancePos.getDistance();
           if (distance < maxDistance) {
             enqueueNeighbors(pos, distance + 1);
           }
           // finally, return the position
-          return pos;
+          return mutable;
         }
       }
       // queue ran out of data
       return endOfData();
     }
   }
-
-  /** Helper data class */
-  @Data
-  private static class DistancePos {
-    private final BlockPos pos;
-    private final int distance;
-  }
 }
@@ -5,20 +5,36 @@ import net.minecraft.util.IItemProvider;
 import net.minecraft.util.ResourceLocation;
 import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.library.tools.ToolDefinition;
+import slimeknights.tconstruct.library.tools.nbt.ModDataKey;
 import slimeknights.tconstruct.library.tools.nbt.ModDataNBT;
 
 /** Base interface for all tools that can receive modifiers */
 public interface IModifiable extends IItemProvider {
   /** Modifier key to make a tool spawn an indestructable entity */
-  ResourceLocation INDESTRUCTIBLE_ENTITY = TConstruct.getResource("indestructible");
+  ModDataKey INDESTRUCTIBLE_ENTITY_KEY = TConstruct.getDataKey("indestructible");
+  /** @deprecated use {@link #INDESTRUCTIBLE_ENTITY_KEY} */
+  @Deprecated
+  ResourceLocation INDESTRUCTIBLE_ENTITY = INDESTRUCTIBLE_ENTITY_KEY;
   /** Modifier key to make a tool spawn an indestructable entity */
-  ResourceLocation SHINY = TConstruct.getResource("shiny");
+  ModDataKey SHINY_KEY = TConstruct.getDataKey("shiny");
+  /** @deprecated use {@link #SHINY_KEY} */
+  @Deprecated
+  ResourceLocation SHINY = SHINY_KEY;
   /** Modifier key to make a tool spawn an indestructable entity */
-  ResourceLocation RARITY = TConstruct.getResource("rarity");
+  ModDataKey RARITY_KEY = TConstruct.getDataKey("rarity");
+  /** @deprecated use {@link #RARITY_KEY} */
+  @Deprecated
+  ResourceLocation RARITY = RARITY_KEY;
   /** Modifier key to defer tool interaction to the offhand if present */
-  ResourceLocation DEFER_OFFHAND = TConstruct.getResource("defer_offhand");
+  ModDataKey DEFER_OFFHAND_KEY = TConstruct.getDataKey("defer_offhand");
+  /** @deprecated use {@link #DEFER_OFFHAND_KEY} */
+  @Deprecated
+  ResourceLocation DEFER_OFFHAND = DEFER_OFFHAND_KEY;
   /** Modifier key to entirely disable tool interaction */
-  ResourceLocation NO_INTERACTION = TConstruct.getResource("no_interaction");
+  ModDataKey NO_INTERACTION_KEY = TConstruct.getDataKey("no_interaction");
+  /** @deprecated use {@link #NO_INTERACTION_KEY} */
+  @Deprecated
+  ResourceLocation NO_INTERACTION = NO_INTERACTION_KEY;
 
   /** Gets the definition of this tool for building and applying modifiers */
   ToolDefinition getToolDefinition();
@@ -29,9 +45,9 @@ public interface IModifiable extends IItemProvider {
    * @param rarity  Rarity, only supports vanilla values
    */
   static void setRarity(ModDataNBT volatileData, Rarity rarity) {
-    int current = volatileData.getInt(RARITY);
+    int current = volatileData.getInt(RARITY_KEY);
     if (rarity.ordinal() > current) {
-      volatileData.putInt(RARITY, rarity.ordinal());
+      volatileData.putInt(RARITY_KEY, rarity.ordinal());
     }
   }
 }
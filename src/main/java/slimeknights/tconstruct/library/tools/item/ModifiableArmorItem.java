@@ -31,6 +31,8 @@ import net.minecraftforge.api.distmarker.OnlyIn;
 import net.minecraftforge.common.capabilities.ICapabilityProvider;
 import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierHook;
+import slimeknights.tconstruct.library.modifiers.ModifierProfiler;
 import slimeknights.tconstruct.library.modifiers.hooks.IElytraFlightModifier;
 import slimeknights.tconstruct.library.tools.IndestructibleItemEntity;
 import slimeknights.tconstruct.library.tools.ToolDefinition;
@@ -42,7 +44,9 @@ import slimeknights.tconstruct.library.tools.helper.ToolBuildHandler;
 import slimeknights.tconstruct.library.tools.helper.ToolDamageUtil;
 import slimeknights.tconstruct.library.tools.helper.TooltipUtil;
 import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
+import slimeknights.tconstruct.library.tools.nbt.ModDataKey;
 import slimeknights.tconstruct.library.tools.nbt.StatsNBT;
+import slimeknights.tconstruct.library.tools.nbt.ToolShareTag;
 import slimeknights.tconstruct.library.tools.nbt.ToolStack;
 import slimeknights.tconstruct.library.tools.stat.ToolStats;
 import slimeknights.tconstruct.library.utils.TooltipFlag;
@@ -65,9 +69,15 @@ public class ModifiableArmorItem extends ArmorItem implements IModifiableDisplay
   private static final UUID[] ARMOR_MODIFIERS = new UUID[]{UUID.fromString("845DB27C-C624-495F-8C9F-6020A9A58B6B"), UUID.fromString("D8499B04-0E66-4726-AB29-64469D734E0D"), UUID.fromString("9F3D476D-C118-4544-8365-64846904B48E"), UUID.fromString("2AD3F246-FEE1-4E67-B886-69FD380BB150")};
 
   /** Volatile modifier tag to make piglins neutal when worn */
-  public static final ResourceLocation PIGLIN_NEUTRAL = TConstruct.getResource("piglin_neutral");
+  public static final ModDataKey PIGLIN_NEUTRAL_KEY = TConstruct.getDataKey("piglin_neutral");
+  /** @deprecated use {@link #PIGLIN_NEUTRAL_KEY} */
+  @Deprecated
+  public static final ResourceLocation PIGLIN_NEUTRAL = PIGLIN_NEUTRAL_KEY;
   /** Volatile modifier tag to make this item an elytra */
-  public static final ResourceLocation ELYTRA = TConstruct.getResource("elyta");
+  public static final ModDataKey ELYTRA_KEY = TConstruct.getDataKey("elyta");
+  /** @deprecated use {@link #ELYTRA_KEY} */
+  @Deprecated
+  public static final ResourceLocation ELYTRA = ELYTRA_KEY;
 
   @Getter
   private final ToolDefinition toolDefinition;
@@ -106,7 +116,7 @@ public class ModifiableArmorItem extends ArmorItem implements IModifiableDisplay
 
   @Override
   public boolean makesPiglinsNeutral(ItemStack stack, LivingEntity wearer) {
-    return ModifierUtil.checkVolatileFlag(stack, PIGLIN_NEUTRAL);
+    return ModifierUtil.checkVolatileFlag(stack, PIGLIN_NEUTRAL_KEY);
   }
 
 
@@ -124,6 +134,17 @@ public class ModifiableArmorItem extends ArmorItem implements IModifiableDisplay
     return true;
   }
 
+  @Nullable
+  @Override
+  public CompoundNBT getShareTag(ItemStack stack) {
+    return ToolShareTag.getShareTag(stack);
+  }
+
+  @Override
+  public void readShareTag(ItemStack stack, @Nullable CompoundNBT nbt) {
+    ToolShareTag.readShareTag(stack, getToolDefinition(), nbt);
+  }
+
   @Override
   public void onCreated(ItemStack stack, World worldIn, PlayerEntity playerIn) {
     ToolStack.ensureInitialized(stack, getToolDefinition());
@@ -146,12 +167,12 @@ public class ModifiableArmorItem extends ArmorItem implements IModifiableDisplay
   public boolean hasEffect(ItemStack stack) {
     // we use enchantments to handle some modifiers, so don't glow from them
     // however, if a modifier wants to glow let them
-    return ModifierUtil.checkVolatileFlag(stack, SHINY);
+    return ModifierUtil.checkVolatileFlag(stack, SHINY_KEY);
   }
 
   @Override
   public Rarity getRarity(ItemStack stack) {
-    int rarity = ModifierUtil.getVolatileInt(stack, RARITY);
+    int rarity = ModifierUtil.getVolatileInt(stack, RARITY_KEY);
     return Rarity.values()[MathHelper.clamp(rarity, 0, 3)];
   }
 
@@ -160,12 +181,12 @@ public class ModifiableArmorItem extends ArmorItem implements IModifiableDisplay
 
   @Override
   public boolean hasCustomEntity(ItemStack stack) {
-    return ModifierUtil.checkVolatileFlag(stack, INDESTRUCTIBLE_ENTITY);
+    return ModifierUtil.checkVolatileFlag(stack, INDESTRUCTIBLE_ENTITY_KEY);
   }
 
   @Override
   public Entity createEntity(World world, Entity original, ItemStack stack) {
-    if (ModifierUtil.checkVolatileFlag(stack, INDESTRUCTIBLE_ENTITY)) {
+    if (ModifierUtil.checkVolatileFlag(stack, INDESTRUCTIBLE_ENTITY_KEY)) {
       IndestructibleItemEntity entity = new IndestructibleItemEntity(world, original.getPosX(), original.getPosY(), original.getPosZ(), stack);
       entity.setPickupDelayFrom(original);
       return entity;
@@ -270,8 +291,10 @@ public class ModifiableArmorItem extends ArmorItem implements IModifiableDisplay
       }
       // grab attributes from modifiers
       BiConsumer<Attribute,AttributeModifier> attributeConsumer = builder::put;
-      for (ModifierEntry entry : tool.getModifierList()) {
+      for (ModifierEntry entry : tool.getModifierList(ModifierHook.ATTRIBUTES)) {
+        long start = ModifierProfiler.start();
         entry.getModifier().addAttributes(tool, entry.getLevel(), slot, attributeConsumer);
+        ModifierProfiler.end(entry.getModifier(), ModifierHook.ATTRIBUTES, start);
       }
     }
 
@@ -292,7 +315,7 @@ public class ModifiableArmorItem extends ArmorItem implements IModifiableDisplay
 
   @Override
   public boolean canElytraFly(ItemStack stack, LivingEntity entity) {
-    return slot == EquipmentSlotType.CHEST && !ToolDamageUtil.isBroken(stack) && ModifierUtil.checkVolatileFlag(stack, ELYTRA);
+    return slot == EquipmentSlotType.CHEST && !ToolDamageUtil.isBroken(stack) && ModifierUtil.checkVolatileFlag(stack, ELYTRA_KEY);
   }
 
   @Override
@@ -330,13 +353,15 @@ public class ModifiableArmorItem extends ArmorItem implements IModifiableDisplay
       if (!worldIn.isRemote) {
         tool.ensureHasData();
       }
-      List<ModifierEntry> modifiers = tool.getModifierList();
+      List<ModifierEntry> modifiers = tool.getModifierList(ModifierHook.INVENTORY_TICK);
       if (!modifiers.isEmpty()) {
         LivingEntity living = (LivingEntity) entityIn;
         boolean isCorrectSlot = living.getItemStackFromSlot(slot) == stack;
         // we pass in the stack for most custom context, but for the sake of armor its easier to tell them that this is the correct slot for effects
         for (ModifierEntry entry : modifiers) {
+          long start = ModifierProfiler.start();
           entry.getModifier().onInventoryTick(tool, entry.getLevel(), worldIn, living, itemSlot, isSelected, isCorrectSlot, stack);
+          ModifierProfiler.end(entry.getModifier(), ModifierHook.INVENTORY_TICK, start);
         }
       }
     }
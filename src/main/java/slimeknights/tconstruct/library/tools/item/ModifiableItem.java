@@ -33,6 +33,8 @@ import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import net.minecraftforge.common.capabilities.ICapabilityProvider;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierHook;
+import slimeknights.tconstruct.library.modifiers.ModifierProfiler;
 import slimeknights.tconstruct.library.tools.IndestructibleItemEntity;
 import slimeknights.tconstruct.library.tools.ToolDefinition;
 import slimeknights.tconstruct.library.tools.capability.ToolCapabilityProvider;
@@ -45,6 +47,7 @@ import slimeknights.tconstruct.library.tools.helper.TooltipUtil;
 import slimeknights.tconstruct.library.tools.nbt.IModDataReadOnly;
 import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
 import slimeknights.tconstruct.library.tools.nbt.StatsNBT;
+import slimeknights.tconstruct.library.tools.nbt.ToolShareTag;
 import slimeknights.tconstruct.library.tools.nbt.ToolStack;
 import slimeknights.tconstruct.library.tools.stat.ToolStats;
 import slimeknights.tconstruct.library.utils.TooltipKey;
@@ -114,6 +117,17 @@ public class ModifiableItem extends Item implements IModifiableDisplay, IModifia
     return true;
   }
 
+  @Nullable
+  @Override
+  public CompoundNBT getShareTag(ItemStack stack) {
+    return ToolShareTag.getShareTag(stack);
+  }
+
+  @Override
+  public void readShareTag(ItemStack stack, @Nullable CompoundNBT nbt) {
+    ToolShareTag.readShareTag(stack, getToolDefinition(), nbt);
+  }
+
   @Override
   public void onCreated(ItemStack stack, World worldIn, PlayerEntity playerIn) {
     ToolStack.ensureInitialized(stack, getToolDefinition());
@@ -126,12 +140,12 @@ public class ModifiableItem extends Item implements IModifiableDisplay, IModifia
   public boolean hasEffect(ItemStack stack) {
     // we use enchantments to handle some modifiers, so don't glow from them
     // however, if a modifier wants to glow let them
-    return ModifierUtil.checkVolatileFlag(stack, SHINY);
+    return ModifierUtil.checkVolatileFlag(stack, SHINY_KEY);
   }
 
   @Override
   public Rarity getRarity(ItemStack stack) {
-    int rarity = ModifierUtil.getVolatileInt(stack, RARITY);
+    int rarity = ModifierUtil.getVolatileInt(stack, RARITY_KEY);
     return Rarity.values()[MathHelper.clamp(rarity, 0, 3)];
   }
 
@@ -240,8 +254,10 @@ public class ModifiableItem extends Item implements IModifiableDisplay, IModifia
       // grab attributes from modifiers, only do for hands (other slots would just be weird)
       if (slot.getSlotType() == Group.HAND) {
         BiConsumer<Attribute,AttributeModifier> attributeConsumer = builder::put;
-        for (ModifierEntry entry : tool.getModifierList()) {
+        for (ModifierEntry entry : tool.getModifierList(ModifierHook.ATTRIBUTES)) {
+          long start = ModifierProfiler.start();
           entry.getModifier().addAttributes(tool, entry.getLevel(), slot, attributeConsumer);
+          ModifierProfiler.end(entry.getModifier(), ModifierHook.ATTRIBUTES, start);
         }
       }
     }
@@ -270,13 +286,15 @@ public class ModifiableItem extends Item implements IModifiableDisplay, IModifia
       if (!worldIn.isRemote) {
         tool.ensureHasData();
       }
-      List<ModifierEntry> modifiers = tool.getModifierList();
+      List<ModifierEntry> modifiers = tool.getModifierList(ModifierHook.INVENTORY_TICK);
       if (!modifiers.isEmpty()) {
         LivingEntity living = (LivingEntity) entityIn;
         // we pass in the stack for most custom context, but for the sake of armor its easier to tell them that this is the correct slot for effects
         boolean isHeld = isSelected || living.getHeldItemOffhand() == stack;
         for (ModifierEntry entry : modifiers) {
+          long start = ModifierProfiler.start();
           entry.getModifier().onInventoryTick(tool, entry.getLevel(), worldIn, living, itemSlot, isSelected, isHeld, stack);
+          ModifierProfiler.end(entry.getModifier(), ModifierHook.INVENTORY_TICK, start);
         }
       }
     }
@@ -287,10 +305,10 @@ public class ModifiableItem extends Item implements IModifiableDisplay, IModifia
   /** If true, this interaction hook should defer to the offhand */
   protected static boolean shouldInteract(@Nullable LivingEntity player, ToolStack toolStack, Hand hand) {
     IModDataReadOnly volatileData = toolStack.getVolatileData();
-    if (volatileData.getBoolean(NO_INTERACTION)) {
+    if (volatileData.getBoolean(NO_INTERACTION_KEY)) {
       return false;
     }
-    return hand == Hand.OFF_HAND || player == null || !volatileData.getBoolean(DEFER_OFFHAND) || player.getHeldItemOffhand().isEmpty();
+    return hand == Hand.OFF_HAND || player == null || !volatileData.getBoolean(DEFER_OFFHAND_KEY) || player.getHeldItemOffhand().isEmpty();
   }
   
   @Override
@@ -10,6 +10,8 @@ import net.minecraft.world.World;
 import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.common.ToolType;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierHook;
+import slimeknights.tconstruct.library.modifiers.ModifierProfiler;
 import slimeknights.tconstruct.library.tools.ToolDefinition;
 import slimeknights.tconstruct.library.tools.context.ToolHarvestContext;
 import slimeknights.tconstruct.library.tools.helper.ToolDamageUtil;
@@ -62,7 +64,9 @@ public class ToolItem extends ModifiableItem implements IModifiableHarvest {
       boolean isEffective = getToolHarvestLogic().isEffective(tool, stack, state);
       ToolHarvestContext context = new ToolHarvestContext((ServerWorld) worldIn, entityLiving, state, pos, Direction.UP, true, isEffective);
       for (ModifierEntry entry : tool.getModifierList()) {
+        long start = ModifierProfiler.start();
         entry.getModifier().afterBlockBreak(tool, entry.getLevel(), context);
+        ModifierProfiler.end(entry.getModifier(), ModifierHook.AFTER_BLOCK_BREAK, start);
       }
       ToolDamageUtil.damageAnimated(tool, getToolHarvestLogic().getDamage(tool, stack, worldIn, pos, state), entityLiving);
     }
@@ -0,0 +1,43 @@
+package slimeknights.tconstruct.library.tools.nbt;
+
+import net.minecraft.util.ResourceLocation;
+
+/**
+ * Resource location used as a key for {@link NamespacedNBT}, caching its string form so reading mod data does not build a new string each access.
+ * Modifiers should declare their keys once as constants of this type.
+ */
+public class ModDataKey extends ResourceLocation {
+  /** Cached result of {@link #toString()} */
+  private final String key;
+
+  public ModDataKey(String resourceName) {
+    super(resourceName);
+    this.key = super.toString();
+  }
+
+  public ModDataKey(String namespace, String path) {
+    super(namespace, path);
+    this.key = super.toString();
+  }
+
+  public ModDataKey(ResourceLocation location) {
+    this(location.getNamespace(), location.getPath());
+  }
+
+  /**
+   * Gets a data key for the given location, reusing it if already a key
+   * @param location  Location
+   * @return  Data key
+   */
+  public static ModDataKey of(ResourceLocation location) {
+    if (location instanceof ModDataKey) {
+      return (ModDataKey)location;
+    }
+    return new ModDataKey(location);
+  }
+
+  @Override
+  public String toString() {
+    return key;
+  }
+}
@@ -6,17 +6,22 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
+import net.minecraft.nbt.ByteArrayNBT;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.INBT;
+import net.minecraft.nbt.IntArrayNBT;
 import net.minecraft.nbt.ListNBT;
+import net.minecraft.nbt.StringNBT;
 import net.minecraftforge.common.util.Constants.NBT;
 import slimeknights.tconstruct.library.TinkerRegistries;
 import slimeknights.tconstruct.library.modifiers.Modifier;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierHook;
 import slimeknights.tconstruct.library.modifiers.ModifierId;
 
 import javax.annotation.Nullable;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +35,10 @@ import java.util.stream.Collectors;
 public class ModifierNBT {
   public static final String TAG_MODIFIER = "name";
   public static final String TAG_LEVEL = "level";
+  /** Tag for the list of modifier IDs in the compact format */
+  public static final String TAG_IDS = "ids";
+  /** Tag for the array of levels in the compact format, matching the index in {@link #TAG_IDS} */
+  public static final String TAG_LEVELS = "levels";
 
   /** Instance containing no modifiers */
   static final ModifierNBT EMPTY = new ModifierNBT(Collections.emptyList());
@@ -37,6 +46,9 @@ public class ModifierNBT {
   /** Sorted list of modifiers */
   @Getter
   private final List<ModifierEntry> modifiers;
+  /** Cache of modifiers overriding each hook */
+  @EqualsAndHashCode.Exclude
+  private final Map<ModifierHook,List<ModifierEntry>> hookModifiers = new EnumMap<>(ModifierHook.class);
 
   /**
    * Checks if the NBT has no modifiers
@@ -46,6 +58,20 @@ public class ModifierNBT {
     return modifiers.isEmpty();
   }
 
+  /**
+   * Gets a list of all modifiers that override the given hook, in the same order as {@link #getModifiers()}
+   * @param hook  Hook to filter by
+   * @return  Modifiers overriding the hook
+   */
+  public List<ModifierEntry> getModifiers(ModifierHook hook) {
+    List<ModifierEntry> list = hookModifiers.get(hook);
+    if (list == null) {
+      list = modifiers.stream().filter(entry -> entry.getModifier().hasHook(hook)).collect(Collectors.toList());
+      hookModifiers.put(hook, list);
+    }
+    return list;
+  }
+
   /**
    * Gets the level of a modifier
    * @param modifier  Modifier to check
@@ -122,9 +148,60 @@ public class ModifierNBT {
     return new ModifierNBT(builder.build());
   }
 
-  /** Re-adds the modifier list from NBT */
+  /**
+   * Gets a modifier from its serialized ID
+   * @param idString  Modifier ID string
+   * @return  Modifier, or null if missing or invalid
+   */
+  @Nullable
+  private static Modifier getModifier(String idString) {
+    ModifierId id = ModifierId.tryCreate(idString);
+    if (id != null) {
+      Modifier modifier = TinkerRegistries.MODIFIERS.getValue(id);
+      if (modifier != null && !TinkerRegistries.EMPTY.equals(modifier.getRegistryName())) {
+        return modifier;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Gets the number of levels in the compact format levels tag
+   * @param levels  Levels tag
+   * @return  Number of levels, 0 if missing or the wrong type
+   */
+  private static int getLevelCount(@Nullable INBT levels) {
+    if (levels instanceof ByteArrayNBT) {
+      return ((ByteArrayNBT)levels).getByteArray().length;
+    }
+    if (levels instanceof IntArrayNBT) {
+      return ((IntArrayNBT)levels).getIntArray().length;
+    }
+    return 0;
+  }
+
+  /**
+   * Gets a level from the compact format levels tag, reading the backing array directly
+   * @param levels  Levels tag
+   * @param index   Index to fetch, must be below {@link #getLevelCount(INBT)}
+   * @return  Level at the index
+   */
+  private static int getLevel(INBT levels, int index) {
+    if (levels instanceof ByteArrayNBT) {
+      return ((ByteArrayNBT)levels).getByteArray()[index];
+    }
+    return ((IntArrayNBT)levels).getIntArray()[index];
+  }
+
+  /** Re-adds the modifier list from NBT, supporting both the list format and the compact format */
   public static ModifierNBT readFromNBT(@Nullable INBT inbt) {
-    if (inbt == null || inbt.getId() != NBT.TAG_LIST) {
+    if (inbt == null) {
+      return EMPTY;
+    }
+    if (inbt.getId() == NBT.TAG_COMPOUND) {
+      return readCompact((CompoundNBT)inbt);
+    }
+    if (inbt.getId() != NBT.TAG_LIST) {
       return EMPTY;
     }
 
@@ -137,11 +214,10 @@ public class ModifierNBT {
     for (int i = 0; i < listNBT.size(); i++) {
       CompoundNBT tag = listNBT.getCompound(i);
       if (tag.contains(TAG_MODIFIER) && tag.contains(TAG_LEVEL)) {
-        ModifierId id = ModifierId.tryCreate(tag.getString(TAG_MODIFIER));
         int level = tag.getInt(TAG_LEVEL);
-        if (id != null && level > 0) {
-          Modifier modifier = TinkerRegistries.MODIFIERS.getValue(id);
-          if (modifier != null && !TinkerRegistries.EMPTY.equals(modifier.getRegistryName())) {
+        if (level > 0) {
+          Modifier modifier = getModifier(tag.getString(TAG_MODIFIER));
+          if (modifier != null) {
             builder.add(new ModifierEntry(modifier, level));
           }
         }
@@ -150,6 +226,60 @@ public class ModifierNBT {
     return new ModifierNBT(builder.build());
   }
 
+  /** Reads the modifier list from the compact format */
+  private static ModifierNBT readCompact(CompoundNBT nbt) {
+    ListNBT ids = nbt.getList(TAG_IDS, NBT.TAG_STRING);
+    INBT levels = nbt.get(TAG_LEVELS);
+    int size = Math.min(ids.size(), getLevelCount(levels));
+    if (size == 0) {
+      return EMPTY;
+    }
+    ImmutableList.Builder<ModifierEntry> builder = ImmutableList.builder();
+    for (int i = 0; i < size; i++) {
+      int level = getLevel(levels, i);
+      if (level > 0) {
+        Modifier modifier = getModifier(ids.getString(i));
+        if (modifier != null) {
+          builder.add(new ModifierEntry(modifier, level));
+        }
+      }
+    }
+    return new ModifierNBT(builder.build());
+  }
+
+  /**
+   * Gets the level of a modifier directly from NBT without parsing the full list, supporting both formats
+   * @param inbt  Modifier NBT
+   * @param id    Modifier ID string
+   * @return  Modifier level, or 0 if missing
+   */
+  public static int readLevel(@Nullable INBT inbt, String id) {
+    if (inbt == null) {
+      return 0;
+    }
+    if (inbt.getId() == NBT.TAG_COMPOUND) {
+      CompoundNBT nbt = (CompoundNBT)inbt;
+      ListNBT ids = nbt.getList(TAG_IDS, NBT.TAG_STRING);
+      for (int i = 0; i < ids.size(); i++) {
+        if (id.equals(ids.getString(i))) {
+          INBT levels = nbt.get(TAG_LEVELS);
+          return i < getLevelCount(levels) ? getLevel(levels, i) : 0;
+        }
+      }
+    } else if (inbt.getId() == NBT.TAG_LIST) {
+      ListNBT list = (ListNBT)inbt;
+      if (list.getTagType() == NBT.TAG_COMPOUND) {
+        for (int i = 0; i < list.size(); i++) {
+          CompoundNBT entry = list.getCompound(i);
+          if (id.equals(entry.getString(TAG_MODIFIER))) {
+            return entry.getInt(TAG_LEVEL);
+          }
+        }
+      }
+    }
+    return 0;
+  }
+
   /** Writes these modifiers to NBT */
   public ListNBT serializeToNBT() {
     ListNBT list = new ListNBT();
@@ -162,6 +292,38 @@ public class ModifierNBT {
     return list;
   }
 
+  /**
+   * Writes these modifiers to NBT in the compact format, a list of IDs with a parallel array of levels.
+   * Levels are stored as bytes unless any level is too large.
+   * @return  Compact NBT
+   */
+  public CompoundNBT serializeCompact() {
+    int size = modifiers.size();
+    ListNBT ids = new ListNBT();
+    int[] levels = new int[size];
+    boolean fitsBytes = true;
+    for (int i = 0; i < size; i++) {
+      ModifierEntry entry = modifiers.get(i);
+      ids.add(StringNBT.valueOf(entry.getModifier().getId().toString()));
+      levels[i] = entry.getLevel();
+      if (levels[i] > Byte.MAX_VALUE) {
+        fitsBytes = false;
+      }
+    }
+    CompoundNBT nbt = new CompoundNBT();
+    nbt.put(TAG_IDS, ids);
+    if (fitsBytes) {
+      byte[] bytes = new byte[size];
+      for (int i = 0; i < size; i++) {
+        bytes[i] = (byte)levels[i];
+      }
+      nbt.putByteArray(TAG_LEVELS, bytes);
+    } else {
+      nbt.putIntArray(TAG_LEVELS, levels);
+    }
+    return nbt;
+  }
+
   /**
    * Creates a new builder for modifier NBT
    * @return  Builder instance
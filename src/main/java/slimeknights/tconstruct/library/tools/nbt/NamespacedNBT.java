@@ -11,7 +11,8 @@ import net.minecraft.util.ResourceLocation;
 import java.util.function.BiFunction;
 
 /**
- * NBT wrapper enforcing namespaces on compound keys
+ * NBT wrapper enforcing namespaces on compound keys.
+ * Keys are converted using {@link ResourceLocation#toString()}, so frequently used keys should be declared as a {@link ModDataKey} to reuse the string.
  */
 @EqualsAndHashCode
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
@@ -0,0 +1,90 @@
+package slimeknights.tconstruct.library.tools.nbt;
+
+import com.google.common.collect.MapMaker;
+import lombok.RequiredArgsConstructor;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.INBT;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Cache of parsed tool NBT, shared between all {@link ToolStack} instances created from the same compound instance.
+ * Keys are weakly referenced and compared by identity, so replacing the tag on a stack naturally misses the cache.
+ * Each parsed value remembers the tag it was parsed from, so replacing a single tag (through the tool stack or externally) only reparses that tag.
+ */
+final class ParsedToolCache {
+  /** Map from tool NBT to the parsed data, weak keys use identity comparison */
+  private static final ConcurrentMap<CompoundNBT,ParsedToolCache> CACHE = new MapMaker().weakKeys().makeMap();
+
+  /** Recipe modifiers */
+  final Entry<ModifierNBT> upgrades = new Entry<>();
+  /** Merged modifiers and traits */
+  final Entry<ModifierNBT> modifiers = new Entry<>();
+  /** Tool stats */
+  final Entry<StatsNBT> stats = new Entry<>();
+  /** Tool stat multipliers */
+  final Entry<StatsNBT> multipliers = new Entry<>();
+  /** Persistent modifier data */
+  final Entry<ModDataNBT> persistentData = new Entry<>();
+  /** Volatile modifier data */
+  final Entry<IModDataReadOnly> volatileData = new Entry<>();
+
+  private ParsedToolCache() {}
+
+  /**
+   * Gets the cache for the given tool NBT
+   * @param nbt  Tool NBT
+   * @return  Cache for the tag
+   */
+  static ParsedToolCache get(CompoundNBT nbt) {
+    return CACHE.computeIfAbsent(nbt, tag -> new ParsedToolCache());
+  }
+
+  /**
+   * Discards all parsed data for the given tool NBT
+   * @param nbt  Tool NBT
+   */
+  static void invalidate(CompoundNBT nbt) {
+    CACHE.remove(nbt);
+  }
+
+  /** Single parsed value along with the tag it was parsed from */
+  @RequiredArgsConstructor
+  private static class Parsed<T> {
+    @Nullable
+    private final INBT tag;
+    private final T value;
+  }
+
+  /** Cache entry for a single tag in the tool NBT */
+  static class Entry<T> {
+    @Nullable
+    private volatile Parsed<T> parsed;
+
+    /**
+     * Gets the parsed value for the given tag, parsing it if the tag changed since last parsed
+     * @param tag     Current value of the tag in the tool NBT
+     * @param parser  Function to parse the tag
+     * @return  Parsed value
+     */
+    T get(@Nullable INBT tag, Function<INBT,T> parser) {
+      Parsed<T> parsed = this.parsed;
+      if (parsed == null || parsed.tag != tag) {
+        parsed = new Parsed<>(tag, parser.apply(tag));
+        this.parsed = parsed;
+      }
+      return parsed.value;
+    }
+
+    /**
+     * Updates the cached value after the tag is written
+     * @param tag    New tag in the tool NBT
+     * @param value  Value the tag was serialized from
+     */
+    void set(@Nullable INBT tag, T value) {
+      this.parsed = new Parsed<>(tag, value);
+    }
+  }
+}
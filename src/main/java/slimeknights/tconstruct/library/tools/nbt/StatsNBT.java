@@ -1,11 +1,9 @@
 package slimeknights.tconstruct.library.tools.nbt;
 
-import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
-import lombok.ToString;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.INBT;
 import net.minecraftforge.common.util.Constants;
@@ -16,31 +14,57 @@ import slimeknights.tconstruct.library.tools.stat.ToolStatId;
 import slimeknights.tconstruct.library.tools.stat.ToolStats;
 
 import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashSet;
-import java.util.Map.Entry;
 import java.util.Set;
 
 /**
  * Generic container for tool stats, allows addons to select which stats they wish to use
  */
-@AllArgsConstructor(access = AccessLevel.PACKAGE)
 @EqualsAndHashCode
-@ToString
 public class StatsNBT {
   /** Set of all tool stat IDs that failed to parse, to reduce log spam as they get parsed many times in UIs when dumb mods don't call proper methods */
   private static final Set<ToolStatId> ERRORED_IDS = new HashSet<>();
   /** Empty stats */
-  public static final StatsNBT EMPTY = new StatsNBT(ImmutableMap.of());
-
-  /** All currently contained stats */
-  private final ImmutableMap<IToolStat<?>, Float> stats;
+  public static final StatsNBT EMPTY = new StatsNBT(new BitSet(), new float[0]);
+
+  /** Indices of all contained stats, from {@link IToolStat#getIndex()} */
+  private final BitSet contained;
+  /** Values for each contained stat by index, sized to the largest contained index */
+  private final float[] values;
+  /** Cached set of all contained stats */
+  @EqualsAndHashCode.Exclude
+  @Nullable
+  private Set<IToolStat<?>> containedStats;
+
+  StatsNBT(BitSet contained, float[] values) {
+    this.contained = contained;
+    this.values = values;
+  }
 
   /**
    * Gets a set of all stats contained
    * @return  Stat type set
    */
   public Set<IToolStat<?>> getContainedStats() {
-    return stats.keySet();
+    if (containedStats == null) {
+      ImmutableSet.Builder<IToolStat<?>> builder = ImmutableSet.builder();
+      for (int i = contained.nextSetBit(0); i >= 0; i = contained.nextSetBit(i + 1)) {
+        builder.add(ToolStats.getToolStat(i));
+      }
+      containedStats = builder.build();
+    }
+    return containedStats;
+  }
+
+  /**
+   * Checks if the stat at the given index is contained
+   * @param index  Stat index
+   * @return  True if contained
+   */
+  private boolean hasIndex(int index) {
+    return index >= 0 && contained.get(index);
   }
 
   /**
@@ -49,7 +73,7 @@ public class StatsNBT {
    * @return  True if the stat is contained
    */
   public boolean hasStat(IToolStat<?> stat) {
-    return stats.containsKey(stat);
+    return hasIndex(stat.getIndex());
   }
 
   /**
@@ -58,7 +82,11 @@ public class StatsNBT {
    * @return  Value, or default if the stat is missing
    */
   public float getFloat(IToolStat<?> stat) {
-    return stats.getOrDefault(stat, stat.getDefaultValue());
+    int index = stat.getIndex();
+    if (hasIndex(index)) {
+      return values[index];
+    }
+    return stat.getDefaultValue();
   }
 
   /**
@@ -67,7 +95,7 @@ public class StatsNBT {
    * @return  Value, or default if the stat is missing
    */
   public int getInt(IToolStat<?> stat) {
-    return stats.getOrDefault(stat, stat.getDefaultValue()).intValue();
+    return (int)getFloat(stat);
   }
 
   /**
@@ -77,7 +105,7 @@ public class StatsNBT {
       return EMPTY;
     }
 
-    ImmutableMap.Builder<IToolStat<?>, Float> builder = ImmutableMap.builder();
+    Builder builder = builder();
 
     // simply try each key as a tool stat
     CompoundNBT nbt = (CompoundNBT)inbt;
@@ -87,7 +115,7 @@ public class StatsNBT {
         if (statName != null) {
           IToolStat<?> stat = ToolStats.getToolStat(statName);
           if (stat != null) {
-            builder.put(stat, nbt.getFloat(key));
+            builder.setRaw(stat, nbt.getFloat(key));
           } else if (!ERRORED_IDS.contains(statName)) {
             ERRORED_IDS.add(statName);
             TConstruct.LOG.error("Ignoring unknown stat " + statName + " in tool stat NBT");
@@ -95,18 +123,29 @@ public class StatsNBT {
         }
       }
     }
-    return new StatsNBT(builder.build());
+    return builder.build();
   }
 
   /** Writes these stats to NBT */
   public CompoundNBT serializeToNBT() {
     CompoundNBT nbt = new CompoundNBT();
-    for (Entry<IToolStat<?>,Float> entry : stats.entrySet()) {
-      nbt.putFloat(entry.getKey().getName().toString(), entry.getValue());
+    for (int i = contained.nextSetBit(0); i >= 0; i = contained.nextSetBit(i + 1)) {
+      nbt.putFloat(ToolStats.getToolStat(i).getName().toString(), values[i]);
     }
     return nbt;
   }
 
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("StatsNBT{");
+    String separator = "";
+    for (int i = contained.nextSetBit(0); i >= 0; i = contained.nextSetBit(i + 1)) {
+      builder.append(separator).append(ToolStats.getToolStat(i).getName()).append('=').append(values[i]);
+      separator = ", ";
+    }
+    return builder.append('}').toString();
+  }
+
   /** Creates a new stats builder */
   public static Builder builder() {
     return new Builder();
@@ -114,17 +153,34 @@ public class StatsNBT {
 
   @NoArgsConstructor(access = AccessLevel.PRIVATE)
   public static class Builder {
-    private final ImmutableMap.Builder<IToolStat<?>, Float> builder = ImmutableMap.builder();
+    private final BitSet contained = new BitSet();
+    private float[] values = new float[ToolStats.getStatCount()];
+
+    /** Sets the given stat in the builder without clamping */
+    private void setRaw(IToolStat<?> stat, float value) {
+      int index = stat.getIndex();
+      if (index < 0) {
+        throw new IllegalArgumentException("Attempted to set unregistered tool stat " + stat.getName());
+      }
+      if (index >= values.length) {
+        values = Arrays.copyOf(values, ToolStats.getStatCount());
+      }
+      contained.set(index);
+      values[index] = value;
+    }
 
     /** Sets the given stat in the builder */
     public Builder set(IToolStat<?> stat, float value) {
-      builder.put(stat, stat.clamp(value));
+      setRaw(stat, stat.clamp(value));
       return this;
     }
 
     /** Builds the stats from the given values */
     public StatsNBT build() {
-      return new StatsNBT(builder.build());
+      if (contained.isEmpty()) {
+        return EMPTY;
+      }
+      return new StatsNBT((BitSet)contained.clone(), Arrays.copyOf(values, contained.length()));
     }
   }
 }
@@ -0,0 +1,167 @@
+package slimeknights.tconstruct.library.tools.nbt;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.item.Item;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.tags.ITag;
+import net.minecraft.tags.ITagCollection;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.common.util.Constants.NBT;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import net.minecraftforge.fml.ModList;
+import net.minecraftforge.forgespi.language.IModInfo;
+import slimeknights.tconstruct.library.TinkerRegistries;
+
+import java.util.Arrays;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+/**
+ * Fingerprint of all loaded data that affects tool stats, which is stamped into tools after their stats are built.
+ * Tools loaded from NBT with a matching stamp were built from the same data, so they do not need to rebuild their stats.
+ * The fingerprint is unknown until all data sources are loaded, in which case tools always rebuild.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ToolDataFingerprint {
+  /** NBT key for the fingerprint stamp */
+  public static final String TAG_FINGERPRINT = "tic_fingerprint";
+  /** Fingerprint value for unknown data */
+  private static final long UNKNOWN = 0;
+
+  /** Hashes for each source */
+  private static final long[] HASHES = new long[Source.values().length];
+  /** Which sources have loaded */
+  private static final boolean[] LOADED = new boolean[Source.values().length];
+  /** Hash of the registered modifiers and mod versions, as modifier behavior is defined in code */
+  private static long codeHash = UNKNOWN;
+  /** Current fingerprint */
+  private static volatile long current = UNKNOWN;
+  private static boolean init = false;
+
+  /** Registers the listener to track item tags, as modifier hooks may check tags */
+  public static void init() {
+    if (init) {
+      return;
+    }
+    init = true;
+    MinecraftForge.EVENT_BUS.addListener(ToolDataFingerprint::onTagsUpdated);
+  }
+
+  /** Called when tags load to update the tag hash */
+  private static void onTagsUpdated(TagsUpdatedEvent.VanillaTagTypes event) {
+    update(Source.TAGS, hashTags(event.getTagManager().getItemTags()));
+  }
+
+  /**
+   * Hashes the contents of all item tags
+   * @param tags  Tag collection
+   * @return  Hash of the tags
+   */
+  public static long hashTags(ITagCollection<Item> tags) {
+    long hash = 0;
+    for (Entry<ResourceLocation,ITag<Item>> entry : tags.getIDTagMap().entrySet()) {
+      // elements are in a stable order, but tags are not
+      long tagHash = entry.getKey().hashCode();
+      for (Item item : entry.getValue().getAllElements()) {
+        tagHash = 31 * tagHash + Objects.hashCode(item.getRegistryName());
+      }
+      hash += HashCommon.mix(tagHash);
+    }
+    return hash;
+  }
+
+  /**
+   * Updates the hash for the given data source. Should be called when the data is loaded from JSON
+   * @param source  Source that changed
+   * @param hash    New hash of the source data
+   */
+  public static synchronized void update(Source source, long hash) {
+    HASHES[source.ordinal()] = hash;
+    LOADED[source.ordinal()] = true;
+
+    // only know the fingerprint once everything is loaded
+    for (boolean loaded : LOADED) {
+      if (!loaded) {
+        current = UNKNOWN;
+        return;
+      }
+    }
+    if (codeHash == UNKNOWN) {
+      codeHash = nonZero(hashModifiers());
+    }
+    long fingerprint = codeHash;
+    for (long sourceHash : HASHES) {
+      fingerprint = HashCommon.mix(fingerprint * 31 + sourceHash);
+    }
+    current = nonZero(fingerprint);
+  }
+
+  /** Clears all loaded sources, making the fingerprint unknown. Used in tests */
+  static synchronized void reset() {
+    Arrays.fill(HASHES, 0);
+    Arrays.fill(LOADED, false);
+    codeHash = UNKNOWN;
+    current = UNKNOWN;
+  }
+
+  /** Hashes the registered modifiers along with the versions of all mods */
+  private static long hashModifiers() {
+    long hash = 0;
+    // both may be missing outside of a full game, such as in tests
+    if (TinkerRegistries.MODIFIERS != null) {
+      for (ResourceLocation id : TinkerRegistries.MODIFIERS.getKeys()) {
+        hash += HashCommon.mix((long)id.hashCode());
+      }
+    }
+    ModList modList = ModList.get();
+    if (modList != null) {
+      for (IModInfo mod : modList.getMods()) {
+        hash += HashCommon.mix(((long)mod.getModId().hashCode() << 32) ^ (mod.getVersion().toString().hashCode() & 0xFFFFFFFFL));
+      }
+    }
+    return hash;
+  }
+
+  /** Ensures the hash is never the unknown value */
+  private static long nonZero(long hash) {
+    return hash == UNKNOWN ? 1 : hash;
+  }
+
+  /**
+   * Stamps the current fingerprint into the tool NBT, or removes the stamp if unknown
+   * @param nbt  Tool NBT
+   */
+  static void stamp(CompoundNBT nbt) {
+    long fingerprint = current;
+    if (fingerprint == UNKNOWN) {
+      nbt.remove(TAG_FINGERPRINT);
+    } else {
+      nbt.putLong(TAG_FINGERPRINT, fingerprint);
+    }
+  }
+
+  /**
+   * Checks if the tool NBT was built from the currently loaded data
+   * @param nbt  Tool NBT
+   * @return  True if the stamp matches the current fingerprint
+   */
+  static boolean matches(CompoundNBT nbt) {
+    long fingerprint = current;
+    return fingerprint != UNKNOWN && nbt.contains(TAG_FINGERPRINT, NBT.TAG_LONG) && nbt.getLong(TAG_FINGERPRINT) == fingerprint;
+  }
+
+  /** Data sources included in the fingerprint */
+  public enum Source {
+    MATERIALS,
+    STATS,
+    TRAITS,
+    DEFINITIONS,
+    /** Item tags, checked by some modifier hooks */
+    TAGS,
+    /** Common config values that change the tool data */
+    CONFIG
+  }
+}
@@ -0,0 +1,157 @@
+package slimeknights.tconstruct.library.tools.nbt;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.INBT;
+import net.minecraft.nbt.StringNBT;
+import net.minecraftforge.common.util.Constants.NBT;
+import net.minecraftforge.fml.common.thread.EffectiveSide;
+import slimeknights.tconstruct.common.config.Config;
+import slimeknights.tconstruct.library.tools.ToolDefinition;
+
+import javax.annotation.Nullable;
+import java.util.Set;
+
+/**
+ * Handles removing tool data derived from materials and modifiers when syncing tools to the client, and rebuilding that data when the client receives the tool.
+ * The client already has the materials, traits, and tool definitions, so it can rebuild the stats itself.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ToolShareTag {
+  /** Tag marking a tool as missing its derived data, value is the modifier format used by the server */
+  static final String TAG_REBUILD = "tic_rebuild";
+  /** Modifiers are saved as a list of compounds */
+  private static final byte FORMAT_LIST = 1;
+  /** Modifiers are saved in the compact format */
+  private static final byte FORMAT_COMPACT = 2;
+  /** Tags rebuilt in {@link ToolStack#rebuildStats()} */
+  private static final Set<String> DERIVED_TAGS = ImmutableSet.of(ToolStack.TAG_MODIFIERS, ToolStack.TAG_STATS, ToolStack.TAG_MULTIPLIERS, ToolStack.TAG_VOLATILE_MOD_DATA);
+  /** Tags the derived data is built from, used for the cache key */
+  private static final String[] SOURCE_TAGS = {ToolStack.TAG_MATERIALS, ToolStack.TAG_UPGRADES, ToolStack.TAG_PERSISTENT_MOD_DATA};
+  /** Key for the item in the cache key */
+  private static final String KEY_ITEM = "item";
+
+  /** Derived tags for recently received tools, as tools are often resent with just a damage change */
+  static final Cache<CompoundNBT,CompoundNBT> CACHE = CacheBuilder.newBuilder().maximumSize(256).build();
+
+  /**
+   * Gets the tag to send to the client, which excludes derived data when enabled
+   * @param stack  Tool stack
+   * @return  Tag to sync
+   */
+  @Nullable
+  public static CompoundNBT getShareTag(ItemStack stack) {
+    CompoundNBT nbt = stack.getTag();
+    // only strip tags sent by the server, if the client strips tags the server will see a mismatch
+    if (nbt == null || !Config.COMMON.compactToolSync.get() || !EffectiveSide.get().isServer()) {
+      return nbt;
+    }
+    return getShareTag(nbt, Config.COMMON.compactModifierNBT.get());
+  }
+
+  /**
+   * Gets a copy of the tag without derived data
+   * @param nbt               Tool tag
+   * @param compactModifiers  If true, the server saves modifiers in the compact format, so the client should match
+   * @return  Tag to sync
+   */
+  static CompoundNBT getShareTag(CompoundNBT nbt, boolean compactModifiers) {
+    if (!nbt.contains(ToolStack.TAG_STATS, NBT.TAG_COMPOUND)) {
+      return nbt;
+    }
+    // shallow copy is fine as the tag is written right away
+    CompoundNBT shareTag = new CompoundNBT();
+    for (String key : nbt.keySet()) {
+      if (!DERIVED_TAGS.contains(key)) {
+        INBT value = nbt.get(key);
+        if (value != null) {
+          shareTag.put(key, value);
+        }
+      }
+    }
+    // client config may differ, so send the modifier format to keep the client copy matching the server copy
+    shareTag.putByte(TAG_REBUILD, compactModifiers ? FORMAT_COMPACT : FORMAT_LIST);
+    return shareTag;
+  }
+
+  /**
+   * Reads the synced tag, rebuilding derived data if it was removed
+   * @param stack       Tool stack
+   * @param definition  Tool definition
+   * @param nbt         Synced tag
+   */
+  public static void readShareTag(ItemStack stack, ToolDefinition definition, @Nullable CompoundNBT nbt) {
+    stack.setTag(nbt);
+    if (nbt != null) {
+      restore(stack.getItem(), definition, nbt);
+    }
+  }
+
+  /**
+   * Rebuilds the derived data on a tool missing it. If the tool definition is not yet loaded, the tool is left unchanged until the next call
+   * @param item        Tool item
+   * @param definition  Tool definition
+   * @param nbt         Tool NBT
+   */
+  static void restore(Item item, ToolDefinition definition, CompoundNBT nbt) {
+    if (!nbt.contains(TAG_REBUILD) || !definition.isDataLoaded()) {
+      return;
+    }
+    byte format = nbt.getByte(TAG_REBUILD);
+    nbt.remove(TAG_REBUILD);
+
+    // build a key from all data used in the rebuild
+    CompoundNBT key = new CompoundNBT();
+    key.put(KEY_ITEM, StringNBT.valueOf(String.valueOf(item.getRegistryName())));
+    key.putByte(TAG_REBUILD, format);
+    for (String tag : SOURCE_TAGS) {
+      INBT value = nbt.get(tag);
+      if (value != null) {
+        key.put(tag, value.copy());
+      }
+    }
+
+    CompoundNBT derived = CACHE.getIfPresent(key);
+    if (derived == null) {
+      // client does not know the server fingerprint, so keep it to ensure the client copy matches the server copy
+      INBT fingerprint = nbt.get(ToolDataFingerprint.TAG_FINGERPRINT);
+      ToolStack.from(item, definition, nbt).rebuildStats();
+      if (fingerprint != null) {
+        nbt.put(ToolDataFingerprint.TAG_FINGERPRINT, fingerprint);
+      }
+      // rebuild used the client modifier format, switch to the server format if different
+      INBT modifiers = nbt.get(ToolStack.TAG_MODIFIERS);
+      boolean compact = format == FORMAT_COMPACT;
+      if (modifiers != null && (modifiers.getId() == NBT.TAG_COMPOUND) != compact) {
+        ModifierNBT parsed = ModifierNBT.readFromNBT(modifiers);
+        nbt.put(ToolStack.TAG_MODIFIERS, compact ? parsed.serializeCompact() : parsed.serializeToNBT());
+      }
+      derived = new CompoundNBT();
+      for (String tag : DERIVED_TAGS) {
+        INBT value = nbt.get(tag);
+        if (value != null) {
+          derived.put(tag, value.copy());
+        }
+      }
+      CACHE.put(key, derived);
+    } else {
+      for (String tag : derived.keySet()) {
+        INBT value = derived.get(tag);
+        if (value != null) {
+          nbt.put(tag, value.copy());
+        }
+      }
+    }
+  }
+
+  /** Clears the cache of derived data, called when the client receives new data from the server */
+  public static void clearCache() {
+    CACHE.invalidateAll();
+  }
+}
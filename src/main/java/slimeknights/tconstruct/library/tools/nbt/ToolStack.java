@@ -9,14 +9,18 @@ import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.ItemStack.TooltipDisplayFlags;
 import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.INBT;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.Constants.NBT;
 import slimeknights.tconstruct.TConstruct;
+import slimeknights.tconstruct.common.config.Config;
 import slimeknights.tconstruct.library.materials.MaterialRegistry;
 import slimeknights.tconstruct.library.materials.definition.IMaterial;
 import slimeknights.tconstruct.library.modifiers.Modifier;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierHook;
+import slimeknights.tconstruct.library.modifiers.ModifierProfiler;
 import slimeknights.tconstruct.library.recipe.tinkerstation.ValidatedResult;
 import slimeknights.tconstruct.library.tools.SlotType;
 import slimeknights.tconstruct.library.tools.ToolDefinition;
@@ -44,7 +48,7 @@ public class ToolStack implements IModifierToolStack {
 
   /** Volatile mod data key for the durability before modifiers */
   @Deprecated
-  public static final ResourceLocation ORIGINAL_DURABILITY_KEY = TConstruct.getResource("durability");
+  public static final ResourceLocation ORIGINAL_DURABILITY_KEY = TConstruct.getDataKey("durability");
 
   // persistent NBT
   /** Tag for list of materials */
@@ -75,7 +79,7 @@ public class ToolStack implements IModifierToolStack {
   private static final int HIDE_FLAGS = TooltipDisplayFlags.ENCHANTMENTS.func_242397_a() | TooltipDisplayFlags.MODIFIERS.func_242397_a();
 
   /** List of tags to disallow editing for the relevant modifier hooks, disallows all tags we touch. Ignores unbreakable as we only look at that tag for vanilla compat */
-  private static final Set<String> RESTRICTED_TAGS = ImmutableSet.of(TAG_MATERIALS, TAG_STATS, TAG_MULTIPLIERS, TAG_PERSISTENT_MOD_DATA, TAG_VOLATILE_MOD_DATA, TAG_UPGRADES, TAG_MODIFIERS, TAG_BROKEN, TAG_DAMAGE, ModifierUtil.TAG_ENCHANTMENTS, TAG_HIDE_FLAGS);
+  private static final Set<String> RESTRICTED_TAGS = ImmutableSet.of(TAG_MATERIALS, TAG_STATS, TAG_MULTIPLIERS, TAG_PERSISTENT_MOD_DATA, TAG_VOLATILE_MOD_DATA, TAG_UPGRADES, TAG_MODIFIERS, TAG_BROKEN, TAG_DAMAGE, ModifierUtil.TAG_ENCHANTMENTS, TAG_HIDE_FLAGS, ToolDataFingerprint.TAG_FINGERPRINT, ToolShareTag.TAG_REBUILD);
 
   /** Item representing this tool */
   @Getter
@@ -88,6 +92,9 @@ public class ToolStack implements IModifierToolStack {
   private final CompoundNBT nbt;
   /** Public view of the internal NBT, to give to modifier hooks */
   private RestrictedCompoundTag restrictedNBT;
+  /** Parsed NBT shared with other tool stacks using the same NBT instance */
+  @Nullable
+  private ParsedToolCache parsedCache;
 
   // durability
   /** Current damage of the tool, -1 means unloaded */
@@ -140,8 +147,12 @@ public class ToolStack implements IModifierToolStack {
       if (!copyNbt) {
         stack.setTag(nbt);
       }
-    } else if (copyNbt) {
-      nbt = nbt.copy();
+    } else {
+      if (copyNbt) {
+        nbt = nbt.copy();
+      }
+      // tools synced without derived data may not have been rebuilt yet
+      ToolShareTag.restore(item, definition, nbt);
     }
     return from(item, definition, nbt);
   }
@@ -212,6 +223,16 @@ public class ToolStack implements IModifierToolStack {
     this.multipliers = null;
     this.volatileModData = null;
     this.persistentModData = null;
+    this.parsedCache = null;
+    ParsedToolCache.invalidate(nbt);
+  }
+
+  /** Gets the parsed NBT cache for this tool's NBT */
+  private ParsedToolCache getParsedCache() {
+    if (parsedCache == null) {
+      parsedCache = ParsedToolCache.get(nbt);
+    }
+    return parsedCache;
   }
 
   /** Creates an item stack from this tool stack */
@@ -350,7 +371,7 @@ public class ToolStack implements IModifierToolStack {
   @Override
   public StatsNBT getStats() {
     if (stats == null) {
-      stats = StatsNBT.readFromNBT(nbt.get(TAG_STATS));
+      stats = getParsedCache().stats.get(nbt.get(TAG_STATS), StatsNBT::readFromNBT);
     }
     return stats;
   }
@@ -361,7 +382,9 @@ public class ToolStack implements IModifierToolStack {
    */
   protected void setStats(StatsNBT stats) {
     this.stats = stats;
-    nbt.put(TAG_STATS, stats.serializeToNBT());
+    CompoundNBT tag = stats.serializeToNBT();
+    nbt.put(TAG_STATS, tag);
+    getParsedCache().stats.set(tag, stats);
     // if we no longer have enough durability, decrease the damage and mark it broken
     int newMax = getStats().getInt(ToolStats.DURABILITY);
     if (getDamageRaw() >= newMax) {
@@ -375,7 +398,7 @@ public class ToolStack implements IModifierToolStack {
    */
   protected StatsNBT getMultipliers() {
     if (multipliers == null) {
-      multipliers = StatsNBT.readFromNBT(nbt.get(TAG_MULTIPLIERS));
+      multipliers = getParsedCache().multipliers.get(nbt.get(TAG_MULTIPLIERS), StatsNBT::readFromNBT);
     }
     return multipliers;
   }
@@ -386,7 +409,9 @@ public class ToolStack implements IModifierToolStack {
    */
   protected void setMultipliers(StatsNBT multipliers) {
     this.multipliers = multipliers;
-    nbt.put(TAG_MULTIPLIERS, multipliers.serializeToNBT());
+    CompoundNBT tag = multipliers.serializeToNBT();
+    nbt.put(TAG_MULTIPLIERS, tag);
+    getParsedCache().multipliers.set(tag, multipliers);
   }
 
   @Override
@@ -462,7 +487,7 @@ public class ToolStack implements IModifierToolStack {
   @Override
   public ModifierNBT getUpgrades() {
     if (upgrades == null) {
-      upgrades = ModifierNBT.readFromNBT(nbt.get(TAG_UPGRADES));
+      upgrades = getParsedCache().upgrades.get(nbt.get(TAG_UPGRADES), ModifierNBT::readFromNBT);
     }
     return upgrades;
   }
@@ -477,8 +502,7 @@ public class ToolStack implements IModifierToolStack {
       throw new IllegalArgumentException("Invalid level, must be above 0");
     }
     ModifierNBT newModifiers = getUpgrades().withModifier(modifier, level);
-    this.upgrades = newModifiers;
-    nbt.put(TAG_UPGRADES, newModifiers.serializeToNBT());
+    setUpgrades(newModifiers);
     rebuildStats();
   }
 
@@ -492,15 +516,34 @@ public class ToolStack implements IModifierToolStack {
       throw new IllegalArgumentException("Invalid level, must be above 0");
     }
     ModifierNBT newModifiers = getUpgrades().withoutModifier(modifier, level);
-    this.upgrades = newModifiers;
-    nbt.put(TAG_UPGRADES, newModifiers.serializeToNBT());
+    setUpgrades(newModifiers);
     rebuildStats();
   }
 
+  /**
+   * Updates the list of recipe modifiers in NBT, without rebuilding stats
+   * @param upgrades  New upgrades
+   */
+  private void setUpgrades(ModifierNBT upgrades) {
+    this.upgrades = upgrades;
+    INBT tag = serializeModifiers(upgrades);
+    nbt.put(TAG_UPGRADES, tag);
+    getParsedCache().upgrades.set(tag, upgrades);
+  }
+
+  /**
+   * Serializes the modifiers in the format set in the config
+   * @param modifiers  Modifiers to serialize
+   * @return  Modifiers NBT
+   */
+  private static INBT serializeModifiers(ModifierNBT modifiers) {
+    return Config.COMMON.compactModifierNBT.get() ? modifiers.serializeCompact() : modifiers.serializeToNBT();
+  }
+
   @Override
   public ModifierNBT getModifiers() {
     if (modifiers == null) {
-      modifiers = ModifierNBT.readFromNBT(nbt.get(TAG_MODIFIERS));
+      modifiers = getParsedCache().modifiers.get(nbt.get(TAG_MODIFIERS), ModifierNBT::readFromNBT);
     }
     return modifiers;
   }
@@ -511,7 +554,9 @@ public class ToolStack implements IModifierToolStack {
    */
   protected void setModifiers(ModifierNBT modifiers) {
     this.modifiers = modifiers;
-    nbt.put(TAG_MODIFIERS, this.modifiers.serializeToNBT());
+    INBT tag = serializeModifiers(modifiers);
+    nbt.put(TAG_MODIFIERS, tag);
+    getParsedCache().modifiers.set(tag, modifiers);
   }
 
 
@@ -522,12 +567,13 @@ public class ToolStack implements IModifierToolStack {
     if (persistentModData == null) {
       // parse if the tag already exists
       if (nbt.contains(TAG_PERSISTENT_MOD_DATA, NBT.TAG_COMPOUND)) {
-        persistentModData = ModDataNBT.readFromNBT(nbt.getCompound(TAG_PERSISTENT_MOD_DATA));
+        persistentModData = getParsedCache().persistentData.get(nbt.get(TAG_PERSISTENT_MOD_DATA), tag -> ModDataNBT.readFromNBT((CompoundNBT)tag));
       } else {
         // if no tag exists, create it
         CompoundNBT tag = new CompoundNBT();
         nbt.put(TAG_PERSISTENT_MOD_DATA, tag);
         persistentModData = ModDataNBT.readFromNBT(tag);
+        getParsedCache().persistentData.set(tag, persistentModData);
       }
     }
     return persistentModData;
@@ -536,13 +582,8 @@ public class ToolStack implements IModifierToolStack {
   @Override
   public IModDataReadOnly getVolatileData() {
     if (volatileModData == null) {
-      // parse if the tag already exists
-      if (nbt.contains(TAG_VOLATILE_MOD_DATA, NBT.TAG_COMPOUND)) {
-        volatileModData = ModDataNBT.readFromNBT(nbt.getCompound(TAG_VOLATILE_MOD_DATA));
-      } else {
-        // if no tag exists, return empty
-        volatileModData = IModDataReadOnly.EMPTY;
-      }
+      // parse if the tag already exists, if no tag exists returns empty
+      volatileModData = getParsedCache().volatileData.get(nbt.get(TAG_VOLATILE_MOD_DATA), ToolStack::parseVolatileData);
     }
     return volatileModData;
   }
@@ -554,12 +595,27 @@ public class ToolStack implements IModifierToolStack {
   protected void setVolatileModData(ModDataNBT modData) {
     CompoundNBT data = modData.getData();
     if (data.isEmpty()) {
-      volatileModData = IModDataReadOnly.EMPTY;
-      nbt.remove(TAG_VOLATILE_MOD_DATA);
+      clearVolatileModData();
     } else {
       volatileModData = modData;
       nbt.put(TAG_VOLATILE_MOD_DATA, data);
+      getParsedCache().volatileData.set(data, modData);
+    }
+  }
+
+  /** Removes all volatile mod data from NBT */
+  private void clearVolatileModData() {
+    volatileModData = IModDataReadOnly.EMPTY;
+    nbt.remove(TAG_VOLATILE_MOD_DATA);
+    getParsedCache().volatileData.set(null, IModDataReadOnly.EMPTY);
+  }
+
+  /** Parses volatile mod data from the given tag */
+  private static IModDataReadOnly parseVolatileData(@Nullable INBT tag) {
+    if (tag != null && tag.getId() == NBT.TAG_COMPOUND) {
+      return ModDataNBT.readFromNBT((CompoundNBT)tag);
     }
+    return IModDataReadOnly.EMPTY;
   }
 
 
@@ -630,8 +686,7 @@ public class ToolStack implements IModifierToolStack {
     List<ModifierEntry> modifierList = allMods.getModifiers();
     if (modifierList.isEmpty()) {
       // if no modifiers, clear out data that only exists with modifiers
-      nbt.remove(TAG_VOLATILE_MOD_DATA);
-      volatileModData = IModDataReadOnly.EMPTY;
+      clearVolatileModData();
     } else {
       ModDataNBT volatileData = new ModDataNBT();
 
@@ -640,12 +695,16 @@ public class ToolStack implements IModifierToolStack {
 
       // build persistent data first, its a parameter to the other two hooks
       for (ModifierEntry entry : modifierList) {
+        long start = ModifierProfiler.start();
         entry.getModifier().addVolatileData(context, entry.getLevel(), volatileData);
+        ModifierProfiler.end(entry.getModifier(), ModifierHook.VOLATILE_DATA, start);
       }
 
       // regular stats last so we can include volatile data
       for (ModifierEntry entry : modifierList) {
+        long start = ModifierProfiler.start();
         entry.getModifier().addToolStats(context, entry.getLevel(), statBuilder);
+        ModifierProfiler.end(entry.getModifier(), ModifierHook.TOOL_STATS, start);
       }
 
       // set into NBT
@@ -659,6 +718,9 @@ public class ToolStack implements IModifierToolStack {
     for (ModifierEntry entry : modifierList) {
       entry.getModifier().addRawData(this, entry.getLevel(), getRestrictedNBT());
     }
+
+    // mark which data the stats were built from, so loading the tool can skip rebuilding
+    ToolDataFingerprint.stamp(nbt);
   }
 
 
@@ -745,20 +807,25 @@ public class ToolStack implements IModifierToolStack {
     if (definition.isDataLoaded() && compound.contains("tag", NBT.TAG_COMPOUND)) {
       CompoundNBT nbt = compound.getCompound("tag");
       // if the stack has materials, resolve all material redirects
+      boolean changed = false;
       if (nbt.contains(ToolStack.TAG_MATERIALS, NBT.TAG_LIST)) {
         MaterialIdNBT stored = MaterialIdNBT.readFromNBT(nbt.getList(ToolStack.TAG_MATERIALS, NBT.TAG_STRING));
         MaterialIdNBT resolved = stored.resolveRedirects();
         if (resolved != stored) {
           resolved.updateNBT(nbt);
+          changed = true;
         }
       }
       ToolStack tool = ToolStack.from(item, definition, nbt);
       // if uninitialized, add slots
       if (needsInitialization(nbt, definition)) {
         definition.getData().buildSlots(tool.getPersistentData());
+        changed = true;
+      }
+      // stats built from the same data will be unchanged, so no need to rebuild
+      if (changed || !ToolDataFingerprint.matches(nbt)) {
+        tool.rebuildStats();
       }
-      // build stats regardless
-      tool.rebuildStats();
     }
   }
 }
@@ -23,6 +23,8 @@ public class FloatToolStat implements IToolStat<FloatBuilder> {
   private final float minValue;
   /** Max value for this stat */
   private final float maxValue;
+  /** Index of this stat, assigned on registration */
+  private int index = -1;
 
   public FloatToolStat(ToolStatId name, int color, float defaultValue, float minValue, float maxValue) {
     this.name = name;
@@ -37,6 +39,19 @@ public class FloatToolStat implements IToolStat<FloatBuilder> {
     return MathHelper.clamp(value, getMinValue(), getMaxValue());
   }
 
+  @Override
+  public int getIndex() {
+    return index;
+  }
+
+  @Override
+  public void setIndex(int index) {
+    if (this.index != -1) {
+      throw new IllegalStateException("Tool stat " + name + " already has an index");
+    }
+    this.index = index;
+  }
+
   @Override
   public FloatBuilder makeBuilder() {
     return new FloatBuilder();
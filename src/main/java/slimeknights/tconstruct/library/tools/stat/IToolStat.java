@@ -23,6 +23,21 @@ public interface IToolStat<B> {
   /** Clamps the value into a valid range */
   float clamp(float value);
 
+  /**
+   * Gets the index of this stat for array based stat storage, assigned in {@link ToolStats#register(IToolStat)}.
+   * Implementations should override this along with {@link #setIndex(int)}, the default falls back to a map lookup
+   * @return  Stat index, or -1 if the stat is not registered
+   */
+  default int getIndex() {
+    return ToolStats.getIndex(this);
+  }
+
+  /**
+   * Called on registration to assign the index returned by {@link #getIndex()}. Should not be called outside of {@link ToolStats}
+   * @param index  Stat index
+   */
+  default void setIndex(int index) {}
+
   /**
    * Applies the given float value as a bonus, used primarily for the stat override modifier
    * Typically better to directly call one of the named methods such as {@link FloatToolStat#add(ModifierStatsBuilder, double)} or {@link TierToolStat#set(ModifierStatsBuilder, int)}
@@ -4,10 +4,7 @@ import lombok.NoArgsConstructor;
 import slimeknights.tconstruct.library.tools.nbt.StatsNBT;
 import slimeknights.tconstruct.library.tools.stat.FloatToolStat.FloatBuilder;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Set;
+import java.util.Arrays;
 import java.util.function.Consumer;
 
 /**
@@ -18,8 +15,8 @@ public class ModifierStatsBuilder {
   /** If true, a change was made */
   private boolean dirty = false;
 
-  /** Map of all stats in the builder */
-  private final Map<IToolStat<?>,Object> map = new HashMap<>();
+  /** Builders for all stats in the builder, indexed by {@link IToolStat#getIndex()}. Null means the stat is unchanged */
+  private Object[] builders = new Object[ToolStats.getStatCount()];
 
   /**
    * Updates the given stat in the builder
@@ -28,14 +25,26 @@ public class ModifierStatsBuilder {
    */
   @SuppressWarnings("unchecked")
   public <B> void updateStat(IToolStat<B> stat, Consumer<B> consumer) {
-    consumer.accept((B)map.computeIfAbsent(stat, IToolStat::makeBuilder));
+    int index = stat.getIndex();
+    if (index < 0) {
+      throw new IllegalArgumentException("Attempted to update unregistered tool stat " + stat.getName());
+    }
+    if (index >= builders.length) {
+      builders = Arrays.copyOf(builders, ToolStats.getStatCount());
+    }
+    Object builder = builders[index];
+    if (builder == null) {
+      builder = stat.makeBuilder();
+      builders[index] = builder;
+    }
+    consumer.accept((B)builder);
     dirty = true;
   }
 
   /** Builds the given stat, method exists to make generic easier */
   @SuppressWarnings("unchecked")
-  private <B> float buildStat(IToolStat<B> stat, float value) {
-    return stat.build((B)map.get(stat), value);
+  private static <B> float buildStat(IToolStat<B> stat, Object builder, float value) {
+    return stat.build((B)builder, value);
   }
 
   /**
@@ -49,21 +58,17 @@ public class ModifierStatsBuilder {
     }
 
     StatsNBT.Builder builder = StatsNBT.builder();
-
-    // first, iterate all stats in the base set
-    Set<IToolStat<?>> existing = base.getContainedStats();
-    for (IToolStat<?> stat : existing) {
-      if (map.containsKey(stat)) {
-        builder.set(stat, buildStat(stat, base.getFloat(stat)));
-      } else {
-        builder.set(stat, base.getFloat(stat));
-      }
-    }
-
-    // next, iterate any stats we have that are not in base
-    for (IToolStat<?> stat : map.keySet()) {
-      if (!existing.contains(stat)) {
-        builder.set(stat, buildStat(stat, stat.getDefaultValue()));
+    int count = ToolStats.getStatCount();
+    for (int i = 0; i < count; i++) {
+      IToolStat<?> stat = ToolStats.getToolStat(i);
+      Object statBuilder = i < builders.length ? builders[i] : null;
+      if (base.hasStat(stat)) {
+        // stats in the base set are copied, updating if we have a builder
+        float value = base.getFloat(stat);
+        builder.set(stat, statBuilder != null ? buildStat(stat, statBuilder, value) : value);
+      } else if (statBuilder != null) {
+        // stats we have that are not in base build from the default
+        builder.set(stat, buildStat(stat, statBuilder, stat.getDefaultValue()));
       }
     }
 
@@ -76,12 +81,12 @@ public class ModifierStatsBuilder {
    */
   public StatsNBT buildMultipliers() {
     StatsNBT.Builder builder = StatsNBT.builder();
-    for (Entry<IToolStat<?>,Object> entry : map.entrySet()) {
+    for (int i = 0; i < builders.length; i++) {
       // yeah I know, super hardcoded, if we need something less hardcoded just request and I'll make it an interface
-      if (entry.getValue() instanceof FloatToolStat.FloatBuilder) {
-        float multiplier = ((FloatBuilder) entry.getValue()).modifierMultiplier;
+      if (builders[i] instanceof FloatToolStat.FloatBuilder) {
+        float multiplier = ((FloatBuilder) builders[i]).modifierMultiplier;
         if (multiplier != 1.0f) {
-          builder.set(entry.getKey(), multiplier);
+          builder.set(ToolStats.getToolStat(i), multiplier);
         }
       }
     }
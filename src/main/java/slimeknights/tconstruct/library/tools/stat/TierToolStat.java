@@ -1,7 +1,7 @@
 package slimeknights.tconstruct.library.tools.stat;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.util.text.TranslationTextComponent;
@@ -13,12 +13,14 @@ import java.util.function.IntFunction;
 /**
  * Tool stat that works on tiers, keeping the largest given value
  */
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class TierToolStat implements IToolStat<TierBuilder> {
   @Getter
   private final ToolStatId name;
   private final int defaultValue;
   private final IntFunction<ITextComponent> displayName;
+  /** Index of this stat, assigned on registration */
+  private int index = -1;
 
   @Override
   public float getDefaultValue() {
@@ -30,6 +32,19 @@ public class TierToolStat implements IToolStat<TierBuilder> {
     return MathHelper.clamp(value, 0, Integer.MAX_VALUE);
   }
 
+  @Override
+  public int getIndex() {
+    return index;
+  }
+
+  @Override
+  public void setIndex(int index) {
+    if (this.index != -1) {
+      throw new IllegalStateException("Tool stat " + name + " already has an index");
+    }
+    this.index = index;
+  }
+
   @Override
   public TierBuilder makeBuilder() {
     return new TierBuilder();
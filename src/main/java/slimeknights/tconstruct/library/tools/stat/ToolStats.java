@@ -1,11 +1,15 @@
 package slimeknights.tconstruct.library.tools.stat;
 
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.library.utils.HarvestLevels;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -16,6 +20,13 @@ import java.util.Map;
 public class ToolStats {
   /** Map of ID to stat */
   private static final Map<ToolStatId,IToolStat<?>> ALL_STATS = new HashMap<>();
+  /** List of stats by index, index is assigned in registration order */
+  private static final List<IToolStat<?>> STATS_BY_INDEX = new ArrayList<>();
+  /** Map of stat to index, fallback for stats that do not store their own index */
+  private static final Reference2IntMap<IToolStat<?>> STAT_INDICES = new Reference2IntOpenHashMap<>();
+  static {
+    STAT_INDICES.defaultReturnValue(-1);
+  }
 
   /** Tools durability, determines how long it lasts */
   public static final FloatToolStat DURABILITY = register(new FloatToolStat(name("durability"), 0xFF47CC47, 1, 1, Integer.MAX_VALUE));
@@ -65,9 +76,36 @@ public class ToolStats {
       throw new IllegalArgumentException("Attempt to register duplicate tool stat " + toolStat.getName());
     }
     ALL_STATS.put(toolStat.getName(), toolStat);
+    toolStat.setIndex(STATS_BY_INDEX.size());
+    STAT_INDICES.put(toolStat, STATS_BY_INDEX.size());
+    STATS_BY_INDEX.add(toolStat);
     return toolStat;
   }
 
+  /**
+   * Gets the index of the given tool stat, used for array based stat storage. Prefer {@link IToolStat#getIndex()} which skips the map lookup for most stats
+   * @param stat  Stat
+   * @return  Stat index, or -1 if the stat is not registered
+   */
+  public static int getIndex(IToolStat<?> stat) {
+    return STAT_INDICES.getInt(stat);
+  }
+
+  /**
+   * Gets the tool stat at the given index
+   * @param index  Stat index
+   * @return  Tool stat
+   * @throws IndexOutOfBoundsException  If the index is invalid
+   */
+  public static IToolStat<?> getToolStat(int index) {
+    return STATS_BY_INDEX.get(index);
+  }
+
+  /** Gets the number of registered tool stats, all indices are below this value */
+  public static int getStatCount() {
+    return STATS_BY_INDEX.size();
+  }
+
   /** Gets a collection of all stat keys */
   public static Collection<IToolStat<?>> getAllStats() {
     return ALL_STATS.values();
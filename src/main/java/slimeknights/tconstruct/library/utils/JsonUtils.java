@@ -3,12 +3,16 @@ package slimeknights.tconstruct.library.utils;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
+import it.unimi.dsi.fastutil.HashCommon;
 import net.minecraft.util.JSONUtils;
 import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.registries.IForgeRegistry;
 import net.minecraftforge.registries.IForgeRegistryEntry;
 import slimeknights.mantle.util.JsonHelper;
 
+import java.util.Map;
+import java.util.Map.Entry;
+
 /** Helpers for a few JSON related tasks */
 public class JsonUtils {
   private JsonUtils() {}
@@ -88,4 +92,26 @@ public class JsonUtils {
     throw new JsonSyntaxException("Unknown " + registry.getRegistryName() + " " + name);
   }
 
+  /**
+   * Hashes a single JSON file based on its contents. Hashes for multiple files may be summed, as load order is not meaningful in a map
+   * @param id    File ID
+   * @param json  File contents
+   * @return  Hash of the file
+   */
+  public static long hashJson(ResourceLocation id, JsonElement json) {
+    return HashCommon.mix(((long)id.hashCode() << 32) ^ (json.hashCode() & 0xFFFFFFFFL));
+  }
+
+  /**
+   * Hashes a map of JSON files based on their contents
+   * @param map  Map of files
+   * @return  Hash of all files
+   */
+  public static long hashJson(Map<ResourceLocation,JsonElement> map) {
+    long hash = 0;
+    for (Entry<ResourceLocation,JsonElement> entry : map.entrySet()) {
+      hash += hashJson(entry.getKey(), entry.getValue());
+    }
+    return hash;
+  }
 }
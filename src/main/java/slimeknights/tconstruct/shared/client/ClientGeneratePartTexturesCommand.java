@@ -17,12 +17,12 @@ import net.minecraft.util.text.StringTextComponent;
 import net.minecraft.util.text.TranslationTextComponent;
 import net.minecraft.util.text.event.ClickEvent;
 import net.minecraft.util.text.event.ClickEvent.Action;
-import org.apache.commons.lang3.mutable.MutableInt;
 import slimeknights.mantle.util.JsonHelper;
 import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.library.client.data.material.AbstractMaterialSpriteProvider.MaterialSpriteInfo;
 import slimeknights.tconstruct.library.client.data.material.AbstractPartSpriteProvider.PartSpriteInfo;
 import slimeknights.tconstruct.library.client.data.material.MaterialPartTextureGenerator;
+import slimeknights.tconstruct.library.client.data.material.PartTextureManifest;
 import slimeknights.tconstruct.library.client.data.util.AbstractSpriteReader;
 import slimeknights.tconstruct.library.client.data.util.ResourceManagerSpriteReader;
 import slimeknights.tconstruct.library.client.materials.MaterialRenderInfoJson;
@@ -104,36 +104,22 @@ public class ClientGeneratePartTexturesCommand {
 
     // predicate for whether we should generate the texture
     AbstractSpriteReader spriteReader = new ResourceManagerSpriteReader(manager, MaterialPartTextureGenerator.FOLDER);
-    MutableInt generated = new MutableInt(0); // keep track of how many generated
     Predicate<ResourceLocation> shouldGenerate;
     if (operation == Operation.ALL) {
-      shouldGenerate = exists -> {
-        generated.add(1);
-        return true;
-      };
+      shouldGenerate = exists -> true;
     } else {
-      shouldGenerate = loc -> {
-        if (!spriteReader.exists(loc)) {
-          generated.add(1);
-          return true;
-        }
-        return false;
-      };
+      shouldGenerate = loc -> !spriteReader.exists(loc);
     }
+    // manifest lets generating all skip textures whose inputs are unchanged since the last run
+    PartTextureManifest manifest = new PartTextureManifest(path, loc -> Files.exists(getImagePath(path, loc)));
 
     // at this point in time we have all our materials, time to generate our sprites
-    for (MaterialSpriteInfo material : materialSprites) {
-      for (PartSpriteInfo part : partSprites) {
-        if (material.supportStatType(part.getStatType())) {
-          MaterialPartTextureGenerator.generateSprite(spriteReader, material, part, shouldGenerate, saver);
-        }
-      }
-    }
+    int count = MaterialPartTextureGenerator.generateSprites(spriteReader, materialSprites, partSprites, shouldGenerate, manifest, saver);
     spriteReader.closeAll();
+    manifest.save();
 
     // success message
     long deltaTime = System.nanoTime() - time;
-    int count = generated.getValue();
     MaterialPartTextureGenerator.runCallbacks(null, null);
     log.info("Finished generating {} textures in {} ms", count, deltaTime / 1000000f);
     if (Minecraft.getInstance().player != null) {
@@ -161,10 +147,15 @@ public class ClientGeneratePartTexturesCommand {
     }
   }
 
+  /** Gets the path to an image in the output folder */
+  private static Path getImagePath(Path folder, ResourceLocation location) {
+    return folder.resolve(Paths.get(ResourcePackType.CLIENT_RESOURCES.getDirectoryName(),
+                          location.getNamespace(), MaterialPartTextureGenerator.FOLDER, location.getPath() + ".png"));
+  }
+
   /** Saves an image to the output folder */
   private static void saveImage(Path folder, ResourceLocation location, NativeImage image) {
-    Path path = folder.resolve(Paths.get(ResourcePackType.CLIENT_RESOURCES.getDirectoryName(),
-                location.getNamespace(), MaterialPartTextureGenerator.FOLDER, location.getPath() + ".png"));
+    Path path = getImagePath(folder, location);
     try {
       Files.createDirectories(path.getParent());
       image.write(path);
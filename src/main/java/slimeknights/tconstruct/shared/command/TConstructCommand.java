@@ -15,6 +15,7 @@ import slimeknights.tconstruct.shared.command.argument.ToolStatArgument;
 import slimeknights.tconstruct.shared.command.subcommand.GeneratePartTexturesCommand;
 import slimeknights.tconstruct.shared.command.subcommand.ModifierUsageCommand;
 import slimeknights.tconstruct.shared.command.subcommand.ModifiersCommand;
+import slimeknights.tconstruct.shared.command.subcommand.ProfileCommand;
 import slimeknights.tconstruct.shared.command.subcommand.SlotsCommand;
 import slimeknights.tconstruct.shared.command.subcommand.StatsCommand;
 
@@ -49,6 +50,7 @@ public class TConstructCommand {
     register(builder, "tool_stats", StatsCommand::register);
     register(builder, "slots", SlotsCommand::register);
     register(builder, "modifier_usage", ModifierUsageCommand::register);
+    register(builder, "profile", ProfileCommand::register);
     register(builder, "generate_part_textures", GeneratePartTexturesCommand::register);
 
     // register final command
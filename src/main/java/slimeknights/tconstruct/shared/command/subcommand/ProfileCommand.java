@@ -0,0 +1,128 @@
+package slimeknights.tconstruct.shared.command.subcommand;
+
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.exceptions.DynamicCommandExceptionType;
+import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
+import net.minecraft.command.CommandSource;
+import net.minecraft.command.Commands;
+import net.minecraft.util.text.ITextComponent;
+import net.minecraft.util.text.StringTextComponent;
+import net.minecraft.util.text.event.ClickEvent;
+import net.minecraft.util.text.event.ClickEvent.Action;
+import net.minecraftforge.common.util.TablePrinter;
+import slimeknights.mantle.command.MantleCommand;
+import slimeknights.tconstruct.TConstruct;
+import slimeknights.tconstruct.common.config.Config;
+import slimeknights.tconstruct.library.recipe.alloying.AlloyRecipeLookup;
+import slimeknights.tconstruct.library.modifiers.ModifierProfiler;
+import slimeknights.tconstruct.library.modifiers.ModifierProfiler.Result;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+/** Command to record and print how much time is spent in each modifier hook */
+public class ProfileCommand {
+  private static final SimpleCommandExceptionType DISABLED = new SimpleCommandExceptionType(TConstruct.makeTranslation("command", "profile.disabled"));
+  private static final DynamicCommandExceptionType CSV_FAILED = new DynamicCommandExceptionType(error -> TConstruct.makeTranslation("command", "profile.csv.failed", error));
+  private static final ITextComponent START = TConstruct.makeTranslation("command", "profile.start");
+  private static final ITextComponent STOP = TConstruct.makeTranslation("command", "profile.stop");
+  private static final ITextComponent RESET = TConstruct.makeTranslation("command", "profile.reset");
+  private static final ITextComponent DUMP = TConstruct.makeTranslation("command", "profile.dump");
+  /** Name of the CSV file within the logs folder */
+  private static final String CSV_NAME = "tconstruct_modifier_profile.csv";
+
+  /**
+   * Registers this sub command with the root command
+   * @param subCommand  Command builder
+   */
+  public static void register(LiteralArgumentBuilder<CommandSource> subCommand) {
+    subCommand.requires(sender -> sender.hasPermissionLevel(MantleCommand.PERMISSION_EDIT_SPAWN))
+              // profile start
+              .then(Commands.literal("start").executes(ProfileCommand::start))
+              // profile stop
+              .then(Commands.literal("stop").executes(ProfileCommand::stop))
+              // profile reset
+              .then(Commands.literal("reset").executes(ProfileCommand::reset))
+              // profile dump
+              .then(Commands.literal("dump").executes(ProfileCommand::dump))
+              // profile csv
+              .then(Commands.literal("csv").executes(ProfileCommand::csv));
+  }
+
+  /** Starts recording */
+  private static int start(CommandContext<CommandSource> context) throws CommandSyntaxException {
+    if (!Config.COMMON.modifierProfiling.get()) {
+      throw DISABLED.create();
+    }
+    ModifierProfiler.setRecording(true);
+    context.getSource().sendFeedback(START, true);
+    return 1;
+  }
+
+  /** Stops recording, keeping the results */
+  private static int stop(CommandContext<CommandSource> context) {
+    ModifierProfiler.setRecording(false);
+    context.getSource().sendFeedback(STOP, true);
+    return 1;
+  }
+
+  /** Clears the results */
+  private static int reset(CommandContext<CommandSource> context) {
+    ModifierProfiler.reset();
+    AlloyRecipeLookup.resetCounters();
+    context.getSource().sendFeedback(RESET, true);
+    return 1;
+  }
+
+  /** Prints the results to the log */
+  private static int dump(CommandContext<CommandSource> context) {
+    List<Result> results = ModifierProfiler.getResults();
+    TablePrinter<Result> table = new TablePrinter<>();
+    table.header("Modifier", r -> r.getModifier().toString());
+    table.header("Hook", r -> r.getHook().name());
+    table.header("Calls", r -> Long.toString(r.getCalls()));
+    table.header("Total ms", r -> String.format("%.3f", r.getEstimatedNanos() / 1_000_000d));
+    table.header("Average ns", r -> Long.toString(r.getAverageNanos()));
+    StringBuilder logOutput = new StringBuilder();
+    logOutput.append("Modifier hook profile:").append(System.lineSeparator());
+    results.forEach(table::add);
+    table.build(logOutput);
+    logOutput.append("Alloy recipe lookups: ").append(AlloyRecipeLookup.getLookups())
+             .append(", hits: ").append(AlloyRecipeLookup.getHits()).append(System.lineSeparator());
+    TConstruct.LOG.info(logOutput.toString());
+    context.getSource().sendFeedback(DUMP, true);
+    return results.size();
+  }
+
+  /** Writes the results to a CSV file in the logs folder */
+  private static int csv(CommandContext<CommandSource> context) throws CommandSyntaxException {
+    CommandSource source = context.getSource();
+    List<Result> results = ModifierProfiler.getResults();
+    File file = new File(source.getServer().getFile("logs"), CSV_NAME);
+    try {
+      Files.createDirectories(file.getParentFile().toPath());
+      try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+        writer.write("modifier,hook,calls,timed_calls,estimated_nanos,average_nanos");
+        writer.newLine();
+        for (Result result : results) {
+          writer.write(result.getModifier() + "," + result.getHook().name() + "," + result.getCalls() + "," + result.getTimedCalls() + ","
+                       + result.getEstimatedNanos() + "," + result.getAverageNanos());
+          writer.newLine();
+        }
+      }
+    } catch (IOException e) {
+      TConstruct.LOG.error("Failed to write modifier profile to {}", file, e);
+      throw CSV_FAILED.create(e.getMessage());
+    }
+    ITextComponent fileComponent = new StringTextComponent(file.getAbsolutePath())
+      .modifyStyle(style -> style.setUnderlined(true).setClickEvent(new ClickEvent(Action.OPEN_FILE, file.getAbsolutePath())));
+    source.sendFeedback(TConstruct.makeTranslation("command", "profile.csv", fileComponent), true);
+    return results.size();
+  }
+}
@@ -11,6 +11,7 @@ import slimeknights.mantle.tileentity.InventoryTileEntity;
 import slimeknights.tconstruct.common.SoundUtils;
 import slimeknights.tconstruct.common.Sounds;
 import slimeknights.tconstruct.common.network.InventorySlotSyncPacket;
+import slimeknights.tconstruct.common.network.SyncBatcher;
 import slimeknights.tconstruct.common.network.TinkerNetwork;
 import slimeknights.tconstruct.tables.inventory.BaseStationContainer;
 import slimeknights.tconstruct.tables.network.UpdateStationScreenPacket;
@@ -37,7 +38,7 @@ public abstract class TableTileEntity extends InventoryTileEntity {
   public void setInventorySlotContents(int slot, @Nonnull ItemStack itemstack) {
     // send a slot update to the client when items change, so we can update the TESR
     if (world != null && world instanceof ServerWorld && !world.isRemote && !ItemStack.areItemStacksEqual(itemstack, getStackInSlot(slot))) {
-      TinkerNetwork.getInstance().sendToClientsAround(new InventorySlotSyncPacket(itemstack, slot, pos), (ServerWorld) world, this.pos);
+      SyncBatcher.queue(world, pos, slot, new InventorySlotSyncPacket(itemstack.copy(), slot, pos));
     }
     super.setInventorySlotContents(slot, itemstack);
   }
@@ -0,0 +1,46 @@
+package slimeknights.tconstruct.smeltery.network;
+
+import lombok.AllArgsConstructor;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.network.NetworkEvent.Context;
+import slimeknights.mantle.network.packet.IThreadsafePacket;
+import slimeknights.tconstruct.common.network.TinkerNetwork;
+import slimeknights.tconstruct.smeltery.tileentity.tank.ISmelteryTankHandler;
+
+/**
+ * Packet sent by the client when it receives a smeltery tank delta it cannot apply, requesting the full fluid list
+ */
+@AllArgsConstructor
+public class SmelteryTankResyncPacket implements IThreadsafePacket {
+  /** Maximum distance squared from the tank for the request to be handled */
+  private static final double MAX_DISTANCE_SQ = 128 * 128;
+
+  private final BlockPos pos;
+
+  public SmelteryTankResyncPacket(PacketBuffer buffer) {
+    pos = buffer.readBlockPos();
+  }
+
+  @Override
+  public void encode(PacketBuffer buffer) {
+    buffer.writeBlockPos(pos);
+  }
+
+  @Override
+  public void handleThreadsafe(Context context) {
+    ServerPlayerEntity sender = context.getSender();
+    if (sender != null && sender.getDistanceSq(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5) <= MAX_DISTANCE_SQ) {
+      World world = sender.getEntityWorld();
+      if (world.isBlockLoaded(pos)) {
+        TileEntity te = world.getTileEntity(pos);
+        if (te instanceof ISmelteryTankHandler) {
+          TinkerNetwork.getInstance().sendTo(((ISmelteryTankHandler) te).getTank().createFullPacket(), sender);
+        }
+      }
+    }
+  }
+}
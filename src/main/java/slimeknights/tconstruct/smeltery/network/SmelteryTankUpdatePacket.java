@@ -1,6 +1,7 @@
 package slimeknights.tconstruct.smeltery.network;
 
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
 import net.minecraft.client.Minecraft;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.math.BlockPos;
@@ -8,35 +9,170 @@ import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fml.network.NetworkEvent.Context;
 import slimeknights.mantle.network.packet.IThreadsafePacket;
 import slimeknights.mantle.util.TileEntityHelper;
+import slimeknights.tconstruct.common.network.TinkerNetwork;
 import slimeknights.tconstruct.smeltery.tileentity.tank.ISmelteryTankHandler;
+import slimeknights.tconstruct.smeltery.tileentity.tank.SmelteryTank;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
- * Packet sent whenever the contents of the smeltery tank change
+ * Packet sent whenever the contents of the smeltery tank change.
+ * Either contains the full fluid list, or a delta against the previous version the client received, which sends just the amount of any fluid the client already has.
  */
-@AllArgsConstructor
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public class SmelteryTankUpdatePacket implements IThreadsafePacket {
+  /** Reference for a new fluid in a delta */
+  public static final int NEW_FLUID = -1;
+
   private final BlockPos pos;
+  /** Version after applying this packet */
+  private final int version;
+  /** Version the delta applies to, or -1 if this packet contains the full list */
+  private final int baseVersion;
+  /** For a full packet, all fluids. For a delta, just the new fluids */
   private final List<FluidStack> fluids;
+  /** For each fluid in the delta, the index in the previous list or {@link #NEW_FLUID} */
+  private final int[] refs;
+  /** For each fluid in the delta, the new amount if not a new fluid */
+  private final int[] amounts;
+
+  /**
+   * Creates a packet containing the full fluid list
+   * @param pos      Tank position
+   * @param version  Tank sync version
+   * @param fluids   Fluids in the tank
+   * @return  Packet instance
+   */
+  public static SmelteryTankUpdatePacket full(BlockPos pos, int version, List<FluidStack> fluids) {
+    return new SmelteryTankUpdatePacket(pos, version, -1, fluids, new int[0], new int[0]);
+  }
+
+  /**
+   * Creates a packet containing the changes since the previous version
+   * @param pos          Tank position
+   * @param baseVersion  Version the client should have
+   * @param version      Version after applying the changes
+   * @param refs         For each fluid, the index in the previous list or {@link #NEW_FLUID}
+   * @param amounts      For each fluid, the new amount
+   * @param added        Fluids with a ref of {@link #NEW_FLUID}, in order
+   * @return  Packet instance
+   */
+  public static SmelteryTankUpdatePacket delta(BlockPos pos, int baseVersion, int version, int[] refs, int[] amounts, List<FluidStack> added) {
+    return new SmelteryTankUpdatePacket(pos, version, baseVersion, added, refs, amounts);
+  }
 
   public SmelteryTankUpdatePacket(PacketBuffer buffer) {
     pos = buffer.readBlockPos();
-    int size = buffer.readVarInt();
-    fluids = new ArrayList<>(size);
-    for (int i = 0; i < size; i++) {
-      fluids.add(buffer.readFluidStack());
+    version = buffer.readVarInt();
+    if (buffer.readBoolean()) {
+      baseVersion = -1;
+      int size = buffer.readVarInt();
+      fluids = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        fluids.add(buffer.readFluidStack());
+      }
+      refs = new int[0];
+      amounts = new int[0];
+    } else {
+      baseVersion = buffer.readVarInt();
+      int size = buffer.readVarInt();
+      fluids = new ArrayList<>();
+      refs = new int[size];
+      amounts = new int[size];
+      for (int i = 0; i < size; i++) {
+        refs[i] = buffer.readVarInt() - 1;
+        if (refs[i] == NEW_FLUID) {
+          fluids.add(buffer.readFluidStack());
+        } else {
+          amounts[i] = buffer.readVarInt();
+        }
+      }
     }
   }
 
+  /** If true, this packet contains the full fluid list */
+  private boolean isFull() {
+    return baseVersion == -1;
+  }
+
   @Override
   public void encode(PacketBuffer buffer) {
     buffer.writeBlockPos(pos);
-    buffer.writeVarInt(fluids.size());
-    for (FluidStack fluid : fluids) {
-      buffer.writeFluidStack(fluid);
+    buffer.writeVarInt(version);
+    boolean full = isFull();
+    buffer.writeBoolean(full);
+    if (full) {
+      buffer.writeVarInt(fluids.size());
+      for (FluidStack fluid : fluids) {
+        buffer.writeFluidStack(fluid);
+      }
+    } else {
+      buffer.writeVarInt(baseVersion);
+      buffer.writeVarInt(refs.length);
+      int added = 0;
+      for (int i = 0; i < refs.length; i++) {
+        // shift by 1 so new fluids are 0
+        buffer.writeVarInt(refs[i] + 1);
+        if (refs[i] == NEW_FLUID) {
+          buffer.writeFluidStack(fluids.get(added));
+          added++;
+        } else {
+          buffer.writeVarInt(amounts[i]);
+        }
+      }
+    }
+  }
+
+  /**
+   * Applies the delta to the previous fluid list
+   * @param previous  Fluids at the base version
+   * @return  New fluid list, or null if the delta does not match the list
+   */
+  @Nullable
+  private List<FluidStack> applyDelta(List<FluidStack> previous) {
+    if (refs.length == 0) {
+      return Collections.emptyList();
+    }
+    List<FluidStack> result = new ArrayList<>(refs.length);
+    int added = 0;
+    for (int i = 0; i < refs.length; i++) {
+      int ref = refs[i];
+      if (ref == NEW_FLUID) {
+        if (added >= fluids.size()) {
+          return null;
+        }
+        result.add(fluids.get(added));
+        added++;
+      } else {
+        if (ref < 0 || ref >= previous.size()) {
+          return null;
+        }
+        FluidStack fluid = previous.get(ref).copy();
+        fluid.setAmount(amounts[i]);
+        result.add(fluid);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Gets the fluids the client tank should have after this packet
+   * @param clientVersion  Sync version of the client tank
+   * @param current        Fluids currently in the client tank
+   * @return  New fluid list, or null if the client missed an update and needs a full resync
+   */
+  @Nullable
+  List<FluidStack> getUpdatedFluids(int clientVersion, List<FluidStack> current) {
+    if (isFull()) {
+      return fluids;
+    }
+    if (clientVersion == baseVersion) {
+      return applyDelta(current);
     }
+    return null;
   }
 
   @Override
@@ -46,7 +182,17 @@ public class SmelteryTankUpdatePacket implements IThreadsafePacket {
 
   private static class HandleClient {
     private static void handle(SmelteryTankUpdatePacket packet) {
-      TileEntityHelper.getTile(ISmelteryTankHandler.class, Minecraft.getInstance().world, packet.pos).ifPresent(te -> te.updateFluidsFromPacket(packet.fluids));
+      TileEntityHelper.getTile(ISmelteryTankHandler.class, Minecraft.getInstance().world, packet.pos).ifPresent(te -> {
+        SmelteryTank tank = te.getTank();
+        List<FluidStack> fluids = packet.getUpdatedFluids(tank.getSyncVersion(), tank.getFluids());
+        if (fluids != null) {
+          te.updateFluidsFromPacket(fluids);
+          tank.setSyncVersion(packet.version);
+        } else {
+          // missed an update, ask the server for the full list
+          TinkerNetwork.getInstance().sendToServer(new SmelteryTankResyncPacket(packet.pos));
+        }
+      });
     }
   }
 }
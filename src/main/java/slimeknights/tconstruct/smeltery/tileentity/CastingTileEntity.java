@@ -31,6 +31,7 @@ import net.minecraftforge.items.wrapper.SidedInvWrapper;
 import slimeknights.mantle.recipe.RecipeHelper;
 import slimeknights.tconstruct.common.Sounds;
 import slimeknights.tconstruct.library.recipe.RecipeTypes;
+import slimeknights.tconstruct.library.recipe.casting.CastingRecipeLookup;
 import slimeknights.tconstruct.library.recipe.casting.ICastingRecipe;
 import slimeknights.tconstruct.library.recipe.molding.MoldingRecipe;
 import slimeknights.tconstruct.library.tools.nbt.ToolStack;
@@ -270,7 +271,7 @@ public abstract class CastingTileEntity extends TableTileEntity implements ITick
     if (this.lastCastingRecipe != null && this.lastCastingRecipe.matches(castingInventory, world)) {
       return this.lastCastingRecipe;
     }
-    ICastingRecipe castingRecipe = world.getRecipeManager().getRecipe(this.castingType, castingInventory, world).orElse(null);
+    ICastingRecipe castingRecipe = CastingRecipeLookup.findRecipe(world, this.castingType, castingInventory);
     if (castingRecipe != null) {
       this.lastCastingRecipe = castingRecipe;
     }
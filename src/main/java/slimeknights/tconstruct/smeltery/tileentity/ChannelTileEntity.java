@@ -2,7 +2,6 @@ package slimeknights.tconstruct.smeltery.tileentity;
 
 import net.minecraft.block.BlockState;
 import net.minecraft.nbt.CompoundNBT;
-import net.minecraft.tileentity.ITickableTileEntity;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.tileentity.TileEntityType;
 import net.minecraft.util.Direction;
@@ -22,7 +21,7 @@ import net.minecraftforge.fluids.capability.IFluidHandler.FluidAction;
 import net.minecraftforge.fluids.capability.templates.EmptyFluidHandler;
 import slimeknights.mantle.tileentity.MantleTileEntity;
 import slimeknights.mantle.util.WeakConsumerWrapper;
-import slimeknights.tconstruct.common.network.TinkerNetwork;
+import slimeknights.tconstruct.common.network.SyncBatcher;
 import slimeknights.tconstruct.library.fluid.FillOnlyFluidHandler;
 import slimeknights.tconstruct.smeltery.TinkerSmeltery;
 import slimeknights.tconstruct.smeltery.block.ChannelBlock;
@@ -30,6 +29,7 @@ import slimeknights.tconstruct.smeltery.block.ChannelBlock.ChannelConnection;
 import slimeknights.tconstruct.smeltery.network.ChannelFlowPacket;
 import slimeknights.tconstruct.smeltery.network.FluidUpdatePacket;
 import slimeknights.tconstruct.smeltery.network.FluidUpdatePacket.IFluidPacketReceiver;
+import slimeknights.tconstruct.smeltery.tileentity.WakeableTicker.IWakeable;
 import slimeknights.tconstruct.smeltery.tileentity.tank.ChannelSideTank;
 import slimeknights.tconstruct.smeltery.tileentity.tank.ChannelTank;
 
@@ -38,9 +38,9 @@ import java.util.EnumMap;
 import java.util.Map;
 
 /**
- * Logic for channel fluid transfer
+ * Logic for channel fluid transfer. Channels only tick while holding fluid or flowing, sleeping otherwise until filled or a neighbor changes
  */
-public class ChannelTileEntity extends MantleTileEntity implements ITickableTileEntity, IFluidPacketReceiver {
+public class ChannelTileEntity extends MantleTileEntity implements IWakeable, IFluidPacketReceiver {
 	/** Channel internal tank */
 	private final ChannelTank tank = new ChannelTank(36, this);
 	/** Handler to return from channel top */
@@ -156,6 +156,8 @@ public class ChannelTileEntity extends MantleTileEntity implements ITickableTile
 	 */
 	public void removeCachedNeighbor(Direction side) {
 		neighborTanks.remove(side);
+		// new neighbor may accept fluid we could not move before
+		wake();
 	}
 
 	/**
@@ -188,6 +190,7 @@ public class ChannelTileEntity extends MantleTileEntity implements ITickableTile
 				}
 			}
 		}
+		wake();
 	}
 
 	@Override
@@ -295,19 +298,47 @@ public class ChannelTileEntity extends MantleTileEntity implements ITickableTile
 	 * @param flowing  Flowing state to sync
 	 */
 	private void syncFlowToClient(Direction side, boolean flowing) {
-		TinkerNetwork.getInstance().sendToClientsAround(new ChannelFlowPacket(pos, side, flowing), world, pos);
+		SyncBatcher.queue(world, pos, side, new ChannelFlowPacket(pos, side, flowing));
 	}
 
 
 	/* Flow */
 
+	/**
+	 * Wakes the channel so it ticks until it is empty and no longer flowing
+	 */
+	public void wake() {
+		if (world != null && !world.isRemote) {
+			WakeableTicker.wake(this);
+		}
+	}
+
+	@Override
+	public void onLoad() {
+		super.onLoad();
+		if (!tank.isEmpty() || isAnyFlowing()) {
+			wake();
+		}
+	}
+
+	/** Checks if any side is still marked as flowing */
+	private boolean isAnyFlowing() {
+		for (byte flowing : isFlowing) {
+			if (flowing > 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Ticking logic
+	 * @return  True if the channel still has fluid or is flowing
 	 */
 	@Override
-	public void tick() {
+	public boolean tickAwake() {
 		if(world == null || world.isRemote) {
-			return;
+			return false;
 		}
 
 		// must have fluid first
@@ -349,6 +380,7 @@ public class ChannelTileEntity extends MantleTileEntity implements ITickableTile
 		}
 
 		tank.freeFluid();
+		return !tank.isEmpty() || isAnyFlowing();
 	}
 
 	/**
@@ -408,7 +440,7 @@ public class ChannelTileEntity extends MantleTileEntity implements ITickableTile
 	 */
 	public void sendFluidUpdate() {
 		if (world != null && !world.isRemote) {
-			TinkerNetwork.getInstance().sendToClientsAround(new FluidUpdatePacket(pos, getFluid()), world, pos);
+			SyncBatcher.queue(world, pos, FluidUpdatePacket.class, new FluidUpdatePacket(pos, getFluid().copy()));
 		}
 	}
 
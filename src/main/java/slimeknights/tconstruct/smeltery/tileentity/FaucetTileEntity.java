@@ -3,13 +3,11 @@ package slimeknights.tconstruct.smeltery.tileentity;
 import lombok.Getter;
 import net.minecraft.block.BlockState;
 import net.minecraft.nbt.CompoundNBT;
-import net.minecraft.tileentity.ITickableTileEntity;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.tileentity.TileEntityType;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import net.minecraftforge.common.util.Constants.NBT;
@@ -22,13 +20,15 @@ import net.minecraftforge.fluids.capability.IFluidHandler.FluidAction;
 import net.minecraftforge.fluids.capability.templates.EmptyFluidHandler;
 import slimeknights.mantle.tileentity.MantleTileEntity;
 import slimeknights.mantle.util.WeakConsumerWrapper;
-import slimeknights.tconstruct.common.network.TinkerNetwork;
+import slimeknights.tconstruct.common.network.SyncBatcher;
 import slimeknights.tconstruct.smeltery.TinkerSmeltery;
 import slimeknights.tconstruct.smeltery.network.FaucetActivationPacket;
+import slimeknights.tconstruct.smeltery.tileentity.WakeableTicker.IWakeable;
 
 import static slimeknights.tconstruct.smeltery.block.FaucetBlock.FACING;
 
-public class FaucetTileEntity extends MantleTileEntity implements ITickableTileEntity {
+/** Logic for faucet fluid transfer. Faucets only tick while pouring or powered, sleeping when off */
+public class FaucetTileEntity extends MantleTileEntity implements IWakeable {
   /** Transfer rate of the faucet */
   public static final int MB_PER_TICK = 12;
   /** amount of MB to extract from the input at a time */
@@ -170,6 +170,9 @@ public class FaucetTileEntity extends MantleTileEntity implements ITickableTileE
         stopPouring = true;
         break;
     }
+    if (faucetState != FaucetState.OFF) {
+      WakeableTicker.wake(this);
+    }
   }
 
   /**
@@ -194,18 +197,26 @@ public class FaucetTileEntity extends MantleTileEntity implements ITickableTileE
   /* Pouring */
 
   @Override
-  public void tick() {
+  public void onLoad() {
+    super.onLoad();
+    if (faucetState != FaucetState.OFF) {
+      WakeableTicker.wake(this);
+    }
+  }
+
+  @Override
+  public boolean tickAwake() {
     if (world == null || world.isRemote) {
-      return;
+      return false;
     }
 
     // nothing to do if not pouring
     if (faucetState == FaucetState.OFF) {
-      return;
+      return false;
       // if powered and we can transfer, schedule transfer for next tick
     } else if (faucetState == FaucetState.POWERED && doTransfer(false)) {
       faucetState = FaucetState.POURING;
-      return;
+      return true;
     }
 
     // continue current stack
@@ -218,6 +229,7 @@ public class FaucetTileEntity extends MantleTileEntity implements ITickableTileE
     } else {
       doTransfer(true);
     }
+    return faucetState != FaucetState.OFF;
   }
 
   /**
@@ -333,9 +345,7 @@ public class FaucetTileEntity extends MantleTileEntity implements ITickableTileE
    */
   private void syncToClient(FluidStack fluid, boolean isPouring) {
     renderFluid = fluid.copy();
-    if (world instanceof ServerWorld) {
-      TinkerNetwork.getInstance().sendToClientsAround(new FaucetActivationPacket(pos, fluid, isPouring), (ServerWorld) world, getPos());
-    }
+    SyncBatcher.queue(world, pos, FaucetActivationPacket.class, new FaucetActivationPacket(pos, fluid.copy(), isPouring));
   }
 
   /**
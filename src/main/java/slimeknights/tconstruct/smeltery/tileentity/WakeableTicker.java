@@ -0,0 +1,87 @@
+package slimeknights.tconstruct.smeltery.tileentity;
+
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent.Phase;
+import net.minecraftforge.event.TickEvent.WorldTickEvent;
+import net.minecraftforge.event.world.WorldEvent;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Ticks tile entities only while they have work to do, used in place of {@link net.minecraft.tileentity.ITickableTileEntity} for blocks that are idle most of the time.
+ * Tiles are woken by calling {@link #wake(IWakeable)}, and go back to sleep when their tick returns false.
+ */
+public class WakeableTicker {
+  private static boolean init = false;
+  /** Tiles to tick next tick in each world */
+  private static final Map<IWorld,ReferenceLinkedOpenHashSet<IWakeable>> AWAKE = new WeakHashMap<>();
+
+  /** Registers the world tick listeners */
+  public static void init() {
+    if (init) {
+      return;
+    }
+    init = true;
+    MinecraftForge.EVENT_BUS.addListener(WakeableTicker::onWorldTick);
+    MinecraftForge.EVENT_BUS.addListener(WakeableTicker::onWorldUnload);
+  }
+
+  /**
+   * Wakes the given tile, causing it to tick starting next world tick. Does nothing on the client
+   * @param tile  Tile to wake
+   */
+  public static <T extends TileEntity & IWakeable> void wake(T tile) {
+    World world = tile.getWorld();
+    if (world instanceof ServerWorld && !tile.isRemoved()) {
+      AWAKE.computeIfAbsent(world, w -> new ReferenceLinkedOpenHashSet<>()).add(tile);
+    }
+  }
+
+  /** Ticks all awake tiles at the end of the world tick */
+  private static void onWorldTick(WorldTickEvent event) {
+    if (event.phase != Phase.END || !(event.world instanceof ServerWorld)) {
+      return;
+    }
+    // swap out the set so tiles woken during ticking run next tick, matching when a newly placed tile would first tick
+    ReferenceLinkedOpenHashSet<IWakeable> awake = AWAKE.remove(event.world);
+    if (awake == null || awake.isEmpty()) {
+      return;
+    }
+    ServerWorld world = (ServerWorld)event.world;
+    ReferenceLinkedOpenHashSet<IWakeable> next = AWAKE.computeIfAbsent(world, w -> new ReferenceLinkedOpenHashSet<>());
+    for (IWakeable tile : awake) {
+      // tiles in unloaded chunks wake themselves again on load
+      TileEntity te = (TileEntity)tile;
+      BlockPos pos = te.getPos();
+      if (!te.isRemoved() && te.getWorld() == world && world.isBlockLoaded(pos)) {
+        // same check vanilla uses for tickable tiles, chunks at the edge of view distance are loaded but do not tick
+        // stay awake in those chunks so the tile resumes once the chunk ticks again
+        boolean canTick = world.getChunkProvider().canTick(pos) && world.getWorldBorder().contains(pos);
+        if (!canTick || tile.tickAwake()) {
+          next.add(tile);
+        }
+      }
+    }
+  }
+
+  /** Clears awake tiles when the world unloads */
+  private static void onWorldUnload(WorldEvent.Unload event) {
+    AWAKE.remove(event.getWorld());
+  }
+
+  /** Interface for tile entities ticked by this ticker */
+  public interface IWakeable {
+    /**
+     * Runs a single tick of server logic
+     * @return  True if the tile should tick again next tick, false to sleep until woken
+     */
+    boolean tickAwake();
+  }
+}
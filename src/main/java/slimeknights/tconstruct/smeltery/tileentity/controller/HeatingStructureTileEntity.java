@@ -17,6 +17,7 @@ import net.minecraft.util.Direction;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
+import net.minecraft.world.IBlockReader;
 import net.minecraft.world.World;
 import net.minecraftforge.client.model.data.IModelData;
 import net.minecraftforge.common.capabilities.Capability;
@@ -29,6 +30,7 @@ import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.ItemHandlerHelper;
 import slimeknights.mantle.client.model.data.SinglePropertyData;
 import slimeknights.mantle.tileentity.NamableTileEntity;
+import slimeknights.tconstruct.common.config.Config;
 import slimeknights.tconstruct.common.multiblock.IMasterLogic;
 import slimeknights.tconstruct.common.multiblock.IServantLogic;
 import slimeknights.tconstruct.common.network.TinkerNetwork;
@@ -42,6 +44,9 @@ import slimeknights.tconstruct.smeltery.tileentity.module.FuelModule;
 import slimeknights.tconstruct.smeltery.tileentity.module.MeltingModuleInventory;
 import slimeknights.tconstruct.smeltery.tileentity.multiblock.HeatingStructureMultiblock;
 import slimeknights.tconstruct.smeltery.tileentity.multiblock.HeatingStructureMultiblock.StructureData;
+import slimeknights.tconstruct.smeltery.tileentity.multiblock.MultiblockCuboid;
+import slimeknights.tconstruct.smeltery.tileentity.multiblock.StructureChangeTracker;
+import slimeknights.tconstruct.smeltery.tileentity.multiblock.StructureChangeTracker.IStructureChangeListener;
 import slimeknights.tconstruct.smeltery.tileentity.multiblock.MultiblockResult;
 import slimeknights.tconstruct.smeltery.tileentity.tank.IDisplayFluidListener;
 import slimeknights.tconstruct.smeltery.tileentity.tank.ISmelteryTankHandler;
@@ -56,11 +61,14 @@ import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 
-public abstract class HeatingStructureTileEntity extends NamableTileEntity implements ITickableTileEntity, IMasterLogic, ISmelteryTankHandler {
+public abstract class HeatingStructureTileEntity extends NamableTileEntity implements ITickableTileEntity, IMasterLogic, ISmelteryTankHandler, IStructureChangeListener {
   private static final String TAG_STRUCTURE = "structure";
   private static final String TAG_TANK = "tank";
+  private static final String TAG_TANK_VERSION = "tank_version";
   private static final String TAG_INVENTORY = "inventory";
   private static final String TAG_ERROR_POS = "errorPos";
+  /** Seconds between checks above the structure for expanding. Block changes are normally picked up by the change tracker, so this is just a fallback */
+  private static final int EXPAND_CHECK_INTERVAL = 60;
 
   /** Sub module to detect the multiblock for this structure */
   private final HeatingStructureMultiblock<?> multiblock = createMultiblock();
@@ -102,10 +110,18 @@ public abstract class HeatingStructureTileEntity extends NamableTileEntity imple
   /* Instance data, this data is not written to NBT */
   /** Timer to allow delaying actions based on number of ticks alive */
   protected int tick = 0;
-  /** Updates every second. Once it reaches 10, checks above the smeltery for a layer to see if we can expand up */
+  /** Updates every second. Once it reaches {@link #EXPAND_CHECK_INTERVAL}, checks above the smeltery for a layer to see if we can expand up */
   private int expandCounter = 0;
   /** If true, structure will check for an update next tick */
   private boolean structureUpdateQueued = false;
+  /** Structure detection in progress, the current structure remains active until it finishes */
+  @Nullable
+  private MultiblockCuboid<StructureData>.Detection detection = null;
+  /** Structure currently registered with the change tracker */
+  @Nullable
+  private StructureData trackedStructure = null;
+  /** If true, there are no items, fluids, or fuel, so heating is skipped until something changes */
+  private boolean dormant = false;
   /** If true, fluids have changed since the last update and should be synced to the client, synced at most once every 4 ticks */
   private boolean fluidUpdateQueued = false;
   /** Cache of the bounds for the case of no structure */
@@ -161,44 +177,64 @@ public abstract class HeatingStructureTileEntity extends NamableTileEntity imple
       return;
     }
 
-    // run structure update if requested
+    // run structure update if requested, blocks changed so any detection in progress needs to start over
     if (structureUpdateQueued) {
-      checkStructure();
       structureUpdateQueued = false;
+      detection = null;
+      checkStructure();
+    } else if (detection != null) {
+      checkStructure();
+    }
+
+    // structures loaded from NBT have no world when set, so register with the tracker here
+    if (trackedStructure != structure) {
+      updateTracking();
     }
 
     // if we have a structure, run smeltery logic
     if (structure != null && state.get(SmelteryControllerBlock.IN_STRUCTURE)) {
-      // every 15 seconds, check above the smeltery to try to expand
-      if (tick == 0) {
-        expandCounter++;
-        if (expandCounter >= 10 && structure.getInnerY() < multiblock.getMaxHeight()) {
-          expandCounter = 0;
-          // instead of rechecking the whole structure, just recheck the layer above and queue an update if its usable
-          if (multiblock.canExpand(structure, world)) {
+      // structure checks are pointless while a detection is running, it will pick up any changes
+      if (detection == null) {
+        // every minute, check above the smeltery to try to expand
+        if (tick == 0) {
+          expandCounter++;
+          if (expandCounter >= EXPAND_CHECK_INTERVAL && structure.getInnerY() < multiblock.getMaxHeight()) {
+            expandCounter = 0;
+            // instead of rechecking the whole structure, just recheck the layer above and queue an update if its usable
+            if (multiblock.canExpand(structure, world)) {
+              updateStructure();
+            } else {
+              updateErrorPos();
+            }
+          }
+        } else if (tick == 10) {
+          // check the next inside position to see if its a valid inner block every second, in case the tracker missed a change
+          if (!multiblock.isInnerBlock((IBlockReader)world, structure.getNextInsideCheck())) {
             updateStructure();
-          } else {
-            updateErrorPos();
           }
         }
-      } else if (tick % 4 == 0) {
-        // check the next inside position to see if its a valid inner block every other tick
-        if (!multiblock.isInnerBlock(world, structure.getNextInsideCheck())) {
-          updateStructure();
-        }
       }
 
-      // main heating logic
-      heat();
+      // main heating logic, skipped if there is nothing to heat
+      if (dormant) {
+        // entities may still be melted using fuel in the tanks, any fluid produced will wake the structure
+        if (tick == 12 && structure.hasTanks() && entityModule.interactWithEntities()) {
+          fuelModule.findFuel(true);
+        }
+      } else {
+        heat();
+        if (tick == 0 && canSleep()) {
+          dormant = true;
+        }
+      }
 
       // fluid update sync every four ticks, whether it has tanks or not
       if (tick % 4 == 3) {
         if (fluidUpdateQueued) {
-          fluidUpdateQueued = false;
-          tank.syncFluids();
+          fluidUpdateQueued = !tank.syncFluids();
         }
       }
-    } else if (tick == 0) {
+    } else if (tick == 0 && detection == null) {
       updateStructure();
     }
 
@@ -226,6 +262,18 @@ public abstract class HeatingStructureTileEntity extends NamableTileEntity imple
 
   /* Capability */
 
+  @Override
+  public void remove() {
+    super.remove();
+    stopTracking();
+  }
+
+  @Override
+  public void onChunkUnloaded() {
+    super.onChunkUnloaded();
+    stopTracking();
+  }
+
   @Override
   protected void invalidateCaps() {
     super.invalidateCaps();
@@ -256,18 +304,64 @@ public abstract class HeatingStructureTileEntity extends NamableTileEntity imple
    */
   protected void setStructure(@Nullable StructureData structure) {
     this.structure = structure;
+    this.dormant = false;
+  }
+
+  /** Updates the structure registered with the change tracker */
+  private void updateTracking() {
+    if (world == null || world.isRemote) {
+      return;
+    }
+    if (trackedStructure != null) {
+      StructureChangeTracker.untrack(world, trackedStructure, this);
+    }
+    trackedStructure = structure;
+    if (structure != null) {
+      StructureChangeTracker.track(world, structure, this);
+    }
+  }
+
+  /** Stops tracking block changes for this structure */
+  private void stopTracking() {
+    if (world != null && trackedStructure != null) {
+      StructureChangeTracker.untrack(world, trackedStructure, this);
+    }
+    trackedStructure = null;
   }
 
   /**
-   * Attempts to locate a valid smeltery structure
+   * Checks if the structure has nothing to heat, allowing it to skip heating until something changes
+   * @return  True if the structure can go dormant
+   */
+  protected boolean canSleep() {
+    return tank.getContained() == 0 && !fuelModule.hasFuel() && !meltingInventory.hasItems();
+  }
+
+  @Override
+  public void markDirtyFast() {
+    // anything that marks us dirty, such as inserting items, filling the tank, or adding fuel, may give us something to heat
+    dormant = false;
+    super.markDirtyFast();
+  }
+
+  /**
+   * Attempts to locate a valid smeltery structure. Large structures may take multiple calls to detect, the structure is only updated once detection finishes
    */
   protected void checkStructure() {
     if (world == null || world.isRemote) {
       return;
     }
+    if (detection == null) {
+      detection = multiblock.startDetection(world, pos, getBlockState().get(BlockStateProperties.HORIZONTAL_FACING));
+    }
+    if (!detection.run(Config.COMMON.structureDetectionBudget.get())) {
+      return;
+    }
+    StructureData newStructure = detection.getResult();
+    detection = null;
+
     boolean wasFormed = getBlockState().get(ControllerBlock.IN_STRUCTURE);
     StructureData oldStructure = structure;
-    StructureData newStructure = multiblock.detectMultiblock(world, pos, getBlockState().get(BlockStateProperties.HORIZONTAL_FACING));
 
     // update block state
     boolean formed = newStructure != null;
@@ -314,6 +408,8 @@ public abstract class HeatingStructureTileEntity extends NamableTileEntity imple
    * Called when the controller is broken to invalidate the master in all servants
    */
   public void invalidateStructure() {
+    detection = null;
+    stopTracking();
     if (structure != null) {
       structure.clearMaster(this);
       structure = null;
@@ -323,6 +419,11 @@ public abstract class HeatingStructureTileEntity extends NamableTileEntity imple
 
   @Override
   public void notifyChange(IServantLogic servant, BlockPos pos, BlockState state) {
+    onStructureBlockChanged(pos, state);
+  }
+
+  @Override
+  public void onStructureBlockChanged(BlockPos pos, BlockState state) {
     // structure invalid? can ignore this, will automatically check later
     if (structure == null) {
       return;
@@ -496,6 +597,9 @@ public abstract class HeatingStructureTileEntity extends NamableTileEntity imple
     super.read(state, nbt);
     if (nbt.contains(TAG_TANK, NBT.TAG_COMPOUND)) {
       tank.read(nbt.getCompound(TAG_TANK));
+      // only exists to be sent server to client in update packets
+      // other syncs such as the data packet lack the version, so any delta based on the old fluids must not apply
+      tank.setSyncVersion(nbt.contains(TAG_TANK_VERSION, NBT.TAG_INT) ? nbt.getInt(TAG_TANK_VERSION) : -1);
       FluidStack first = tank.getFluidInTank(0);
       if (!first.isEmpty()) {
         updateDisplayFluid(first);
@@ -543,6 +647,8 @@ public abstract class HeatingStructureTileEntity extends NamableTileEntity imple
     if (structure != null) {
       nbt.put(TAG_STRUCTURE, structure.writeClientNBT());
     }
+    // sync the tank version so later deltas apply, not actually saved in NBT
+    nbt.putInt(TAG_TANK_VERSION, tank.getClientVersion());
     // sync error position, not actually saved in NBT
     if (errorPos != null) {
       nbt.put(TAG_ERROR_POS, NBTUtil.writeBlockPos(errorPos));
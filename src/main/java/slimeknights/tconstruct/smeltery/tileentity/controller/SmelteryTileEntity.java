@@ -131,7 +131,7 @@ public class SmelteryTileEntity extends HeatingStructureTileEntity {
     // adding a new fluid means recipes that previously did not match might match now
     // can ignore removing a fluid as that is handled internally by the module
     if (type == FluidChange.ADDED) {
-      alloyingModule.clearCachedRecipes();
+      alloyingModule.addFluid(fluid.getFluid());
     }
   }
 }
@@ -9,7 +9,7 @@ import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
 import slimeknights.mantle.inventory.SingleItemHandler;
 import slimeknights.tconstruct.common.TinkerTags;
 import slimeknights.tconstruct.common.network.InventorySlotSyncPacket;
-import slimeknights.tconstruct.common.network.TinkerNetwork;
+import slimeknights.tconstruct.common.network.SyncBatcher;
 import slimeknights.tconstruct.smeltery.tileentity.component.DuctTileEntity;
 
 /**
@@ -33,7 +33,7 @@ public class DuctItemHandler extends SingleItemHandler<DuctTileEntity> {
     if (hasChange) {
       if (!world.isRemote) {
         BlockPos pos = parent.getPos();
-        TinkerNetwork.getInstance().sendToClientsAround(new InventorySlotSyncPacket(newStack, 0, pos), world, pos);
+        SyncBatcher.queue(world, pos, 0, new InventorySlotSyncPacket(newStack.copy(), 0, pos));
       } else {
         parent.updateFluid();
       }
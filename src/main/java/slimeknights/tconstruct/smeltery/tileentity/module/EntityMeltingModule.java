@@ -10,7 +10,9 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.potion.Effects;
 import net.minecraft.util.DamageSource;
 import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidHandler.FluidAction;
@@ -23,9 +25,12 @@ import slimeknights.tconstruct.library.recipe.entitymelting.EntityMeltingRecipe;
 import slimeknights.tconstruct.library.recipe.entitymelting.EntityMeltingRecipeCache;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 /**
@@ -37,6 +42,9 @@ public class EntityMeltingModule {
   public static final DamageSource SMELTERY_DAMAGE = new DamageSource(TConstruct.prefix("smeltery_heat")).setFireDamage();
   /** Special damage source for "absorbing" hot entities */
   public static final DamageSource SMELTERY_MAGIC = new DamageSource(TConstruct.prefix("smeltery_magic")).setMagicDamage();
+  /** Entities the module may interact with, filtered during the chunk scan so other entities are never added to the list */
+  private static final Predicate<Entity> CAN_INTERACT = entity -> entity.isAlive()
+    && (entity instanceof ItemEntity || (entity instanceof LivingEntity && !EntityTypes.MELTING_HIDE.contains(entity.getType())));
 
   private final MantleTileEntity parent;
   private final IFluidHandler tank;
@@ -49,6 +57,8 @@ public class EntityMeltingModule {
 
   @Nullable
   private EntityMeltingRecipe lastRecipe;
+  /** List of entities found in the bounds, reused between ticks */
+  private final List<Entity> entities = new ArrayList<>();
 
   /** Gets a nonnull world instance from the parent */
   private World getWorld() {
@@ -96,6 +106,29 @@ public class EntityMeltingModule {
            && !entity.isPotionActive(Effects.FIRE_RESISTANCE);
   }
 
+  /**
+   * Finds all entities in the bounds the module can interact with, skipping unloaded chunks
+   * @param world        World instance
+   * @param boundingBox  Bounds to check
+   */
+  private void findEntities(World world, AxisAlignedBB boundingBox) {
+    // same range as the world query, entities are stored in the chunk containing their position so large entities may be in a neighbor
+    double radius = world.getMaxEntityRadius();
+    int minX = MathHelper.floor((boundingBox.minX - radius) / 16.0D);
+    int maxX = MathHelper.floor((boundingBox.maxX + radius) / 16.0D);
+    int minZ = MathHelper.floor((boundingBox.minZ - radius) / 16.0D);
+    int maxZ = MathHelper.floor((boundingBox.maxZ + radius) / 16.0D);
+    for (int x = minX; x <= maxX; x++) {
+      for (int z = minZ; z <= maxZ; z++) {
+        Chunk chunk = world.getChunkProvider().getChunk(x, z, false);
+        if (chunk != null) {
+          // chunk only iterates the sections in the Y range, each section being a class map that is cheap to skip when empty
+          chunk.getEntitiesOfTypeWithinAABB(Entity.class, boundingBox, entities, CAN_INTERACT);
+        }
+      }
+    }
+  }
+
   /**
    * Interacts with entities in the structure
    * @return True if something was melted and fuel is needed
@@ -106,55 +139,65 @@ public class EntityMeltingModule {
       return false;
     }
 
+    findEntities(getWorld(), boundingBox);
+    if (entities.isEmpty()) {
+      return false;
+    }
+
     Boolean canMelt = null;
     boolean melted = false;
-    for (Entity entity : getWorld().getEntitiesWithinAABB(Entity.class, boundingBox)) {
-      if (!entity.isAlive()) {
-        continue;
-      }
-
-      // items are placed inside the smeltery
-      EntityType<?> type = entity.getType();
-      if (entity instanceof ItemEntity) {
-        ItemEntity itemEntity = (ItemEntity) entity;
-        ItemStack stack = insertFunction.apply(itemEntity.getItem());
-        // picked up whole stack
-        if (stack.isEmpty()) {
-          entity.remove();
-        } else {
-          itemEntity.setItem(stack);
+    try {
+      for (Entity entity : entities) {
+        // may have died from an earlier entity in the list
+        if (!entity.isAlive()) {
+          continue;
         }
-      }
 
-      // only can melt living, ensure its not immune to our damage
-      // if canMelt is already found as false, skip instance checks, we only care about items now
-      // if the type is hidden, skip as well, I suppose thats your blacklist if you must have one
-      else if (canMelt != Boolean.FALSE && !EntityTypes.MELTING_HIDE.contains(type) && entity instanceof LivingEntity && canMeltEntity((LivingEntity)entity)) {
-        // only fetch boolean once, its not the fastest as it tries to consume fuel
-        if (canMelt == null) canMelt = canMeltEntities.getAsBoolean();
-
-        // ensure we have fuel/any other needed smeltery states
-        if (canMelt) {
-          // determine what we are melting
-          FluidStack fluid;
-          int damage;
-          EntityMeltingRecipe recipe = findRecipe(entity.getType());
-          if (recipe != null) {
-            fluid = recipe.getOutput((LivingEntity) entity);
-            damage = recipe.getDamage();
+        // items are placed inside the smeltery
+        if (entity instanceof ItemEntity) {
+          ItemEntity itemEntity = (ItemEntity) entity;
+          ItemStack stack = insertFunction.apply(itemEntity.getItem());
+          // picked up whole stack
+          if (stack.isEmpty()) {
+            entity.remove();
           } else {
-            fluid = getDefaultFluid();
-            damage = 2;
+            itemEntity.setItem(stack);
           }
+        }
+
+        // only can melt living, ensure its not immune to our damage
+        // if canMelt is already found as false, skip instance checks, we only care about items now
+        // hidden types were already skipped in the scan, I suppose thats your blacklist if you must have one
+        else if (canMelt != Boolean.FALSE && entity instanceof LivingEntity && canMeltEntity((LivingEntity)entity)) {
+          // only fetch boolean once, its not the fastest as it tries to consume fuel
+          if (canMelt == null) canMelt = canMeltEntities.getAsBoolean();
+
+          // ensure we have fuel/any other needed smeltery states
+          if (canMelt) {
+            // determine what we are melting
+            FluidStack fluid;
+            int damage;
+            EntityMeltingRecipe recipe = findRecipe(entity.getType());
+            if (recipe != null) {
+              fluid = recipe.getOutput((LivingEntity) entity);
+              damage = recipe.getDamage();
+            } else {
+              fluid = getDefaultFluid();
+              damage = 2;
+            }
 
-          // if the entity is successfully damaged, fill the tank with fluid
-          if (entity.attackEntityFrom(entity.isImmuneToFire() ? SMELTERY_MAGIC : SMELTERY_DAMAGE, damage)) {
-            // its fine if we don't fill it all, leftover fluid is just lost
-            tank.fill(fluid, FluidAction.EXECUTE);
-            melted = true;
+            // if the entity is successfully damaged, fill the tank with fluid
+            if (entity.attackEntityFrom(entity.isImmuneToFire() ? SMELTERY_MAGIC : SMELTERY_DAMAGE, damage)) {
+              // its fine if we don't fill it all, leftover fluid is just lost
+              tank.fill(fluid, FluidAction.EXECUTE);
+              melted = true;
+            }
           }
         }
       }
+    } finally {
+      // clear so the module does not hold onto entities
+      entities.clear();
     }
     return melted;
   }
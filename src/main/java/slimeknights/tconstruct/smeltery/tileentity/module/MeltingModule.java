@@ -9,13 +9,12 @@ import net.minecraft.world.World;
 import net.minecraftforge.items.ItemHandlerHelper;
 import slimeknights.mantle.tileentity.MantleTileEntity;
 import slimeknights.tconstruct.common.network.InventorySlotSyncPacket;
-import slimeknights.tconstruct.common.network.TinkerNetwork;
-import slimeknights.tconstruct.library.recipe.RecipeTypes;
+import slimeknights.tconstruct.common.network.SyncBatcher;
 import slimeknights.tconstruct.library.recipe.melting.IMeltingInventory;
 import slimeknights.tconstruct.library.recipe.melting.IMeltingRecipe;
+import slimeknights.tconstruct.library.recipe.melting.MeltingRecipeLookup;
 
 import javax.annotation.Nullable;
-import java.util.Optional;
 import java.util.function.IntSupplier;
 import java.util.function.Predicate;
 
@@ -81,7 +80,7 @@ public class MeltingModule implements IMeltingInventory, IIntArray {
     // send a slot update to the client when items change, so we can update the TESR
     World world = parent.getWorld();
     if (slotIndex != -1 && world != null && !world.isRemote && !ItemStack.areItemStacksEqual(stack, newStack)) {
-      TinkerNetwork.getInstance().sendToClientsAround(new InventorySlotSyncPacket(newStack, slotIndex, parent.getPos()), world, parent.getPos());
+      SyncBatcher.queue(world, parent.getPos(), slotIndex, new InventorySlotSyncPacket(newStack.copy(), slotIndex, parent.getPos()));
     }
 
     // clear progress if setting to empty or the items do not match
@@ -177,12 +176,11 @@ public class MeltingModule implements IMeltingInventory, IIntArray {
       return last;
     }
     // if that fails, try to find a new recipe
-    Optional<IMeltingRecipe> newRecipe = world.getRecipeManager().getRecipe(RecipeTypes.MELTING, this, world);
-    if (newRecipe.isPresent()) {
-      lastRecipe = newRecipe.get();
-      return lastRecipe;
+    IMeltingRecipe newRecipe = MeltingRecipeLookup.findRecipe(world, this);
+    if (newRecipe != null) {
+      lastRecipe = newRecipe;
     }
-    return null;
+    return newRecipe;
   }
 
   /**
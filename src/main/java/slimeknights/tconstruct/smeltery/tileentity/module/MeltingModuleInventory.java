@@ -241,6 +241,19 @@ public class MeltingModuleInventory implements IItemHandlerModifiable {
 
   /* Heating */
 
+  /**
+   * Checks if any slot contains an item
+   * @return  True if there is an item to heat
+   */
+  public boolean hasItems() {
+    for (MeltingModule module : modules) {
+      if (module != null && !module.getStack().isEmpty()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * Checks if any slot can heat
    * @param temperature  Temperature to try
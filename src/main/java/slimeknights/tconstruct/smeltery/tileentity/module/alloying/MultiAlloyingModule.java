@@ -1,9 +1,10 @@
 package slimeknights.tconstruct.smeltery.tileentity.module.alloying;
 
+import net.minecraft.fluid.Fluid;
 import net.minecraft.world.World;
 import slimeknights.mantle.tileentity.MantleTileEntity;
-import slimeknights.tconstruct.library.recipe.RecipeTypes;
 import slimeknights.tconstruct.library.recipe.alloying.AlloyRecipe;
+import slimeknights.tconstruct.library.recipe.alloying.AlloyRecipeLookup;
 import slimeknights.tconstruct.library.recipe.alloying.IAlloyTank;
 import slimeknights.tconstruct.library.recipe.alloying.IMutableAlloyTank;
 
@@ -47,7 +48,7 @@ public class MultiAlloyingModule implements IAlloyingModule {
    */
   private List<AlloyRecipe> getRecipes() {
     if (lastRecipes == null) {
-      lastRecipes = getWorld().getRecipeManager().getRecipes(RecipeTypes.ALLOYING, alloyTank, getWorld());
+      lastRecipes = AlloyRecipeLookup.findMatchingRecipes(getWorld(), alloyTank);
     }
     return lastRecipes;
   }
@@ -96,9 +97,30 @@ public class MultiAlloyingModule implements IAlloyingModule {
   }
 
   /**
-   * Clears the list of cached recipes, called when the tank gains a new fluid
+   * Clears the list of cached recipes, forcing all recipes to be checked again
+   * @deprecated  Use {@link #addFluid(Fluid)} when the tank gains a fluid, removed fluids are dropped from the cache automatically
    */
+  @Deprecated
   public void clearCachedRecipes() {
     lastRecipes = null;
   }
+
+  /**
+   * Adds recipes using the given fluid to the cached recipes, called when the tank gains a new fluid
+   * @param fluid  Fluid added to the tank
+   */
+  public void addFluid(Fluid fluid) {
+    List<AlloyRecipe> recipes = lastRecipes;
+    // if not yet cached, the next lookup will find all recipes
+    if (recipes == null) {
+      return;
+    }
+    // only recipes using the new fluid could start matching
+    World world = getWorld();
+    for (AlloyRecipe recipe : AlloyRecipeLookup.getRecipes(world.getRecipeManager(), fluid)) {
+      if (!recipes.contains(recipe) && recipe.matches(alloyTank, world)) {
+        recipes.add(recipe);
+      }
+    }
+  }
 }
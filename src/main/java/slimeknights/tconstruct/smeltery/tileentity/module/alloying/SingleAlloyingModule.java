@@ -3,13 +3,12 @@ package slimeknights.tconstruct.smeltery.tileentity.module.alloying;
 import lombok.RequiredArgsConstructor;
 import net.minecraft.world.World;
 import slimeknights.mantle.tileentity.MantleTileEntity;
-import slimeknights.tconstruct.library.recipe.RecipeTypes;
 import slimeknights.tconstruct.library.recipe.alloying.AlloyRecipe;
+import slimeknights.tconstruct.library.recipe.alloying.AlloyRecipeLookup;
 import slimeknights.tconstruct.library.recipe.alloying.IMutableAlloyTank;
 
 import javax.annotation.Nullable;
 import java.util.Objects;
-import java.util.Optional;
 
 /** Alloying module that supports only a single output */
 @RequiredArgsConstructor
@@ -32,20 +31,12 @@ public class SingleAlloyingModule implements IAlloyingModule {
     }
     // fetch the first recipe that matches the inputs and fits in the tank
     // means if for some reason two recipes both are vaiud, the tank contents can be used to choose
-    Optional<AlloyRecipe> recipe = world.getRecipeManager()
-                                        .getRecipes(RecipeTypes.ALLOYING)
-                                        .values().stream()
-                                        .filter(r -> r instanceof AlloyRecipe)
-                                        .map(r -> (AlloyRecipe) r)
-                                        .filter(r -> alloyTank.canFit(r.getOutput(), 0) && r.canPerform(alloyTank))
-                                        .findAny();
+    AlloyRecipe recipe = AlloyRecipeLookup.findRecipe(world.getRecipeManager(), alloyTank, r -> alloyTank.canFit(r.getOutput(), 0) && r.canPerform(alloyTank));
     // if found, cache and return
-    if (recipe.isPresent()) {
-      lastRecipe = recipe.get();
-      return lastRecipe;
-    } else {
-      return null;
+    if (recipe != null) {
+      lastRecipe = recipe;
     }
+    return recipe;
   }
 
   @Override
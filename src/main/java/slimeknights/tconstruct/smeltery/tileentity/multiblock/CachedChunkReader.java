@@ -0,0 +1,141 @@
+package slimeknights.tconstruct.smeltery.tileentity.multiblock;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import lombok.Getter;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.fluid.FluidState;
+import net.minecraft.fluid.Fluids;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IBlockReader;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+
+import javax.annotation.Nullable;
+
+/**
+ * Block reader that keeps references to the chunks it read from, so scanning a structure only looks up each chunk once instead of once per block.
+ * Unloaded chunks are never loaded, they are treated as air and reported by {@link #isBlockLoaded(BlockPos)}.
+ */
+public class CachedChunkReader implements IBlockReader {
+  /** Placeholder for chunks that were not loaded when requested */
+  private static final Object UNLOADED = new Object();
+
+  /** World being read */
+  @Getter
+  private final World world;
+  /** Cached chunks, or {@link #UNLOADED} if the chunk was not loaded */
+  private final Long2ObjectMap<Object> chunks = new Long2ObjectOpenHashMap<>();
+  /** Last chunk returned, structures tend to read from the same chunk many times in a row */
+  private long lastKey = Long.MIN_VALUE;
+  @Nullable
+  private Chunk lastChunk = null;
+
+  public CachedChunkReader(World world) {
+    this.world = world;
+  }
+
+  /**
+   * Gets the chunk at the given chunk coordinates, if loaded
+   * @param chunkX  Chunk X
+   * @param chunkZ  Chunk Z
+   * @return  Chunk, or null if not loaded
+   */
+  @Nullable
+  private Chunk getChunk(int chunkX, int chunkZ) {
+    long key = ChunkPos.asLong(chunkX, chunkZ);
+    if (key == lastKey) {
+      return lastChunk;
+    }
+    Object cached = chunks.get(key);
+    if (cached == null) {
+      Chunk chunk = world.getChunkProvider().getChunk(chunkX, chunkZ, false);
+      cached = chunk == null ? UNLOADED : chunk;
+      chunks.put(key, cached);
+    }
+    lastKey = key;
+    lastChunk = cached == UNLOADED ? null : (Chunk)cached;
+    return lastChunk;
+  }
+
+  /** Gets the chunk containing the given position, if loaded */
+  @Nullable
+  private Chunk getChunk(BlockPos pos) {
+    return getChunk(pos.getX() >> 4, pos.getZ() >> 4);
+  }
+
+  /** Clears all cached chunks, should be called if the reader is used across multiple ticks */
+  public void clear() {
+    chunks.clear();
+    lastKey = Long.MIN_VALUE;
+    lastChunk = null;
+  }
+
+  /**
+   * Checks if the given position is loaded
+   * @param pos  Position to check
+   * @return  True if loaded
+   */
+  public boolean isBlockLoaded(BlockPos pos) {
+    return !World.isOutsideBuildHeight(pos) && getChunk(pos) != null;
+  }
+
+  /**
+   * Checks if all chunks between the two positions are loaded
+   * @param from  Min position
+   * @param to    Max position
+   * @return  True if the whole area is loaded
+   */
+  public boolean isAreaLoaded(BlockPos from, BlockPos to) {
+    if (World.isOutsideBuildHeight(from) || World.isOutsideBuildHeight(to)) {
+      return false;
+    }
+    int maxX = to.getX() >> 4;
+    int maxZ = to.getZ() >> 4;
+    for (int x = from.getX() >> 4; x <= maxX; x++) {
+      for (int z = from.getZ() >> 4; z <= maxZ; z++) {
+        if (getChunk(x, z) == null) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks if the given position is air
+   * @param pos  Position to check
+   * @return  True if air
+   */
+  public boolean isAirBlock(BlockPos pos) {
+    return getBlockState(pos).isAir(this, pos);
+  }
+
+  @Nullable
+  @Override
+  public TileEntity getTileEntity(BlockPos pos) {
+    Chunk chunk = getChunk(pos);
+    return chunk == null ? null : chunk.getTileEntity(pos);
+  }
+
+  @Override
+  public BlockState getBlockState(BlockPos pos) {
+    if (World.isOutsideBuildHeight(pos)) {
+      return Blocks.VOID_AIR.getDefaultState();
+    }
+    Chunk chunk = getChunk(pos);
+    return chunk == null ? Blocks.AIR.getDefaultState() : chunk.getBlockState(pos);
+  }
+
+  @Override
+  public FluidState getFluidState(BlockPos pos) {
+    if (World.isOutsideBuildHeight(pos)) {
+      return Fluids.EMPTY.getDefaultState();
+    }
+    Chunk chunk = getChunk(pos);
+    return chunk == null ? Fluids.EMPTY.getDefaultState() : chunk.getFluidState(pos);
+  }
+}
@@ -8,6 +8,7 @@ import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockReader;
 import net.minecraft.world.World;
 import slimeknights.mantle.tileentity.MantleTileEntity;
 import slimeknights.tconstruct.common.multiblock.IMasterLogic;
@@ -62,10 +63,10 @@ public abstract class HeatingStructureMultiblock<T extends MantleTileEntity & IM
   }
 
   @Override
-  public StructureData detectMultiblock(World world, BlockPos master, Direction facing) {
+  public Detection startDetection(World world, BlockPos master, Direction facing) {
     // clear tanks from last check before calling
     tanks.clear();
-    return super.detectMultiblock(world, master, facing);
+    return super.startDetection(world, master, facing);
   }
 
   /**
@@ -84,11 +85,11 @@ public abstract class HeatingStructureMultiblock<T extends MantleTileEntity & IM
 
   /**
    * Checks if the given block position is a valid slave
-   * @param world  World instance
+   * @param world  Block reader
    * @param pos    Position to check, note it may be mutable
    * @return   True if its a valid slave
    */
-  protected boolean isValidSlave(World world, BlockPos pos) {
+  protected boolean isValidSlave(IBlockReader world, BlockPos pos) {
     TileEntity te = world.getTileEntity(pos);
 
     // slave-blocks are only allowed if they already belong to this smeltery
@@ -99,6 +100,14 @@ public abstract class HeatingStructureMultiblock<T extends MantleTileEntity & IM
     return true;
   }
 
+  /**
+   * @deprecated  Override and call {@link #isValidSlave(IBlockReader, BlockPos)}, detection reads blocks through a {@link CachedChunkReader}
+   */
+  @Deprecated
+  protected final boolean isValidSlave(World world, BlockPos pos) {
+    return isValidSlave((IBlockReader)world, pos);
+  }
+
   /**
    * Checks if this structure can expand up by one block
    * @return  True if this structure can expand
@@ -107,7 +116,7 @@ public abstract class HeatingStructureMultiblock<T extends MantleTileEntity & IM
     BlockPos min = data.getMinPos();
     BlockPos to = data.getMaxPos().up();
     // want two positions one layer above the structure
-    MultiblockResult result = detectLayer(world, new BlockPos(min.getX(), to.getY(), min.getZ()), to, pos -> {});
+    MultiblockResult result = detectLayer(new CachedChunkReader(world), new BlockPos(min.getX(), to.getY(), min.getZ()), to, pos -> {});
     setLastResult(result);
     return result.isSuccess();
   }
@@ -128,7 +137,7 @@ public abstract class HeatingStructureMultiblock<T extends MantleTileEntity & IM
   protected abstract boolean isValidWall(Block block);
 
   @Override
-  protected boolean isValidBlock(World world, BlockPos pos, CuboidSide side, boolean isFrame) {
+  protected boolean isValidBlock(IBlockReader world, BlockPos pos, CuboidSide side, boolean isFrame) {
     // controller always is valid
     if (pos.equals(parent.getPos())) {
       return true;
@@ -13,6 +13,7 @@ import net.minecraft.util.Direction;
 import net.minecraft.util.Direction.Plane;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
+import net.minecraft.world.IBlockReader;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.Constants.NBT;
 import slimeknights.tconstruct.TConstruct;
@@ -96,123 +97,247 @@ public abstract class MultiblockCuboid<T extends MultiblockStructureData> {
    */
   @Nullable
   public T detectMultiblock(World world, BlockPos master, Direction facing) {
-    // list of blocks that are part of the multiblock, but not in a standard position
-    ImmutableSet.Builder<BlockPos> extraBlocks = ImmutableSet.builder();
-    // center is the lowest block behind in a position behind the controller
-    BlockPos center = getOuterPos(world, master.offset(facing.getOpposite()), Direction.DOWN, maxHeight).up();
-
-    // below lowest internal position
-    if (master.getY() < center.getY() && (!hasFrame || !isInnerBlock(world, center))) {
-      setLastResult(error(center.down(), INVALID_INNER_BLOCK));
-      return null;
-    }
+    Detection detection = startDetection(world, master, facing);
+    detection.run(Integer.MAX_VALUE);
+    return detection.getResult();
+  }
 
-    // distances to the edges including the outer blocks
-    int[] edges = new int[4];
-    // order: south/west/north/east
-    for (Direction direction : Plane.HORIZONTAL) {
-      // move to wall
-      BlockPos pos = getOuterPos(world, center, direction, innerLimit + 1);
-      edges[direction.getHorizontalIndex()] = (pos.getX() - center.getX()) + (pos.getZ() - center.getZ());
+  /**
+   * Starts detecting the structure, allowing the detection to be spread over multiple ticks using {@link Detection#run(int)}.
+   * Only one detection should run at a time for each multiblock instance.
+   * @param world   World instance
+   * @param master  Position of the master
+   * @param facing  Direction the master is facing. Opposite is behind the controller
+   * @return  Detection in progress
+   */
+  public Detection startDetection(World world, BlockPos master, Direction facing) {
+    return new Detection(new CachedChunkReader(world), master, facing);
+  }
+
+  /** Stages of the structure detection */
+  private enum DetectionStage { EDGES, FLOOR, WALLS, CEILING, DONE }
+
+  /**
+   * Structure detection that can be paused between layers, allowing large structures to be checked over multiple ticks.
+   * The last result is only updated once the detection finishes.
+   */
+  public class Detection {
+    private final CachedChunkReader reader;
+    private final BlockPos master;
+    private final Direction facing;
+    /** list of blocks that are part of the multiblock, but not in a standard position */
+    private final ImmutableSet.Builder<BlockPos> extraBlocks = ImmutableSet.builder();
+    private final Consumer<Collection<BlockPos>> posConsumer = extraBlocks::addAll;
+    private DetectionStage stage = DetectionStage.EDGES;
+
+    // bounds, set once edges are found
+    private BlockPos center;
+    private BlockPos from;
+    private BlockPos to;
+    /** Number of blocks in a single layer of the structure */
+    private int layerSize;
+    /** Number of wall layers found so far */
+    private int height = 0;
+    /** Max number of wall layers */
+    private int localMax;
+    /** its fine to fail on a layer above the first, so store the result in case we need it */
+    private MultiblockResult heightResult = TOO_HIGH;
+
+    /** Final structure, null if failed or not done */
+    @Getter @Nullable
+    private T result = null;
+
+    private Detection(CachedChunkReader reader, BlockPos master, Direction facing) {
+      this.reader = reader;
+      this.master = master;
+      this.facing = facing;
     }
 
-    // walls too far away?
-    int xd = (edges[SOUTH] - edges[NORTH]) - 1;
-    int zd = (edges[EAST] - edges[WEST]) - 1;
-    if(xd > innerLimit || zd > innerLimit) {
-      setLastResult(MultiblockResult.error(null, TOO_LARGE, xd, zd, innerLimit, innerLimit));
-      return null;
+    /** Checks if the detection finished */
+    public boolean isDone() {
+      return stage == DetectionStage.DONE;
     }
 
-    // for the rest of calculation, will use a from and a to position bounds
-    BlockPos from = center.add(edges[WEST], 0, edges[NORTH]);
-    BlockPos to = center.add(edges[EAST], 0, edges[SOUTH]);
-    Consumer<Collection<BlockPos>> posConsumer = extraBlocks::addAll;
-
-    // check the floor (frame check done inside)
-    if (hasFloor) {
-      MultiblockResult result = detectCap(world, from.down(), to.down(), CuboidSide.FLOOR, posConsumer);
-      if (!result.isSuccess()) {
-        setLastResult(result);
-        return null;
+    /**
+     * Continues detecting the structure. At least one layer is always checked
+     * @param budget  Approximate number of blocks to check before pausing
+     * @return  True if detection finished, false if it needs to run again
+     */
+    public boolean run(int budget) {
+      // chunk references may go stale between ticks
+      reader.clear();
+      while (stage != DetectionStage.DONE) {
+        budget -= step();
+        if (budget <= 0) {
+          break;
+        }
       }
+      reader.clear();
+      return isDone();
     }
 
-    // go up layer for layer (again, frame check done inside)
-    int height = 0;
-    int localMax = Math.min(maxHeight, world.getHeight() - center.getY());
-    // its fine to fail on a layer above the first, so store the result in case we need it
-    MultiblockResult heightResult = TOO_HIGH;
-    for (; height < localMax; height++) {
-      heightResult = detectLayer(world, from.up(height), to.up(height), posConsumer);
-      if (!heightResult.isSuccess()) {
-        break;
-      }
+    /** Finishes detection with an error */
+    private void fail(MultiblockResult error) {
+      setLastResult(error);
+      stage = DetectionStage.DONE;
     }
 
-    // no walls?
-    if (height == 0 || height <= master.getY() - center.getY()) {
-      setLastResult(heightResult);
-      return null;
-    } else if (height == localMax) {
-      // expanded as high as possible, so no error to display
-      heightResult = MultiblockResult.SUCCESS;
+    /** Finishes detection successfully */
+    private void succeed(MultiblockResult lastResult) {
+      setLastResult(lastResult);
+      // get final bounds
+      // min is 1 block down if we have a floor (to/from is at the first layer)
+      // max is at height, 1 down is the last successful layer if no ceiling
+      BlockPos minPos = hasFloor ? from.down() : from;
+      BlockPos maxPos = to.up(hasCeiling ? height : height - 1);
+      result = create(minPos, maxPos, extraBlocks.build());
+      stage = DetectionStage.DONE;
     }
 
-    // detect ceiling (yup. frame check done inside.)
-    if (hasCeiling) {
-      // "height" failed above meaning there is a non-hollow layer there
-      // assuming its a valid structure, it failed because its a ceiling (if another reason, the ceiling check will fail)
-      MultiblockResult result = detectCap(world, from.up(height), to.up(height), CuboidSide.CEILING, posConsumer);
-      if (!result.isSuccess()) {
-        setLastResult(result);
-        return null;
+    /**
+     * Runs a single stage of detection
+     * @return  Approximate number of blocks checked
+     */
+    private int step() {
+      switch (stage) {
+        case EDGES: return findEdges();
+        case FLOOR: {
+          // check the floor (frame check done inside)
+          MultiblockResult floorResult = detectCap(reader, from.down(), to.down(), CuboidSide.FLOOR, posConsumer);
+          if (floorResult.isSuccess()) {
+            stage = DetectionStage.WALLS;
+          } else {
+            fail(floorResult);
+          }
+          return layerSize;
+        }
+        case WALLS: {
+          // go up layer for layer (again, frame check done inside)
+          if (height < localMax) {
+            heightResult = detectLayer(reader, from.up(height), to.up(height), posConsumer);
+            if (heightResult.isSuccess()) {
+              height++;
+              return layerSize;
+            }
+          }
+          finishWalls();
+          return layerSize;
+        }
+        case CEILING: {
+          // "height" failed above meaning there is a non-hollow layer there
+          // assuming its a valid structure, it failed because its a ceiling (if another reason, the ceiling check will fail)
+          MultiblockResult ceilingResult = detectCap(reader, from.up(height), to.up(height), CuboidSide.CEILING, posConsumer);
+          if (ceilingResult.isSuccess()) {
+            // if we have a ceiling, the structure is done, so mark success
+            succeed(MultiblockResult.SUCCESS);
+          } else {
+            fail(ceilingResult);
+          }
+          return layerSize;
+        }
       }
-      // if we have a ceiling, the structure is done, so mark success
-      setLastResult(MultiblockResult.SUCCESS);
-    } else {
-      // with no ceiling, we will display the position that caused the next layer to fail as a "warning", in case they wonder why it won't expand
-      setLastResult(heightResult);
+      return 0;
     }
 
-    // get final bounds
-    // min is 1 block down if we have a floor (to/from is at the first layer)
-    // max is at height, 1 down is the last successful layer if no ceiling
-    BlockPos minPos = hasFloor ? from.down() : from;
-    BlockPos maxPos = to.up(hasCeiling ? height : height - 1);
-    return create(minPos, maxPos, extraBlocks.build());
+    /**
+     * Finds the bounds of the structure
+     * @return  Number of blocks checked
+     */
+    private int findEdges() {
+      // center is the lowest block behind in a position behind the controller
+      center = getOuterPos(reader, master.offset(facing.getOpposite()), Direction.DOWN, maxHeight).up();
+      int checked = Math.abs(master.getY() - center.getY()) + 1;
+
+      // below lowest internal position
+      if (master.getY() < center.getY() && (!hasFrame || !isInnerBlock(reader, center))) {
+        fail(error(center.down(), INVALID_INNER_BLOCK));
+        return checked;
+      }
+
+      // distances to the edges including the outer blocks
+      int[] edges = new int[4];
+      // order: south/west/north/east
+      for (Direction direction : Plane.HORIZONTAL) {
+        // move to wall
+        BlockPos pos = getOuterPos(reader, center, direction, innerLimit + 1);
+        edges[direction.getHorizontalIndex()] = (pos.getX() - center.getX()) + (pos.getZ() - center.getZ());
+      }
+
+      // walls too far away?
+      int xd = (edges[SOUTH] - edges[NORTH]) - 1;
+      int zd = (edges[EAST] - edges[WEST]) - 1;
+      checked += xd + zd + 4;
+      if(xd > innerLimit || zd > innerLimit) {
+        fail(MultiblockResult.error(null, TOO_LARGE, xd, zd, innerLimit, innerLimit));
+        return checked;
+      }
+
+      // for the rest of calculation, will use a from and a to position bounds
+      from = center.add(edges[WEST], 0, edges[NORTH]);
+      to = center.add(edges[EAST], 0, edges[SOUTH]);
+      layerSize = (to.getX() - from.getX() + 1) * (to.getZ() - from.getZ() + 1);
+      localMax = Math.min(maxHeight, reader.getWorld().getHeight() - center.getY());
+      stage = hasFloor ? DetectionStage.FLOOR : DetectionStage.WALLS;
+      return checked;
+    }
+
+    /** Called once no more wall layers are found */
+    private void finishWalls() {
+      // no walls?
+      if (height == 0 || height <= master.getY() - center.getY()) {
+        fail(heightResult);
+        return;
+      } else if (height == localMax) {
+        // expanded as high as possible, so no error to display
+        heightResult = MultiblockResult.SUCCESS;
+      }
+
+      // detect ceiling (yup. frame check done inside.)
+      if (hasCeiling) {
+        stage = DetectionStage.CEILING;
+      } else {
+        // with no ceiling, we will display the position that caused the next layer to fail as a "warning", in case they wonder why it won't expand
+        succeed(heightResult);
+      }
+    }
   }
 
   /* Layer detection */
 
   /**
    * Gets the farthest position in the given direction
-   * @param world      World instance
+   * @param reader     Block reader
    * @param pos        Start position
    * @param direction  Direction to check
    * @param limit      Max distance to check
    * @return  Block position of farthest position in the directon
    */
-  @SuppressWarnings("deprecation")
-  protected BlockPos getOuterPos(World world, BlockPos pos, Direction direction, int limit) {
-    for(int i = 0; i < limit && world.isBlockLoaded(pos) && isInnerBlock(world, pos); i++) {
+  protected BlockPos getOuterPos(CachedChunkReader reader, BlockPos pos, Direction direction, int limit) {
+    for(int i = 0; i < limit && reader.isBlockLoaded(pos) && isInnerBlock(reader, pos); i++) {
       pos = pos.offset(direction);
     }
 
     return pos;
   }
 
+  /**
+   * @deprecated  Use {@link #getOuterPos(CachedChunkReader, BlockPos, Direction, int)}
+   */
+  @Deprecated
+  protected final BlockPos getOuterPos(World world, BlockPos pos, Direction direction, int limit) {
+    return getOuterPos(new CachedChunkReader(world), pos, direction, limit);
+  }
+
   /**
    * Detects the floor or ceiling of the structure
-   * @param world     World instance
+   * @param world     Block reader
    * @param from      Start position for the cap
    * @param to        End position for the cap
    * @param side      Side of the cube
    * @param consumer  Consumer for any extra positions in this region, specifically frame positions when frame is disabled
    * @return  True if this "cap" is valid, false if not
    */
-  @SuppressWarnings("deprecation")
-  protected MultiblockResult detectCap(World world, BlockPos from, BlockPos to, CuboidSide side, Consumer<Collection<BlockPos>> consumer) {
+  protected MultiblockResult detectCap(CachedChunkReader world, BlockPos from, BlockPos to, CuboidSide side, Consumer<Collection<BlockPos>> consumer) {
     // ensure the area is loaded before trying
     if (!world.isAreaLoaded(from, to)) {
       return NOT_LOADED;
@@ -251,16 +376,23 @@ public abstract class MultiblockCuboid<T extends MultiblockStructureData> {
     return MultiblockResult.SUCCESS;
   }
 
+  /**
+   * @deprecated  Use {@link #detectCap(CachedChunkReader, BlockPos, BlockPos, CuboidSide, Consumer)}
+   */
+  @Deprecated
+  protected final MultiblockResult detectCap(World world, BlockPos from, BlockPos to, CuboidSide side, Consumer<Collection<BlockPos>> consumer) {
+    return detectCap(new CachedChunkReader(world), from, to, side, consumer);
+  }
+
   /**
    * Detects an inner layer of the structure. That is, an area with an empty center
-   * @param world     World instance
+   * @param world     Block reader
    * @param from      Start position for the layer
    * @param to        End position for the layer
    * @param consumer  Consumer for any extra positions in this region
    * @return  True if this layer is valid, false otherwise
    */
-  @SuppressWarnings("deprecation")
-  protected MultiblockResult detectLayer(World world, BlockPos from, BlockPos to, Consumer<Collection<BlockPos>> consumer) {
+  protected MultiblockResult detectLayer(CachedChunkReader world, BlockPos from, BlockPos to, Consumer<Collection<BlockPos>> consumer) {
     // ensure its loaded
     if(!world.isAreaLoaded(from, to)) {
       return NOT_LOADED;
@@ -316,27 +448,53 @@ public abstract class MultiblockCuboid<T extends MultiblockStructureData> {
   }
 
 
+  /**
+   * @deprecated  Use {@link #detectLayer(CachedChunkReader, BlockPos, BlockPos, Consumer)}
+   */
+  @Deprecated
+  protected final MultiblockResult detectLayer(World world, BlockPos from, BlockPos to, Consumer<Collection<BlockPos>> consumer) {
+    return detectLayer(new CachedChunkReader(world), from, to, consumer);
+  }
+
 
   /* Valid Blocks */
 
   /**
    * Checks if a block is valid in the structure
-   * @param world    World argument
+   * @param world    Block reader
    * @param pos      Position to check, note it may be mutable
    * @param side     Side of the structure, floor, ceiling, or wall
    * @param isFrame  If true, checking a frame. If false, checking a side
    * @return  True if this block is valid
    */
-  protected abstract boolean isValidBlock(World world, BlockPos pos, CuboidSide side, boolean isFrame);
+  protected abstract boolean isValidBlock(IBlockReader world, BlockPos pos, CuboidSide side, boolean isFrame);
+
+  /**
+   * @deprecated  Override and call {@link #isValidBlock(IBlockReader, BlockPos, CuboidSide, boolean)}, detection reads blocks through a {@link CachedChunkReader}.
+   * Final so subclasses still overriding this fail to load instead of being silently skipped.
+   */
+  @Deprecated
+  protected final boolean isValidBlock(World world, BlockPos pos, CuboidSide side, boolean isFrame) {
+    return isValidBlock((IBlockReader)world, pos, side, isFrame);
+  }
 
   /**
    * Checks if a block is a valid block inside the cuboid
-   * @param world  World instance
+   * @param world  Block reader
    * @param pos    Position to check, note it may be mutable
    * @return  True if its a valid inner block
    */
-  public boolean isInnerBlock(World world, BlockPos pos) {
-    return world.isAirBlock(pos);
+  public boolean isInnerBlock(IBlockReader world, BlockPos pos) {
+    return world.getBlockState(pos).isAir(world, pos);
+  }
+
+  /**
+   * @deprecated  Override and call {@link #isInnerBlock(IBlockReader, BlockPos)}, detection reads blocks through a {@link CachedChunkReader}.
+   * Final so subclasses still overriding this fail to load instead of being silently skipped.
+   */
+  @Deprecated
+  public final boolean isInnerBlock(World world, BlockPos pos) {
+    return isInnerBlock((IBlockReader)world, pos);
   }
 
 
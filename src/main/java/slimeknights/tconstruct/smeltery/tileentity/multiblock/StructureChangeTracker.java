@@ -0,0 +1,124 @@
+package slimeknights.tconstruct.smeltery.tileentity.multiblock;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceArraySet;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.world.IWorld;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.BlockEvent.NeighborNotifyEvent;
+import net.minecraftforge.event.world.WorldEvent;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.LongConsumer;
+
+/**
+ * Tracks the chunk sections covered by formed structures, so block changes inside a structure notify it directly instead of the structure polling its inner area.
+ * Structures are tracked one layer above their bounds so they notice new walls for expanding.
+ */
+public class StructureChangeTracker {
+  private static boolean init = false;
+  /** Listeners in each chunk section for each world */
+  private static final Map<IWorld,Long2ObjectMap<Set<IStructureChangeListener>>> LISTENERS = new WeakHashMap<>();
+
+  /** Initializies the block change listeners */
+  public static void init() {
+    if (init) {
+      return;
+    }
+    init = true;
+    MinecraftForge.EVENT_BUS.addListener(StructureChangeTracker::onNeighborNotify);
+    MinecraftForge.EVENT_BUS.addListener(StructureChangeTracker::onWorldUnload);
+  }
+
+  /**
+   * Starts sending block changes in the structure area to the listener
+   * @param world      World instance
+   * @param structure  Structure to track
+   * @param listener   Listener to notify
+   */
+  public static void track(IWorld world, MultiblockStructureData structure, IStructureChangeListener listener) {
+    if (world.isRemote()) {
+      return;
+    }
+    Long2ObjectMap<Set<IStructureChangeListener>> sections = LISTENERS.computeIfAbsent(world, w -> new Long2ObjectOpenHashMap<>());
+    forEachSection(structure, key -> sections.computeIfAbsent(key, k -> new ReferenceArraySet<>(1)).add(listener));
+  }
+
+  /**
+   * Stops sending block changes in the structure area to the listener
+   * @param world      World instance
+   * @param structure  Structure that was tracked
+   * @param listener   Listener to remove
+   */
+  public static void untrack(IWorld world, MultiblockStructureData structure, IStructureChangeListener listener) {
+    Long2ObjectMap<Set<IStructureChangeListener>> sections = LISTENERS.get(world);
+    if (sections == null) {
+      return;
+    }
+    forEachSection(structure, key -> {
+      Set<IStructureChangeListener> listeners = sections.get(key);
+      if (listeners != null) {
+        listeners.remove(listener);
+        if (listeners.isEmpty()) {
+          sections.remove(key);
+        }
+      }
+    });
+  }
+
+  /** Runs the consumer for each chunk section covered by the structure, plus the layer above */
+  private static void forEachSection(MultiblockStructureData structure, LongConsumer consumer) {
+    BlockPos min = structure.getMinPos();
+    BlockPos max = structure.getMaxPos();
+    int maxX = max.getX() >> 4;
+    int maxY = (max.getY() + 1) >> 4;
+    int maxZ = max.getZ() >> 4;
+    for (int x = min.getX() >> 4; x <= maxX; x++) {
+      for (int y = min.getY() >> 4; y <= maxY; y++) {
+        for (int z = min.getZ() >> 4; z <= maxZ; z++) {
+          consumer.accept(SectionPos.asLong(x, y, z));
+        }
+      }
+    }
+  }
+
+  /** Notifies listeners of a block change in their section */
+  private static void onNeighborNotify(NeighborNotifyEvent event) {
+    IWorld world = event.getWorld();
+    if (world.isRemote()) {
+      return;
+    }
+    Long2ObjectMap<Set<IStructureChangeListener>> sections = LISTENERS.get(world);
+    if (sections == null || sections.isEmpty()) {
+      return;
+    }
+    BlockPos pos = event.getPos();
+    Set<IStructureChangeListener> listeners = sections.get(SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4));
+    if (listeners != null) {
+      BlockState state = event.getState();
+      for (IStructureChangeListener listener : listeners) {
+        listener.onStructureBlockChanged(pos, state);
+      }
+    }
+  }
+
+  /** Clears all listeners for an unloaded world */
+  private static void onWorldUnload(WorldEvent.Unload event) {
+    LISTENERS.remove(event.getWorld());
+  }
+
+  /** Listener for block changes near a structure */
+  public interface IStructureChangeListener {
+    /**
+     * Called when a block changes in a chunk section covered by the structure. Position may be outside the structure
+     * @param pos    Changed position
+     * @param state  New state
+     */
+    void onStructureBlockChanged(BlockPos pos, BlockState state);
+  }
+}
@@ -12,7 +12,7 @@ import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.registries.ForgeRegistries;
-import slimeknights.tconstruct.common.network.TinkerNetwork;
+import slimeknights.tconstruct.common.network.SyncBatcher;
 import slimeknights.tconstruct.smeltery.network.FluidUpdatePacket;
 import slimeknights.tconstruct.smeltery.tileentity.CastingTileEntity;
 
@@ -201,7 +201,7 @@ public class CastingFluidHandler implements IFluidHandler {
     tile.markDirty();
     World world = tile.getWorld();
     if (world != null && !world.isRemote) {
-      TinkerNetwork.getInstance().sendToClientsAround(new FluidUpdatePacket(tile.getPos(), this.getFluid()), world, tile.getPos());
+      SyncBatcher.queue(world, tile.getPos(), FluidUpdatePacket.class, new FluidUpdatePacket(tile.getPos(), this.getFluid().copy()));
     }
   }
 }
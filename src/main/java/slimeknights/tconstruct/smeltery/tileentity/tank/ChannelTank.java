@@ -45,6 +45,9 @@ public class ChannelTank extends FluidTank {
 		int amount = super.fill(resource, action);
 		if(action.execute()) {
 			locked += amount;
+			if (amount > 0) {
+				parent.wake();
+			}
 			// if we added something, sync to client
 			if (wasEmpty && !isEmpty()) {
 				parent.sendFluidUpdate();
@@ -2,6 +2,7 @@ package slimeknights.tconstruct.smeltery.tileentity.tank;
 
 import com.google.common.collect.Lists;
 import lombok.Getter;
+import lombok.Setter;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
 import net.minecraft.tileentity.TileEntity;
@@ -14,6 +15,8 @@ import slimeknights.tconstruct.common.network.TinkerNetwork;
 import slimeknights.tconstruct.smeltery.network.SmelteryTankUpdatePacket;
 import slimeknights.tconstruct.smeltery.tileentity.tank.ISmelteryTankHandler.FluidChange;
 
+import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.ListIterator;
 
@@ -31,6 +34,18 @@ public class SmelteryTank implements IFluidHandler {
   @Getter
   private int contained;
 
+  /* Syncing */
+  /** Minimum ticks between syncs when only fluid amounts changed */
+  private static final int AMOUNT_SYNC_INTERVAL = 10;
+  /** Version of the fluids last sent to the client, used to ensure deltas apply to the right list */
+  @Getter @Setter
+  private int syncVersion = 0;
+  /** Copy of the fluids last sent to the client, null if never synced */
+  @Nullable
+  private List<FluidStack> synced = null;
+  /** Time of the last sync */
+  private long lastSyncTime = 0;
+
   public SmelteryTank(ISmelteryTankHandler parent) {
     fluids = Lists.newArrayList();
     capacity = 0;
@@ -39,15 +54,99 @@ public class SmelteryTank implements IFluidHandler {
   }
 
   /**
-   * Called when the fluids change to sync to client
+   * Called when the fluids change to sync to client. Sends just the changes since the last sync when possible.
+   * @return  False if the sync was delayed as only amounts changed, in which case it should be tried again later
    */
-  public void syncFluids() {
+  public boolean syncFluids() {
     TileEntity te = parent.getTileEntity();
     World world = te.getWorld();
-    if (world != null && !world.isRemote) {
-      BlockPos pos = te.getPos();
-      TinkerNetwork.getInstance().sendToClientsAround(new SmelteryTankUpdatePacket(pos, fluids), world, pos);
+    if (world == null || world.isRemote) {
+      return true;
+    }
+    BlockPos pos = te.getPos();
+    long time = world.getGameTime();
+    SmelteryTankUpdatePacket packet;
+    if (synced == null) {
+      packet = SmelteryTankUpdatePacket.full(pos, syncVersion + 1, copyFluids());
+    } else {
+      // find each fluid in the last synced list
+      int size = fluids.size();
+      int[] refs = new int[size];
+      int[] amounts = new int[size];
+      List<FluidStack> added = new ArrayList<>();
+      boolean structural = size != synced.size();
+      boolean changed = structural;
+      for (int i = 0; i < size; i++) {
+        FluidStack fluid = fluids.get(i);
+        int ref = SmelteryTankUpdatePacket.NEW_FLUID;
+        for (int j = 0; j < synced.size(); j++) {
+          if (synced.get(j).isFluidEqual(fluid)) {
+            ref = j;
+            break;
+          }
+        }
+        refs[i] = ref;
+        amounts[i] = fluid.getAmount();
+        if (ref == SmelteryTankUpdatePacket.NEW_FLUID) {
+          added.add(fluid.copy());
+          structural = true;
+        } else if (ref != i) {
+          structural = true;
+        } else if (synced.get(ref).getAmount() != fluid.getAmount()) {
+          changed = true;
+        }
+      }
+      if (!structural) {
+        if (!changed) {
+          return true;
+        }
+        // amount changes are less important, so limit how often they send
+        if (time - lastSyncTime < AMOUNT_SYNC_INTERVAL) {
+          return false;
+        }
+      }
+      packet = SmelteryTankUpdatePacket.delta(pos, syncVersion, syncVersion + 1, refs, amounts, added);
+    }
+    syncVersion++;
+    synced = copyFluids();
+    lastSyncTime = time;
+    TinkerNetwork.getInstance().sendToClientsAround(packet, world, pos);
+    return true;
+  }
+
+  /** Creates a copy of the current fluid list */
+  private List<FluidStack> copyFluids() {
+    List<FluidStack> copy = new ArrayList<>(fluids.size());
+    for (FluidStack fluid : fluids) {
+      copy.add(fluid.copy());
+    }
+    return copy;
+  }
+
+  /**
+   * Creates a packet containing the last synced fluids, for clients that missed an update
+   * @return  Full update packet
+   */
+  public SmelteryTankUpdatePacket createFullPacket() {
+    return SmelteryTankUpdatePacket.full(parent.getTileEntity().getPos(), syncVersion, synced != null ? synced : copyFluids());
+  }
+
+  /**
+   * Gets the sync version to send to clients receiving the full tank in NBT
+   * @return  Sync version, or -1 if the tank changed since the last sync as deltas would not apply
+   */
+  public int getClientVersion() {
+    if (synced == null || synced.size() != fluids.size()) {
+      return -1;
+    }
+    for (int i = 0; i < fluids.size(); i++) {
+      FluidStack fluid = fluids.get(i);
+      FluidStack other = synced.get(i);
+      if (!fluid.isFluidEqual(other) || fluid.getAmount() != other.getAmount()) {
+        return -1;
+      }
     }
+    return syncVersion;
   }
 
 
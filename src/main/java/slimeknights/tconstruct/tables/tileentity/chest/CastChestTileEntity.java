@@ -14,19 +14,19 @@ public class CastChestTileEntity extends ChestTileEntity {
   }
 
   /** Item handler for cast chests */
-  public static class CastChestIItemHandler extends ScalingChestItemHandler {
+  public static class CastChestIItemHandler extends SingleStackChestItemHandler {
     @Override
     public int getSlotLimit(int slot) {
       return 4;
     }
 
     @Override
-    public boolean isItemValid(int slot, ItemStack stack) {
-      for (int i = 0; i < this.getSlots(); i++) {
-        if (ItemStack.areItemsEqual(stack, this.getStackInSlot(i))) {
-          return i == slot;
-        }
-      }
+    protected Object getIndexKey(ItemStack stack) {
+      return stack.getItem();
+    }
+
+    @Override
+    protected boolean isValidType(ItemStack stack) {
       return TinkerTags.Items.GOLD_CASTS.contains(stack.getItem());
     }
   }
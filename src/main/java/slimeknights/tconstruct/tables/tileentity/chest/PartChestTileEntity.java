@@ -1,10 +1,15 @@
 package slimeknights.tconstruct.tables.tileentity.chest;
 
+import lombok.Data;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
 import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.library.tools.part.IMaterialItem;
 import slimeknights.tconstruct.tables.TinkerTables;
 
+import javax.annotation.Nullable;
+
 /**
  * Chest that holds parts, up to 8 of a given material and type
  */
@@ -14,22 +19,37 @@ public class PartChestTileEntity extends ChestTileEntity {
   }
 
   /** Item handler for part chests */
-  public static class PartChestItemHandler extends ScalingChestItemHandler {
+  public static class PartChestItemHandler extends SingleStackChestItemHandler {
     @Override
     public int getSlotLimit(int slot) {
       return 8;
     }
 
     @Override
-    public boolean isItemValid(int slot, ItemStack stack) {
-      // check if there is no other slot containing that item
-      for (int i = 0; i < this.getSlots(); i++) {
-        // don't compare count
-        if (ItemStack.areItemsEqual(stack, this.getStackInSlot(i)) && ItemStack.areItemStackTagsEqual(stack, this.getStackInSlot(i))) {
-          return i == slot; // only allowed in the same slot
-        }
-      }
+    protected Object getIndexKey(ItemStack stack) {
+      // parts are unique by both item and material, so include NBT
+      // lookups use the live tag, only stored keys need a copy
+      return new PartKey(stack.getItem(), stack.getTag());
+    }
+
+    @Override
+    protected Object getStoredKey(Object key) {
+      PartKey partKey = (PartKey)key;
+      CompoundNBT tag = partKey.getTag();
+      return tag == null ? partKey : new PartKey(partKey.getItem(), tag.copy());
+    }
+
+    @Override
+    protected boolean isValidType(ItemStack stack) {
       return stack.getItem() instanceof IMaterialItem;
     }
   }
+
+  /** Index key for a part stack, ignoring count */
+  @Data
+  private static class PartKey {
+    private final Item item;
+    @Nullable
+    private final CompoundNBT tag;
+  }
 }
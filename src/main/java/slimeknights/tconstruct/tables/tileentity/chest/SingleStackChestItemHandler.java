@@ -0,0 +1,133 @@
+package slimeknights.tconstruct.tables.tileentity.chest;
+
+import net.minecraft.item.ItemStack;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Scaling chest that allows only a single stack of each item type, keeping an index from item to slot so validity checks do not scan every slot
+ */
+public abstract class SingleStackChestItemHandler extends ScalingChestItemHandler {
+  /** Index from item key to the slot containing it */
+  private final Map<Object,Integer> slotIndex = new HashMap<>();
+  /** Key of the stack in each slot, used to remove the old entry when a slot changes */
+  @Nullable
+  private Object[] slotKeys;
+
+  public SingleStackChestItemHandler(int size) {
+    super(size);
+  }
+
+  public SingleStackChestItemHandler() {
+    super();
+  }
+
+  /**
+   * Gets the key identifying the item type of the stack, two stacks with equal keys may not be in separate slots
+   * @param stack  Non-empty stack
+   * @return  Key for the stack, may share data with the stack so it should be passed through {@link #getStoredKey(Object)} before storing
+   */
+  protected abstract Object getIndexKey(ItemStack stack);
+
+  /**
+   * Gets a copy of the key that does not change if the stack changes, for storing in the index
+   * @param key  Key from {@link #getIndexKey(ItemStack)}
+   * @return  Key safe to store, defaults to the same key
+   */
+  protected Object getStoredKey(Object key) {
+    return key;
+  }
+
+  /**
+   * Checks if the stack may be placed in the chest when no slot contains its type
+   * @param stack  Stack to check
+   * @return  True if valid
+   */
+  protected abstract boolean isValidType(ItemStack stack);
+
+  /** Rebuilds the index from the current contents */
+  private void rebuildIndex() {
+    slotIndex.clear();
+    int slots = getSlots();
+    slotKeys = new Object[slots];
+    for (int i = 0; i < slots; i++) {
+      ItemStack stack = getStackInSlot(i);
+      if (!stack.isEmpty()) {
+        Object key = getStoredKey(getIndexKey(stack));
+        slotKeys[i] = key;
+        slotIndex.putIfAbsent(key, i);
+      }
+    }
+  }
+
+  /**
+   * Finds the slot containing the same type of item as the given stack
+   * @param stack  Stack to find
+   * @return  Slot index, or -1 if no slot contains the type
+   */
+  public int findSlot(ItemStack stack) {
+    if (stack.isEmpty()) {
+      return -1;
+    }
+    if (slotKeys == null || slotKeys.length != getSlots()) {
+      rebuildIndex();
+    }
+    Object key = getIndexKey(stack);
+    Integer slot = slotIndex.get(key);
+    if (slot == null) {
+      return -1;
+    }
+    // stacks returned by getStackInSlot may be changed directly, so make sure the slot still holds the item
+    ItemStack current = getStackInSlot(slot);
+    if (!current.isEmpty() && key.equals(getIndexKey(current))) {
+      return slot;
+    }
+    rebuildIndex();
+    slot = slotIndex.get(key);
+    return slot == null ? -1 : slot;
+  }
+
+  @Override
+  public boolean isItemValid(int slot, ItemStack stack) {
+    int existing = findSlot(stack);
+    if (existing != -1) {
+      // only allowed in the same slot
+      return existing == slot;
+    }
+    return isValidType(stack);
+  }
+
+  @Override
+  protected void onLoad() {
+    super.onLoad();
+    rebuildIndex();
+  }
+
+  @Override
+  protected void onContentsChanged(int slot) {
+    super.onContentsChanged(slot);
+    if (slotKeys == null || slotKeys.length != getSlots()) {
+      rebuildIndex();
+      return;
+    }
+    // remove the old key if it pointed here
+    Object oldKey = slotKeys[slot];
+    ItemStack stack = getStackInSlot(slot);
+    Object newKey = stack.isEmpty() ? null : getIndexKey(stack);
+    if (!Objects.equals(oldKey, newKey)) {
+      if (oldKey != null) {
+        slotIndex.remove(oldKey, slot);
+      }
+      if (newKey != null) {
+        newKey = getStoredKey(newKey);
+      }
+      slotKeys[slot] = newKey;
+      if (newKey != null) {
+        slotIndex.putIfAbsent(newKey, slot);
+      }
+    }
+  }
+}
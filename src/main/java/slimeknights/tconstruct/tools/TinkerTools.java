@@ -33,6 +33,7 @@ import slimeknights.tconstruct.library.tools.ToolPredicate;
 import slimeknights.tconstruct.library.tools.capability.ToolCapabilityProvider;
 import slimeknights.tconstruct.library.tools.capability.ToolFluidCapability;
 import slimeknights.tconstruct.library.tools.capability.ToolInventoryCapability;
+import slimeknights.tconstruct.library.tools.helper.AOEBreakBatch;
 import slimeknights.tconstruct.library.tools.helper.ModifierLootingHandler;
 import slimeknights.tconstruct.library.tools.item.ModifiableArmorItem;
 import slimeknights.tconstruct.library.tools.item.ModifiableItem;
@@ -80,6 +81,7 @@ public final class TinkerTools extends TinkerModule {
   public TinkerTools() {
     SlotType.init();
     BlockSideHitListener.init();
+    AOEBreakBatch.init();
     ModifierLootingHandler.init();
     RandomMaterial.init();
   }
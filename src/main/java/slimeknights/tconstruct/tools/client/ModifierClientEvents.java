@@ -78,8 +78,8 @@ public class ModifierClientEvents {
       ToolStack tool = ToolStack.from(mainhand);
       // special support for replacing modifier
       IModDataReadOnly volatileData = tool.getVolatileData();
-      boolean noInteraction = volatileData.getBoolean(IModifiable.NO_INTERACTION);
-      if (!noInteraction && !volatileData.getBoolean(IModifiable.DEFER_OFFHAND)) {
+      boolean noInteraction = volatileData.getBoolean(IModifiable.NO_INTERACTION_KEY);
+      if (!noInteraction && !volatileData.getBoolean(IModifiable.DEFER_OFFHAND_KEY)) {
         if (!(offhand.getItem() instanceof BlockItem) || tool.getModifierLevel(TinkerModifiers.exchanging.get()) == 0) {
           event.setCanceled(true);
           return;
@@ -65,7 +65,7 @@ public class ToolContainer extends Container {
       this.addSlot(new ItemHandlerSlot(itemHandler, i, 8 + (i % 9) * SLOT_SIZE, (REPEAT_BACKGROUND_START + 1) + (i / 9) * SLOT_SIZE));
     }
     // add offhand if requested
-    this.showOffhand = ModifierUtil.checkVolatileFlag(stack, ToolInventoryCapability.INCLUDE_OFFHAND);
+    this.showOffhand = ModifierUtil.checkVolatileFlag(stack, ToolInventoryCapability.INCLUDE_OFFHAND_KEY);
     if (this.showOffhand) {
       int x = 8 + (slots % 9) * SLOT_SIZE;
       int y = (REPEAT_BACKGROUND_START + 1) + (slots / 9) * SLOT_SIZE;
@@ -24,6 +24,8 @@ import net.minecraftforge.fml.loading.FMLEnvironment;
 import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.library.events.ToolEquipmentChangeEvent;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierHook;
+import slimeknights.tconstruct.library.modifiers.ModifierProfiler;
 import slimeknights.tconstruct.library.tools.context.EquipmentChangeContext;
 import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
 import slimeknights.tconstruct.tools.logic.EquipmentChangeWatcher.PlayerLastEquipment;
@@ -97,16 +99,20 @@ public class EquipmentChangeWatcher implements Capability.IStorage<PlayerLastEqu
     // first, fire event to notify an item was removed
     IModifierToolStack tool = context.getOriginalTool();
     if (tool != null) {
-      for (ModifierEntry entry : tool.getModifierList()) {
+      for (ModifierEntry entry : tool.getModifierList(ModifierHook.UNEQUIP)) {
+        long start = ModifierProfiler.start();
         entry.getModifier().onUnequip(tool, entry.getLevel(), context);
+        ModifierProfiler.end(entry.getModifier(), ModifierHook.UNEQUIP, start);
       }
     }
 
     // next, fire event to notify an item was added
     tool = context.getReplacementTool();
     if (tool != null) {
-      for (ModifierEntry entry : tool.getModifierList()) {
+      for (ModifierEntry entry : tool.getModifierList(ModifierHook.EQUIP)) {
+        long start = ModifierProfiler.start();
         entry.getModifier().onEquip(tool, entry.getLevel(), context);
+        ModifierProfiler.end(entry.getModifier(), ModifierHook.EQUIP, start);
       }
     }
 
@@ -115,7 +121,7 @@ public class EquipmentChangeWatcher implements Capability.IStorage<PlayerLastEqu
       if (otherSlot != changedSlot) {
         tool = context.getToolInSlot(otherSlot);
         if (tool != null) {
-          for (ModifierEntry entry : tool.getModifierList()) {
+          for (ModifierEntry entry : tool.getModifierList(ModifierHook.EQUIPMENT_CHANGE)) {
             entry.getModifier().onEquipmentChange(tool, entry.getLevel(), context, otherSlot);
           }
         }
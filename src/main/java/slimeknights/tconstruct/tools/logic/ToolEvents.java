@@ -42,6 +42,8 @@ import slimeknights.tconstruct.common.config.Config;
 import slimeknights.tconstruct.library.events.TinkerToolEvent.ToolHarvestEvent;
 import slimeknights.tconstruct.library.modifiers.Modifier;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierHook;
+import slimeknights.tconstruct.library.modifiers.ModifierProfiler;
 import slimeknights.tconstruct.library.modifiers.hooks.IArmorWalkModifier;
 import slimeknights.tconstruct.library.tools.capability.TinkerDataKeys;
 import slimeknights.tconstruct.library.tools.context.EquipmentContext;
@@ -78,13 +80,13 @@ public class ToolEvents {
     if (TinkerTags.Items.HARVEST.contains(stack.getItem())) {
       ToolStack tool = ToolStack.from(stack);
       if (!tool.isBroken()) {
-        List<ModifierEntry> modifiers = tool.getModifierList();
+        List<ModifierEntry> modifiers = tool.getModifierList(ModifierHook.BREAK_SPEED);
         if (!modifiers.isEmpty()) {
           // modifiers using additive boosts may want info on the original boosts provided
           float miningSpeedModifier = Modifier.getMiningModifier(player);
           boolean isEffective = stack.canHarvestBlock(event.getState());
           Direction direction = BlockSideHitListener.getSideHit(player);
-          for (ModifierEntry entry : tool.getModifierList()) {
+          for (ModifierEntry entry : modifiers) {
             entry.getModifier().onBreakSpeed(tool, entry.getLevel(), event, direction, isEffective, miningSpeedModifier);
             // if any modifier cancels mining, stop right here
             if (event.isCanceled()) {
@@ -204,7 +206,7 @@ public class ToolEvents {
       for (EquipmentSlotType slotType : ModifiableArmorMaterial.ARMOR_SLOTS) {
         IModifierToolStack toolStack = context.getToolInSlot(slotType);
         if (toolStack != null && !toolStack.isBroken()) {
-          for (ModifierEntry entry : toolStack.getModifierList()) {
+          for (ModifierEntry entry : toolStack.getModifierList(ModifierHook.SOURCE_BLOCKED)) {
             if (entry.getModifier().isSourceBlocked(toolStack, entry.getLevel(), context, slotType, source, amount)) {
               event.setCanceled(true);
               return;
@@ -218,8 +220,10 @@ public class ToolEvents {
       for (EquipmentSlotType slotType : ModifiableArmorMaterial.ARMOR_SLOTS) {
         IModifierToolStack toolStack = context.getToolInSlot(slotType);
         if (toolStack != null && !toolStack.isBroken()) {
-          for (ModifierEntry entry : toolStack.getModifierList()) {
+          for (ModifierEntry entry : toolStack.getModifierList(ModifierHook.ATTACKED)) {
+            long start = ModifierProfiler.start();
             entry.getModifier().onAttacked(toolStack, entry.getLevel(), context, slotType, source, amount, isDirectDamage);
+            ModifierProfiler.end(entry.getModifier(), ModifierHook.ATTACKED, start);
           }
         }
       }
@@ -233,7 +237,7 @@ public class ToolEvents {
         for (EquipmentSlotType slotType : ModifiableArmorMaterial.ARMOR_SLOTS) {
           IModifierToolStack toolStack = context.getToolInSlot(slotType);
           if (toolStack != null && !toolStack.isBroken()) {
-            for (ModifierEntry entry : toolStack.getModifierList()) {
+            for (ModifierEntry entry : toolStack.getModifierList(ModifierHook.ATTACK_WITH_ARMOR)) {
               entry.getModifier().attackWithArmor(toolStack, entry.getLevel(), context, slotType, entity, source, amount, isDirectDamage);
             }
           }
@@ -281,7 +285,7 @@ public class ToolEvents {
     for (EquipmentSlotType slotType : ModifiableArmorMaterial.ARMOR_SLOTS) {
       IModifierToolStack tool = context.getToolInSlot(slotType);
       if (tool != null && !tool.isBroken()) {
-        for (ModifierEntry entry : tool.getModifierList()) {
+        for (ModifierEntry entry : tool.getModifierList(ModifierHook.PROTECTION)) {
           modifierValue = entry.getModifier().getProtectionModifier(tool, entry.getLevel(), context, slotType, source, modifierValue);
         }
       }
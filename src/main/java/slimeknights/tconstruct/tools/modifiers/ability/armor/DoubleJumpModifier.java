@@ -2,7 +2,6 @@ package slimeknights.tconstruct.tools.modifiers.ability.armor;
 
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.particles.ParticleTypes;
-import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.util.text.TranslationTextComponent;
 import net.minecraftforge.common.MinecraftForge;
@@ -14,11 +13,12 @@ import slimeknights.tconstruct.library.modifiers.impl.TotalArmorLevelModifier;
 import slimeknights.tconstruct.library.tools.capability.PersistentDataCapability;
 import slimeknights.tconstruct.library.tools.capability.TinkerDataCapability;
 import slimeknights.tconstruct.library.tools.capability.TinkerDataCapability.TinkerDataKey;
+import slimeknights.tconstruct.library.tools.nbt.ModDataKey;
 
 import java.util.Random;
 
 public class DoubleJumpModifier extends TotalArmorLevelModifier {
-  private static final ResourceLocation JUMPS = TConstruct.getResource("jumps");
+  private static final ModDataKey JUMPS = TConstruct.getDataKey("jumps");
   private static final TinkerDataKey<Integer> EXTRA_JUMPS = TConstruct.createKey("extra_jumps");
 
   private ITextComponent levelOneName = null;
@@ -2,17 +2,17 @@ package slimeknights.tconstruct.tools.modifiers.ability.armor;
 
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.inventory.EquipmentSlotType;
-import net.minecraft.util.ResourceLocation;
 import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.library.modifiers.hooks.IArmorInteractModifier;
 import slimeknights.tconstruct.library.modifiers.impl.InventoryModifier;
 import slimeknights.tconstruct.library.tools.capability.ToolInventoryCapability;
 import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
+import slimeknights.tconstruct.library.tools.nbt.ModDataKey;
 
 import javax.annotation.Nullable;
 
 public class PocketsModifier extends InventoryModifier implements IArmorInteractModifier {
-  private static final ResourceLocation INVENTORY_KEY = TConstruct.getResource("pockets");
+  private static final ModDataKey INVENTORY_KEY = TConstruct.getDataKey("pockets");
   public PocketsModifier() {
     super(0x976997, INVENTORY_KEY, 9);
   }
@@ -6,7 +6,6 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
 import net.minecraft.util.Hand;
-import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.SoundEvents;
 import net.minecraftforge.common.util.Constants.NBT;
@@ -18,13 +17,14 @@ import slimeknights.tconstruct.library.tools.capability.ToolInventoryCapability;
 import slimeknights.tconstruct.library.tools.context.ToolRebuildContext;
 import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
 import slimeknights.tconstruct.library.tools.nbt.IToolContext;
+import slimeknights.tconstruct.library.tools.nbt.ModDataKey;
 import slimeknights.tconstruct.library.tools.nbt.ModDataNBT;
 import slimeknights.tconstruct.tools.TinkerModifiers;
 
 import javax.annotation.Nullable;
 
 public class ShieldStrapModifier extends InventoryModifier implements IArmorInteractModifier {
-  private static final ResourceLocation KEY = TConstruct.getResource("shield_strap");
+  private static final ModDataKey KEY = TConstruct.getDataKey("shield_strap");
   private static final Pattern PATTERN = new Pattern(TConstruct.MOD_ID, "shield_plus");
   public ShieldStrapModifier() {
     super(0x01cbcd, KEY, 1);
@@ -38,7 +38,7 @@ public class ShieldStrapModifier extends InventoryModifier implements IArmorInte
   @Override
   public void addVolatileData(ToolRebuildContext context, int level, ModDataNBT volatileData) {
     super.addVolatileData(context, level, volatileData);
-    volatileData.putBoolean(ToolInventoryCapability.INCLUDE_OFFHAND, true);
+    volatileData.putBoolean(ToolInventoryCapability.INCLUDE_OFFHAND_KEY, true);
   }
 
   @Override
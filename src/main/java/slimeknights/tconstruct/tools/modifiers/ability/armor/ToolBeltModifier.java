@@ -5,7 +5,6 @@ import net.minecraft.inventory.EquipmentSlotType;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
-import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.SoundEvents;
 import net.minecraftforge.common.util.Constants.NBT;
@@ -15,6 +14,7 @@ import slimeknights.tconstruct.library.modifiers.impl.InventoryModifier;
 import slimeknights.tconstruct.library.recipe.partbuilder.Pattern;
 import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
 import slimeknights.tconstruct.library.tools.nbt.IToolContext;
+import slimeknights.tconstruct.library.tools.nbt.ModDataKey;
 import slimeknights.tconstruct.library.tools.nbt.ModDataNBT;
 import slimeknights.tconstruct.tools.TinkerModifiers;
 
@@ -23,7 +23,7 @@ import javax.annotation.Nullable;
 import static slimeknights.tconstruct.library.tools.capability.ToolInventoryCapability.isBlacklisted;
 
 public class ToolBeltModifier extends InventoryModifier implements IArmorInteractModifier {
-  private static final ResourceLocation KEY = TConstruct.getResource("tool_belt");
+  private static final ModDataKey KEY = TConstruct.getDataKey("tool_belt");
   private static final Pattern PATTERN = new Pattern(TConstruct.MOD_ID, "tool_belt");
   public ToolBeltModifier() {
     super(0x893B25, KEY, 4);
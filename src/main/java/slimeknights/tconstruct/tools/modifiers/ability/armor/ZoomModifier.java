@@ -2,7 +2,6 @@ package slimeknights.tconstruct.tools.modifiers.ability.armor;
 
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.inventory.EquipmentSlotType;
-import net.minecraft.util.ResourceLocation;
 import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.library.modifiers.SingleUseModifier;
 import slimeknights.tconstruct.library.modifiers.hooks.IArmorInteractModifier;
@@ -10,11 +9,12 @@ import slimeknights.tconstruct.library.tools.capability.TinkerDataCapability;
 import slimeknights.tconstruct.library.tools.capability.TinkerDataKeys;
 import slimeknights.tconstruct.library.tools.context.EquipmentChangeContext;
 import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
+import slimeknights.tconstruct.library.tools.nbt.ModDataKey;
 
 import javax.annotation.Nullable;
 
 public class ZoomModifier extends SingleUseModifier implements IArmorInteractModifier {
-  private static final ResourceLocation ZOOM = TConstruct.getResource("zoom");
+  private static final ModDataKey ZOOM = TConstruct.getDataKey("zoom");
   public ZoomModifier() {
     super(-1);
   }
@@ -17,12 +17,16 @@ import slimeknights.tconstruct.library.tools.helper.ToolAttackUtil;
 import slimeknights.tconstruct.library.tools.item.IModifiableWeapon;
 import slimeknights.tconstruct.library.tools.nbt.IModDataReadOnly;
 import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
+import slimeknights.tconstruct.library.tools.nbt.ModDataKey;
 import slimeknights.tconstruct.library.tools.nbt.ModDataNBT;
 import slimeknights.tconstruct.library.tools.nbt.StatsNBT;
 import slimeknights.tconstruct.library.tools.stat.ToolStats;
 
 public class OffhandAttackModifier extends SingleUseModifier {
-  public static final ResourceLocation DUEL_WIELDING = TConstruct.getResource("duel_wielding");
+  public static final ModDataKey DUEL_WIELDING_KEY = TConstruct.getDataKey("duel_wielding");
+  /** @deprecated use {@link #DUEL_WIELDING_KEY} */
+  @Deprecated
+  public static final ResourceLocation DUEL_WIELDING = DUEL_WIELDING_KEY;
 
   public OffhandAttackModifier(int color) {
     super(color);
@@ -40,7 +44,7 @@ public class OffhandAttackModifier extends SingleUseModifier {
 
   @Override
   public void addVolatileData(ToolDefinition toolDefinition, StatsNBT baseStats, IModDataReadOnly persistentData, int level, ModDataNBT volatileData) {
-    volatileData.putBoolean(DUEL_WIELDING, true);
+    volatileData.putBoolean(DUEL_WIELDING_KEY, true);
   }
 
   /** If true, we can use the attack */
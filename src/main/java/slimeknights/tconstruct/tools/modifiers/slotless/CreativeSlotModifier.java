@@ -12,6 +12,7 @@ import slimeknights.tconstruct.library.tools.SlotType;
 import slimeknights.tconstruct.library.tools.ToolDefinition;
 import slimeknights.tconstruct.library.tools.nbt.IModDataReadOnly;
 import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
+import slimeknights.tconstruct.library.tools.nbt.ModDataKey;
 import slimeknights.tconstruct.library.tools.nbt.ModDataNBT;
 import slimeknights.tconstruct.library.tools.nbt.StatsNBT;
 
@@ -21,7 +22,10 @@ import java.util.List;
 /** Modifier that adds a variable number of slots to a tool. Could easily be done via NBT editing, but this makes it easier */
 public class CreativeSlotModifier extends SingleUseModifier {
   /** Key representing the slots object in the modifier */
-  public static final ResourceLocation KEY_SLOTS = TConstruct.getResource("creative");
+  public static final ModDataKey SLOTS_KEY = TConstruct.getDataKey("creative");
+  /** @deprecated use {@link #SLOTS_KEY} */
+  @Deprecated
+  public static final ResourceLocation KEY_SLOTS = SLOTS_KEY;
 
   public CreativeSlotModifier() {
     super(0xCCBA47);
@@ -29,13 +33,13 @@ public class CreativeSlotModifier extends SingleUseModifier {
 
   @Override
   public void onRemoved(IModifierToolStack tool) {
-    tool.getPersistentData().remove(KEY_SLOTS);
+    tool.getPersistentData().remove(SLOTS_KEY);
   }
 
   @Override
   public void addVolatileData(Item item, ToolDefinition toolDefinition, StatsNBT baseStats, IModDataReadOnly persistentData, int level, ModDataNBT volatileData) {
-    if (persistentData.contains(KEY_SLOTS, NBT.TAG_COMPOUND)) {
-      CompoundNBT slots = persistentData.getCompound(KEY_SLOTS);
+    if (persistentData.contains(SLOTS_KEY, NBT.TAG_COMPOUND)) {
+      CompoundNBT slots = persistentData.getCompound(SLOTS_KEY);
       for (String key : slots.keySet()) {
         SlotType slotType = SlotType.getIfPresent(key);
         if (slotType != null) {
@@ -56,8 +60,8 @@ public class CreativeSlotModifier extends SingleUseModifier {
   public List<ITextComponent> getDescriptionList(IModifierToolStack tool, int level) {
     List<ITextComponent> tooltip = getDescriptionList(level);
     IModDataReadOnly persistentData = tool.getPersistentData();
-    if (persistentData.contains(KEY_SLOTS, NBT.TAG_COMPOUND)) {
-      CompoundNBT slots = persistentData.getCompound(KEY_SLOTS);
+    if (persistentData.contains(SLOTS_KEY, NBT.TAG_COMPOUND)) {
+      CompoundNBT slots = persistentData.getCompound(SLOTS_KEY);
 
       // first one found has special behavior
       boolean first = true;
@@ -7,6 +7,7 @@ import slimeknights.tconstruct.library.modifiers.DurabilityShieldModifier;
 import slimeknights.tconstruct.library.tools.ToolDefinition;
 import slimeknights.tconstruct.library.tools.nbt.IModDataReadOnly;
 import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
+import slimeknights.tconstruct.library.tools.nbt.ModDataKey;
 import slimeknights.tconstruct.library.tools.nbt.ModDataNBT;
 import slimeknights.tconstruct.library.tools.nbt.StatsNBT;
 import slimeknights.tconstruct.library.tools.stat.ModifierStatsBuilder;
@@ -17,9 +18,9 @@ import javax.annotation.Nullable;
 
 public class OverslimeModifier extends DurabilityShieldModifier {
   /** Key for max overslime on a tool */
-  private static final ResourceLocation KEY_OVERSLIME_CAP = TConstruct.getResource("overslime_cap");
+  private static final ModDataKey KEY_OVERSLIME_CAP = TConstruct.getDataKey("overslime_cap");
   /** Key marking another modifier as an overslime "friend". If no friends exist, overslime causes some debuffs */
-  private static final ResourceLocation KEY_OVERSLIME_FRIEND = TConstruct.getResource("overslime_friend");
+  private static final ModDataKey KEY_OVERSLIME_FRIEND = TConstruct.getDataKey("overslime_friend");
 
   protected OverslimeModifier(int color) {
     super(color);
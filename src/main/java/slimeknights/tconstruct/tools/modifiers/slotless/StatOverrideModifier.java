@@ -13,6 +13,7 @@ import slimeknights.tconstruct.library.modifiers.SingleUseModifier;
 import slimeknights.tconstruct.library.tools.ToolDefinition;
 import slimeknights.tconstruct.library.tools.nbt.IModDataReadOnly;
 import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
+import slimeknights.tconstruct.library.tools.nbt.ModDataKey;
 import slimeknights.tconstruct.library.tools.nbt.ModDataNBT;
 import slimeknights.tconstruct.library.tools.nbt.StatsNBT;
 import slimeknights.tconstruct.library.tools.stat.FloatToolStat;
@@ -30,9 +31,9 @@ import java.util.function.Consumer;
 /** Modifier to directly modify a tool's stats */
 public class StatOverrideModifier extends SingleUseModifier {
   /** Key of all stats added to the tool */
-  private static final ResourceLocation KEY_BONUS = TConstruct.getResource("override_bonus");
+  private static final ModDataKey KEY_BONUS = TConstruct.getDataKey("override_bonus");
   /** Key of all stats multiplied by the tool */
-  private static final ResourceLocation KEY_MULTIPLY = TConstruct.getResource("override_multiplier");
+  private static final ModDataKey KEY_MULTIPLY = TConstruct.getDataKey("override_multiplier");
   /** Prefix for adding bonuses to the tooltip */
   private static final ITextComponent LANG_BONUS = TConstruct.makeTranslation("modifier", "stat_override.bonuses").mergeStyle(TextFormatting.UNDERLINE);
   /** Prefix for adding multipliers to the tooltip */
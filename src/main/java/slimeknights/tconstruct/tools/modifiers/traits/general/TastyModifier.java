@@ -10,7 +10,6 @@ import net.minecraft.loot.LootParameters;
 import net.minecraft.stats.Stats;
 import net.minecraft.util.ActionResultType;
 import net.minecraft.util.Hand;
-import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.SoundEvents;
 import net.minecraft.world.World;
@@ -19,13 +18,14 @@ import slimeknights.tconstruct.common.TinkerTags;
 import slimeknights.tconstruct.library.modifiers.Modifier;
 import slimeknights.tconstruct.library.tools.helper.ToolDamageUtil;
 import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
+import slimeknights.tconstruct.library.tools.nbt.ModDataKey;
 import slimeknights.tconstruct.library.tools.nbt.ModDataNBT;
 import slimeknights.tconstruct.shared.TinkerCommons;
 
 import java.util.List;
 
 public class TastyModifier extends Modifier {
-  private static final ResourceLocation IS_EATING = TConstruct.getResource("eating_tasty");
+  private static final ModDataKey IS_EATING = TConstruct.getDataKey("eating_tasty");
   public TastyModifier() {
     super(0xF0A8A4);
   }
@@ -1,7 +1,6 @@
 package slimeknights.tconstruct.tools.modifiers.traits.harvest;
 
 import net.minecraft.util.Direction;
-import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraftforge.event.entity.player.PlayerEvent.BreakSpeed;
 import slimeknights.tconstruct.TConstruct;
@@ -10,6 +9,7 @@ import slimeknights.tconstruct.library.modifiers.Modifier;
 import slimeknights.tconstruct.library.tools.ToolDefinition;
 import slimeknights.tconstruct.library.tools.nbt.IModDataReadOnly;
 import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
+import slimeknights.tconstruct.library.tools.nbt.ModDataKey;
 import slimeknights.tconstruct.library.tools.nbt.ModDataNBT;
 import slimeknights.tconstruct.library.tools.nbt.StatsNBT;
 import slimeknights.tconstruct.library.tools.stat.ToolStats;
@@ -19,7 +19,7 @@ import java.util.List;
 /** Well maintained for Tinkers Bronze */
 public class MaintainedModifier extends Modifier {
   private static final ITextComponent MINING_SPEED = TConstruct.makeTranslation("modifier", "maintained.mining_speed");
-  private static final ResourceLocation KEY_ORIGINAL_DURABILITY = TConstruct.getResource("durability");
+  private static final ModDataKey KEY_ORIGINAL_DURABILITY = TConstruct.getDataKey("durability");
   public MaintainedModifier() {
     super(0xE8B465);
   }
@@ -40,7 +40,7 @@ public class ChrysophiliteModifier extends SingleUseModifier {
         if (gold == null) {
           data.computeIfAbsent(TOTAL_GOLD).initialize(context);
         } else {
-          gold.setGold(EquipmentSlotType.HEAD, tool.getVolatileData().getBoolean(ModifiableArmorItem.PIGLIN_NEUTRAL));
+          gold.setGold(EquipmentSlotType.HEAD, tool.getVolatileData().getBoolean(ModifiableArmorItem.PIGLIN_NEUTRAL_KEY));
         }
       });
     }
@@ -71,7 +71,7 @@ public class ChrysophiliteModifier extends SingleUseModifier {
   public static boolean hasGold(EquipmentChangeContext context, EquipmentSlotType slotType) {
     IModifierToolStack tool = context.getToolInSlot(slotType);
     if (tool != null) {
-      return tool.getVolatileData().getBoolean(ModifiableArmorItem.PIGLIN_NEUTRAL);
+      return tool.getVolatileData().getBoolean(ModifiableArmorItem.PIGLIN_NEUTRAL_KEY);
     } else {
       LivingEntity living = context.getEntity();
       return living.getItemStackFromSlot(slotType).makesPiglinsNeutral(living);
@@ -24,7 +24,7 @@ public class NetheriteModifier extends SingleLevelModifier {
 
   @Override
   public void addVolatileData(Item item, ToolDefinition toolDefinition, StatsNBT baseStats, IModDataReadOnly persistentData, int level, ModDataNBT volatileData) {
-    volatileData.putBoolean(IModifiable.INDESTRUCTIBLE_ENTITY, true);
+    volatileData.putBoolean(IModifiable.INDESTRUCTIBLE_ENTITY_KEY, true);
     IModifiable.setRarity(volatileData, Rarity.RARE);
   }
 
@@ -27,9 +27,9 @@ public class OffhandedModifier extends Modifier {
 
   @Override
   public void addVolatileData(Item item, ToolDefinition toolDefinition, StatsNBT baseStats, IModDataReadOnly persistentData, int level, ModDataNBT volatileData) {
-    volatileData.putBoolean(IModifiable.DEFER_OFFHAND, true);
+    volatileData.putBoolean(IModifiable.DEFER_OFFHAND_KEY, true);
     if (level > 1) {
-      volatileData.putBoolean(IModifiable.NO_INTERACTION, true);
+      volatileData.putBoolean(IModifiable.NO_INTERACTION_KEY, true);
     }
   }
 
@@ -2,7 +2,6 @@ package slimeknights.tconstruct.tools.modifiers.upgrades.melee;
 
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.util.DamageSource;
-import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.text.ITextComponent;
 import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.library.modifiers.IncrementalModifier;
@@ -11,6 +10,7 @@ import slimeknights.tconstruct.library.tools.context.ToolAttackContext;
 import slimeknights.tconstruct.library.tools.helper.ToolAttackUtil;
 import slimeknights.tconstruct.library.tools.nbt.IModDataReadOnly;
 import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
+import slimeknights.tconstruct.library.tools.nbt.ModDataKey;
 import slimeknights.tconstruct.library.tools.nbt.ModDataNBT;
 import slimeknights.tconstruct.library.tools.nbt.StatsNBT;
 import slimeknights.tconstruct.library.tools.stat.ModifierStatsBuilder;
@@ -19,7 +19,7 @@ import slimeknights.tconstruct.library.tools.stat.ToolStats;
 import java.util.List;
 
 public class PiercingModifier extends IncrementalModifier {
-  private static final ResourceLocation PIERCING_DEBUFF = TConstruct.getResource("piercing_debuff");
+  private static final ModDataKey PIERCING_DEBUFF = TConstruct.getDataKey("piercing_debuff");
   public PiercingModifier() {
     super(0xD1D37A);
   }
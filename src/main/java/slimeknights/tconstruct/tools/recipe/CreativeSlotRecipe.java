@@ -82,11 +82,11 @@ public class CreativeSlotRecipe implements ITinkerStationRecipe, IModifierRecipe
     // first, fetch the slots compound
     CompoundNBT slots;
     ModDataNBT persistentData = toolStack.getPersistentData();
-    if (persistentData.contains(CreativeSlotModifier.KEY_SLOTS, NBT.TAG_COMPOUND)) {
-      slots = persistentData.getCompound(CreativeSlotModifier.KEY_SLOTS);
+    if (persistentData.contains(CreativeSlotModifier.SLOTS_KEY, NBT.TAG_COMPOUND)) {
+      slots = persistentData.getCompound(CreativeSlotModifier.SLOTS_KEY);
     } else {
       slots = new CompoundNBT();
-      persistentData.put(CreativeSlotModifier.KEY_SLOTS, slots);
+      persistentData.put(CreativeSlotModifier.SLOTS_KEY, slots);
     }
 
     // find the input
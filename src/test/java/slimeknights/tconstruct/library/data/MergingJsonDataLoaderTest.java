@@ -0,0 +1,88 @@
+package slimeknights.tconstruct.library.data;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import net.minecraft.resources.IResource;
+import net.minecraft.resources.IResourceManager;
+import net.minecraft.util.ResourceLocation;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MergingJsonDataLoaderTest {
+  private static final String FOLDER = "test_merging";
+  private static final ResourceLocation FILE = new ResourceLocation("test", FOLDER + "/file.json");
+  private static final String FIRST = "{\"durability\": 100}";
+  private static final String SECOND = "{\"durability\": 200}";
+
+  private final TestLoader loader = new TestLoader();
+
+  /** Creates a resource in a data pack with the given contents */
+  private static IResource resource(String json) {
+    IResource resource = mock(IResource.class);
+    when(resource.getInputStream()).thenReturn(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    when(resource.getPackName()).thenReturn("test");
+    return resource;
+  }
+
+  /** Loads the given contents as a single file present in several packs, in order from lowest to highest priority */
+  private long load(String... contents) throws IOException {
+    List<IResource> resources = new ArrayList<>();
+    for (String json : contents) {
+      resources.add(resource(json));
+    }
+    IResourceManager manager = mock(IResourceManager.class);
+    when(manager.getAllResourceLocations(eq(FOLDER), any())).thenReturn(Collections.singletonList(FILE));
+    when(manager.getAllResources(FILE)).thenReturn(resources);
+    loader.onResourceManagerReload(manager);
+    return loader.getContentHash();
+  }
+
+  @Test
+  void contentHash_sameOrder_sameHash() throws IOException {
+    assertThat(load(FIRST, SECOND)).isEqualTo(load(FIRST, SECOND));
+  }
+
+  @Test
+  void contentHash_reordered_changesHash() throws IOException {
+    long hash = load(FIRST, SECOND);
+    assertThat(loader.merged.get(new ResourceLocation("test", "file"))).hasSize(2);
+    assertThat(load(SECOND, FIRST)).isNotEqualTo(hash);
+  }
+
+  @Test
+  void contentHash_changedContents_changesHash() throws IOException {
+    assertThat(load(FIRST)).isNotEqualTo(load(SECOND));
+  }
+
+  /** Loader that keeps each JSON in the order it was merged */
+  private static class TestLoader extends MergingJsonDataLoader<List<JsonElement>> {
+    private Map<ResourceLocation,List<JsonElement>> merged = Collections.emptyMap();
+
+    private TestLoader() {
+      super(new Gson(), FOLDER, id -> new ArrayList<>());
+    }
+
+    @Override
+    protected void parse(List<JsonElement> builder, ResourceLocation id, JsonElement element) {
+      builder.add(element);
+    }
+
+    @Override
+    protected void finishLoad(Map<ResourceLocation,List<JsonElement>> map, IResourceManager manager) {
+      merged = map;
+    }
+  }
+}
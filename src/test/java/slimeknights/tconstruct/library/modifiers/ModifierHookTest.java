@@ -0,0 +1,42 @@
+package slimeknights.tconstruct.library.modifiers;
+
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.world.World;
+import org.junit.jupiter.api.Test;
+import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ModifierHookTest extends BaseMcTest {
+  @Test
+  void hasHook_defaultModifierHasNone() {
+    Modifier modifier = new Modifier(-1);
+    for (ModifierHook hook : ModifierHook.values()) {
+      assertThat(modifier.hasHook(hook)).isFalse();
+    }
+  }
+
+  @Test
+  void hasHook_detectsOverride() {
+    Modifier modifier = new TickingModifier();
+    assertThat(modifier.hasHook(ModifierHook.INVENTORY_TICK)).isTrue();
+    assertThat(modifier.hasHook(ModifierHook.AFTER_BLOCK_BREAK)).isFalse();
+  }
+
+  @Test
+  void hasHook_detectsInheritedOverride() {
+    Modifier modifier = new TickingModifier() {};
+    assertThat(modifier.hasHook(ModifierHook.INVENTORY_TICK)).isTrue();
+  }
+
+  private static class TickingModifier extends Modifier {
+    TickingModifier() {
+      super(-1);
+    }
+
+    @Override
+    public void onInventoryTick(IModifierToolStack tool, int level, World world, LivingEntity holder, int itemSlot, boolean isSelected, boolean isCorrectSlot, ItemStack stack) {}
+  }
+}
@@ -3,6 +3,8 @@ package slimeknights.tconstruct.library.tools.nbt;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.INBT;
 import net.minecraft.nbt.ListNBT;
+import net.minecraft.nbt.StringNBT;
+import net.minecraftforge.common.util.Constants.NBT;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import slimeknights.tconstruct.fixture.ModifierFixture;
@@ -115,4 +117,98 @@ class ModifierNBTest extends BaseMcTest {
 
     assertThat(modifierNBT).isEqualTo(ModifierNBT.EMPTY);
   }
+
+  /* Compact format */
+
+  @Test
+  void serializeCompact_roundTrip() {
+    ModifierNBT modifierNBT = ModifierNBT.builder()
+                                         .add(ModifierFixture.TEST_MODIFIER_1, 2)
+                                         .add(ModifierFixture.TEST_MODIFIER_2, 3)
+                                         .build();
+
+    CompoundNBT nbt = modifierNBT.serializeCompact();
+    assertThat(nbt.getList(ModifierNBT.TAG_IDS, NBT.TAG_STRING).size()).isEqualTo(2);
+    assertThat(nbt.contains(ModifierNBT.TAG_LEVELS, NBT.TAG_BYTE_ARRAY)).isTrue();
+    assertThat(ModifierNBT.readFromNBT(nbt)).isEqualTo(modifierNBT);
+    assertThat(ModifierNBT.readLevel(nbt, ModifierFixture.TEST_1.toString())).isEqualTo(2);
+    assertThat(ModifierNBT.readLevel(nbt, ModifierFixture.TEST_2.toString())).isEqualTo(3);
+  }
+
+  @Test
+  void serializeCompact_largeLevels() {
+    ModifierNBT modifierNBT = ModifierNBT.builder()
+                                         .add(ModifierFixture.TEST_MODIFIER_1, 200)
+                                         .add(ModifierFixture.TEST_MODIFIER_2, 1)
+                                         .build();
+
+    CompoundNBT nbt = modifierNBT.serializeCompact();
+    assertThat(nbt.contains(ModifierNBT.TAG_LEVELS, NBT.TAG_INT_ARRAY)).isTrue();
+    assertThat(ModifierNBT.readFromNBT(nbt)).isEqualTo(modifierNBT);
+    assertThat(ModifierNBT.readLevel(nbt, ModifierFixture.TEST_1.toString())).isEqualTo(200);
+  }
+
+  @Test
+  void serializeCompact_empty() {
+    CompoundNBT nbt = ModifierNBT.EMPTY.serializeCompact();
+
+    assertThat(ModifierNBT.readFromNBT(nbt)).isEqualTo(ModifierNBT.EMPTY);
+    assertThat(ModifierNBT.readLevel(nbt, ModifierFixture.TEST_1.toString())).isEqualTo(0);
+  }
+
+  @Test
+  void deserializeCompact_zeroLevelsSkipped() {
+    CompoundNBT nbt = new CompoundNBT();
+    ListNBT ids = new ListNBT();
+    ids.add(StringNBT.valueOf(ModifierFixture.TEST_1.toString()));
+    ids.add(StringNBT.valueOf(ModifierFixture.TEST_2.toString()));
+    nbt.put(ModifierNBT.TAG_IDS, ids);
+    nbt.putByteArray(ModifierNBT.TAG_LEVELS, new byte[] {0, 4});
+
+    ModifierNBT modifierNBT = ModifierNBT.readFromNBT(nbt);
+    assertThat(modifierNBT.getModifiers()).hasSize(1);
+    assertThat(modifierNBT.getLevel(ModifierFixture.TEST_MODIFIER_1)).isEqualTo(0);
+    assertThat(modifierNBT.getLevel(ModifierFixture.TEST_MODIFIER_2)).isEqualTo(4);
+  }
+
+  @Test
+  void deserializeCompact_missingLevels() {
+    CompoundNBT nbt = new CompoundNBT();
+    ListNBT ids = new ListNBT();
+    ids.add(StringNBT.valueOf(ModifierFixture.TEST_1.toString()));
+    ids.add(StringNBT.valueOf(ModifierFixture.TEST_2.toString()));
+    nbt.put(ModifierNBT.TAG_IDS, ids);
+    nbt.putByteArray(ModifierNBT.TAG_LEVELS, new byte[] {2});
+
+    // levels shorter than the IDs ignores the extra IDs
+    ModifierNBT modifierNBT = ModifierNBT.readFromNBT(nbt);
+    assertThat(modifierNBT.getModifiers()).hasSize(1);
+    assertThat(modifierNBT.getLevel(ModifierFixture.TEST_MODIFIER_1)).isEqualTo(2);
+    assertThat(ModifierNBT.readLevel(nbt, ModifierFixture.TEST_2.toString())).isEqualTo(0);
+  }
+
+  @Test
+  void deserializeLegacy_matchesCompact() {
+    ModifierNBT modifierNBT = ModifierNBT.builder()
+                                         .add(ModifierFixture.TEST_MODIFIER_1, 2)
+                                         .add(ModifierFixture.TEST_MODIFIER_2, 3)
+                                         .build();
+
+    ListNBT legacy = modifierNBT.serializeToNBT();
+    assertThat(ModifierNBT.readFromNBT(legacy)).isEqualTo(ModifierNBT.readFromNBT(modifierNBT.serializeCompact()));
+    assertThat(ModifierNBT.readLevel(legacy, ModifierFixture.TEST_1.toString())).isEqualTo(2);
+    assertThat(ModifierNBT.readLevel(legacy, ModifierFixture.TEST_2.toString())).isEqualTo(3);
+    assertThat(ModifierNBT.readLevel(legacy, "test:missing")).isEqualTo(0);
+  }
+
+  @Test
+  void deserializeLegacy_zeroLevelsSkipped() {
+    ListNBT list = new ListNBT();
+    CompoundNBT tag = new CompoundNBT();
+    tag.putString(ModifierNBT.TAG_MODIFIER, ModifierFixture.TEST_1.toString());
+    tag.putInt(ModifierNBT.TAG_LEVEL, 0);
+    list.add(tag);
+
+    assertThat(ModifierNBT.readFromNBT(list)).isEqualTo(ModifierNBT.EMPTY);
+  }
 }
@@ -5,10 +5,14 @@ import net.minecraft.nbt.INBT;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import slimeknights.tconstruct.library.materials.MaterialRegistryExtension;
+import slimeknights.tconstruct.library.tools.stat.FloatToolStat;
+import slimeknights.tconstruct.library.tools.stat.IToolStat;
+import slimeknights.tconstruct.library.tools.stat.ToolStatId;
 import slimeknights.tconstruct.library.tools.stat.ToolStats;
 import slimeknights.tconstruct.test.BaseMcTest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @ExtendWith(MaterialRegistryExtension.class)
 class StatsNBTTest extends BaseMcTest {
@@ -84,4 +88,54 @@ class StatsNBTTest extends BaseMcTest {
                                        .build();
     assertThat(partialStatsNBT.getFloat(ToolStats.MINING_SPEED)).isEqualTo(ToolStats.MINING_SPEED.getDefaultValue());
   }
+
+  @Test
+  void missing_notContained() {
+    StatsNBT partialStatsNBT = StatsNBT.builder().set(ToolStats.DURABILITY, 1).build();
+    assertThat(partialStatsNBT.hasStat(ToolStats.DURABILITY)).isTrue();
+    assertThat(partialStatsNBT.hasStat(ToolStats.ARMOR)).isFalse();
+    assertThat(partialStatsNBT.getInt(ToolStats.HARVEST_LEVEL)).isEqualTo((int)ToolStats.HARVEST_LEVEL.getDefaultValue());
+    assertThat(partialStatsNBT.getContainedStats()).containsExactly(ToolStats.DURABILITY);
+    assertThat(StatsNBT.EMPTY.getFloat(ToolStats.ATTACK_SPEED)).isEqualTo(ToolStats.ATTACK_SPEED.getDefaultValue());
+  }
+
+  @Test
+  void serialize_roundTrip() {
+    StatsNBT statsNBT = StatsNBT.readFromNBT(testStatsNBT.serializeToNBT());
+
+    assertThat(statsNBT).isEqualTo(testStatsNBT);
+    assertThat(statsNBT.getContainedStats()).isEqualTo(testStatsNBT.getContainedStats());
+    assertThat(statsNBT.hasStat(ToolStats.ARMOR)).isFalse();
+  }
+
+  @Test
+  void deserialize_unknownStatsIgnored() {
+    CompoundNBT nbt = new CompoundNBT();
+    nbt.putInt(ToolStats.DURABILITY.getName().toString(), 6);
+    nbt.putFloat("test:unknown_stat", 4);
+    nbt.putFloat("Not A Valid ID", 3);
+    nbt.putString(ToolStats.ATTACK_DAMAGE.getName().toString(), "not a number");
+
+    StatsNBT statsNBT = StatsNBT.readFromNBT(nbt);
+
+    assertThat(statsNBT.getContainedStats()).containsExactly(ToolStats.DURABILITY);
+    assertThat(statsNBT.getInt(ToolStats.DURABILITY)).isEqualTo(6);
+  }
+
+  @Test
+  void unregisteredStat_isDefault() {
+    FloatToolStat unregistered = new FloatToolStat(new ToolStatId("test", "unregistered"), 0xFFFFFFFF, 7, 0, 10);
+    assertThat(unregistered.getIndex()).isEqualTo(-1);
+    assertThat(testStatsNBT.hasStat(unregistered)).isFalse();
+    assertThat(testStatsNBT.getFloat(unregistered)).isEqualTo(7);
+    assertThatThrownBy(() -> StatsNBT.builder().set(unregistered, 1)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void statIndex_matchesRegistration() {
+    for (IToolStat<?> stat : ToolStats.getAllStats()) {
+      assertThat(stat.getIndex()).isEqualTo(ToolStats.getIndex(stat));
+      assertThat(ToolStats.getToolStat(stat.getIndex())).isSameAs(stat);
+    }
+  }
 }
@@ -0,0 +1,145 @@
+package slimeknights.tconstruct.library.tools.nbt;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraftforge.common.util.Constants.NBT;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import slimeknights.tconstruct.fixture.MaterialItemFixture;
+import slimeknights.tconstruct.fixture.ModifierFixture;
+import slimeknights.tconstruct.library.tools.definition.ToolDefinitionDataBuilder;
+import slimeknights.tconstruct.library.tools.item.ToolItemTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ToolShareTagTest extends ToolItemTest {
+  private static final String[] DERIVED_TAGS = {ToolStack.TAG_MODIFIERS, ToolStack.TAG_STATS, ToolStack.TAG_MULTIPLIERS, ToolStack.TAG_VOLATILE_MOD_DATA};
+
+  @BeforeAll
+  static void before() {
+    ModifierFixture.init();
+  }
+
+  @BeforeEach
+  void setUpServerTool() {
+    ToolShareTag.clearCache();
+    ToolStack.from(testItemStack).addModifier(ModifierFixture.TEST_MODIFIER_1, 2);
+  }
+
+  @AfterEach
+  void resetDefinition() {
+    tool.getToolDefinition().setDefaultData();
+  }
+
+  /** Sets loaded data on the test definition, as default data is treated as not yet synced */
+  private static void loadDefinition() {
+    tool.getToolDefinition().setData(ToolDefinitionDataBuilder.builder()
+                                                              .part(MaterialItemFixture.MATERIAL_ITEM_HEAD)
+                                                              .part(MaterialItemFixture.MATERIAL_ITEM_HANDLE)
+                                                              .part(MaterialItemFixture.MATERIAL_ITEM_EXTRA)
+                                                              .build());
+  }
+
+  /**
+   * Creates the client copy of a tool, as if it was sent over the network
+   * @param server            Server stack
+   * @param compactModifiers  Server modifier format
+   * @return  Client stack
+   */
+  private static ItemStack sync(ItemStack server, boolean compactModifiers) {
+    CompoundNBT serverTag = server.getTag();
+    assertThat(serverTag).isNotNull();
+    ItemStack client = new ItemStack(tool);
+    client.setTag(ToolShareTag.getShareTag(serverTag, compactModifiers).copy());
+    return client;
+  }
+
+  /** Checks that all derived tags on the client match the server */
+  private static void assertDerivedMatch(ItemStack server, ItemStack client) {
+    CompoundNBT serverTag = server.getOrCreateTag();
+    CompoundNBT clientTag = client.getOrCreateTag();
+    for (String tag : DERIVED_TAGS) {
+      assertThat(clientTag.get(tag)).as(tag).isEqualTo(serverTag.get(tag));
+    }
+    assertThat(clientTag.contains(ToolShareTag.TAG_REBUILD)).isFalse();
+    assertThat(clientTag).isEqualTo(serverTag);
+  }
+
+  @Test
+  void getShareTag_disabled_unchanged() {
+    assertThat(ToolShareTag.getShareTag(testItemStack)).isSameAs(testItemStack.getTag());
+  }
+
+  @Test
+  void getShareTag_stripsDerivedTags() {
+    CompoundNBT shareTag = sync(testItemStack, false).getOrCreateTag();
+    for (String tag : DERIVED_TAGS) {
+      assertThat(shareTag.contains(tag)).as(tag).isFalse();
+    }
+    assertThat(shareTag.contains(ToolStack.TAG_MATERIALS)).isTrue();
+    assertThat(shareTag.contains(ToolStack.TAG_UPGRADES)).isTrue();
+    assertThat(shareTag.contains(ToolShareTag.TAG_REBUILD)).isTrue();
+    // server copy is untouched
+    assertThat(testItemStack.getOrCreateTag().contains(ToolStack.TAG_STATS)).isTrue();
+  }
+
+  @Test
+  void restore_matchesServer() {
+    loadDefinition();
+    ItemStack client = sync(testItemStack, false);
+    ToolStack.from(client);
+    assertDerivedMatch(testItemStack, client);
+  }
+
+  @Test
+  void restore_usesServerModifierFormat() {
+    loadDefinition();
+    // server saved the modifiers compact, while the client config uses the list format
+    CompoundNBT serverTag = testItemStack.getOrCreateTag();
+    serverTag.put(ToolStack.TAG_MODIFIERS, ModifierNBT.readFromNBT(serverTag.get(ToolStack.TAG_MODIFIERS)).serializeCompact());
+
+    ItemStack client = sync(testItemStack, true);
+    ToolStack.from(client);
+    assertThat(client.getOrCreateTag().contains(ToolStack.TAG_MODIFIERS, NBT.TAG_COMPOUND)).isTrue();
+    assertDerivedMatch(testItemStack, client);
+  }
+
+  @Test
+  void restore_cacheHit() {
+    loadDefinition();
+    ItemStack client = sync(testItemStack, false);
+    ToolStack.from(client);
+    assertThat(ToolShareTag.CACHE.size()).isEqualTo(1);
+
+    // resending with just a damage change reuses the cached data
+    ToolStack.from(testItemStack).setDamage(5);
+    client = sync(testItemStack, false);
+    ToolStack.from(client);
+    assertThat(ToolShareTag.CACHE.size()).isEqualTo(1);
+    assertThat(client.getDamage()).isEqualTo(5);
+    assertDerivedMatch(testItemStack, client);
+
+    // cached data is used without rebuilding
+    ToolShareTag.CACHE.asMap().values().iterator().next().put(ToolStack.TAG_STATS, new CompoundNBT());
+    client = sync(testItemStack, false);
+    ToolStack.from(client);
+    assertThat(client.getOrCreateTag().getCompound(ToolStack.TAG_STATS).isEmpty()).isTrue();
+  }
+
+  @Test
+  void restore_definitionNotLoaded_waits() {
+    ItemStack client = sync(testItemStack, false);
+    ToolStack.from(client);
+    CompoundNBT clientTag = client.getOrCreateTag();
+    assertThat(clientTag.contains(ToolShareTag.TAG_REBUILD)).isTrue();
+    assertThat(clientTag.contains(ToolStack.TAG_STATS)).isFalse();
+    assertThat(ToolShareTag.CACHE.size()).isEqualTo(0);
+
+    // once the definition arrives, the next access restores the data
+    loadDefinition();
+    ToolStack.from(client);
+    assertDerivedMatch(testItemStack, client);
+  }
+}
@@ -8,12 +8,15 @@ import net.minecraftforge.common.util.Constants;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import slimeknights.tconstruct.fixture.MaterialFixture;
+import slimeknights.tconstruct.fixture.MaterialItemFixture;
 import slimeknights.tconstruct.fixture.ModifierFixture;
 import slimeknights.tconstruct.fixture.ToolDefinitionFixture;
 import slimeknights.tconstruct.library.tools.SlotType;
 import slimeknights.tconstruct.library.tools.ToolDefinition;
+import slimeknights.tconstruct.library.tools.definition.ToolDefinitionDataBuilder;
 import slimeknights.tconstruct.library.tools.helper.ToolDamageUtil;
 import slimeknights.tconstruct.library.tools.item.ToolItemTest;
+import slimeknights.tconstruct.library.tools.nbt.ToolDataFingerprint.Source;
 import slimeknights.tconstruct.library.tools.stat.ToolStats;
 
 import java.util.Arrays;
@@ -247,6 +250,26 @@ class ToolStackTest extends ToolItemTest {
     assertThat(readStats).isEqualTo(testStatsNBT);
   }
 
+  @Test
+  void stats_sharedBetweenInstances() {
+    ItemStack stack = new ItemStack(Items.DIAMOND_PICKAXE);
+    stack.getOrCreateTag().put(ToolStack.TAG_STATS, testStatsNBT.serializeToNBT());
+
+    StatsNBT first = ToolStack.from(stack).getStats();
+    assertThat(ToolStack.from(stack).getStats()).isSameAs(first);
+  }
+
+  @Test
+  void stats_replacedTagReparses() {
+    ItemStack stack = new ItemStack(Items.DIAMOND_PICKAXE);
+    stack.getOrCreateTag().put(ToolStack.TAG_STATS, testStatsNBT.serializeToNBT());
+    ToolStack.from(stack).getStats();
+
+    StatsNBT newStats = StatsNBT.builder().set(ToolStats.DURABILITY, 50).build();
+    stack.getOrCreateTag().put(ToolStack.TAG_STATS, newStats.serializeToNBT());
+    assertThat(ToolStack.from(stack).getStats()).isEqualTo(newStats);
+  }
+
   @Test
   void stats_lowDurabilityUpdatesDurability() {
     ItemStack stack = new ItemStack(Items.DIAMOND_PICKAXE);
@@ -434,4 +457,40 @@ class ToolStackTest extends ToolItemTest {
     assertThat(toolStack.getVolatileData()).isNotEqualTo(volatileData);
     assertThat(toolStack.getModifiers().getLevel(ModifierFixture.TEST_MODIFIER_1)).isEqualTo(2);
   }
+
+  /* Verify tag */
+
+  @Test
+  void verifyTag_fingerprintChangeRebuildsStats() {
+    ToolDefinition definition = tool.getToolDefinition();
+    // the fixture only has default data, which verify tag skips
+    definition.setData(ToolDefinitionDataBuilder.builder()
+                                                .part(MaterialItemFixture.MATERIAL_ITEM_HEAD)
+                                                .part(MaterialItemFixture.MATERIAL_ITEM_HANDLE)
+                                                .part(MaterialItemFixture.MATERIAL_ITEM_EXTRA)
+                                                .build());
+    try {
+      for (Source source : Source.values()) {
+        ToolDataFingerprint.update(source, 1);
+      }
+      ToolStack.from(testItemStack).rebuildStats();
+      CompoundNBT compound = testItemStack.write(new CompoundNBT());
+      CompoundNBT nbt = compound.getCompound("tag");
+      assertThat(ToolDataFingerprint.matches(nbt)).isTrue();
+
+      // clear the stats so a rebuild is visible, matching fingerprint skips the rebuild
+      nbt.put(ToolStack.TAG_STATS, new CompoundNBT());
+      ToolStack.verifyTag(tool, compound, definition);
+      assertThat(nbt.getCompound(ToolStack.TAG_STATS).isEmpty()).isTrue();
+
+      // changing just the tags must rebuild
+      ToolDataFingerprint.update(Source.TAGS, 2);
+      ToolStack.verifyTag(tool, compound, definition);
+      assertThat(nbt.getCompound(ToolStack.TAG_STATS).isEmpty()).isFalse();
+      assertThat(ToolDataFingerprint.matches(nbt)).isTrue();
+    } finally {
+      definition.setDefaultData();
+      ToolDataFingerprint.reset();
+    }
+  }
 }
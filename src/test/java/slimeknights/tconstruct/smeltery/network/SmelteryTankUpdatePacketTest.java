@@ -0,0 +1,88 @@
+package slimeknights.tconstruct.smeltery.network;
+
+import com.google.common.collect.ImmutableList;
+import io.netty.buffer.Unpooled;
+import net.minecraft.fluid.Fluids;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.fluids.FluidStack;
+import org.junit.jupiter.api.Test;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SmelteryTankUpdatePacketTest extends BaseMcTest {
+  private static final BlockPos POS = new BlockPos(1, 2, 3);
+
+  /** Sends the packet over a buffer */
+  private static SmelteryTankUpdatePacket roundTrip(SmelteryTankUpdatePacket packet) {
+    PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+    packet.encode(buffer);
+    return new SmelteryTankUpdatePacket(buffer);
+  }
+
+  /** Checks that the fluids match by fluid and amount */
+  private static void assertFluids(List<FluidStack> actual, FluidStack... expected) {
+    assertThat(actual).hasSize(expected.length);
+    for (int i = 0; i < expected.length; i++) {
+      assertThat(actual.get(i).isFluidEqual(expected[i])).isTrue();
+      assertThat(actual.get(i).getAmount()).isEqualTo(expected[i].getAmount());
+    }
+  }
+
+  @Test
+  void full_ignoresClientVersion() {
+    SmelteryTankUpdatePacket decoded = roundTrip(SmelteryTankUpdatePacket.full(POS, 5, ImmutableList.of(new FluidStack(Fluids.WATER, 100), new FluidStack(Fluids.LAVA, 50))));
+    List<FluidStack> fluids = decoded.getUpdatedFluids(-1, Collections.emptyList());
+    assertThat(fluids).isNotNull();
+    assertFluids(fluids, new FluidStack(Fluids.WATER, 100), new FluidStack(Fluids.LAVA, 50));
+  }
+
+  @Test
+  void delta_amountsAndReorder() {
+    List<FluidStack> previous = ImmutableList.of(new FluidStack(Fluids.WATER, 100), new FluidStack(Fluids.LAVA, 50));
+    // lava moved to the bottom with a new amount, water unchanged
+    SmelteryTankUpdatePacket decoded = roundTrip(SmelteryTankUpdatePacket.delta(POS, 3, 4, new int[] {1, 0}, new int[] {75, 100}, Collections.emptyList()));
+    List<FluidStack> fluids = decoded.getUpdatedFluids(3, previous);
+    assertThat(fluids).isNotNull();
+    assertFluids(fluids, new FluidStack(Fluids.LAVA, 75), new FluidStack(Fluids.WATER, 100));
+    // previous list is not modified
+    assertThat(previous.get(1).getAmount()).isEqualTo(50);
+  }
+
+  @Test
+  void delta_addAndRemove() {
+    List<FluidStack> previous = ImmutableList.of(new FluidStack(Fluids.WATER, 100), new FluidStack(Fluids.LAVA, 50));
+    // water removed, lava kept, new water added after
+    SmelteryTankUpdatePacket decoded = roundTrip(SmelteryTankUpdatePacket.delta(POS, 3, 4, new int[] {1, SmelteryTankUpdatePacket.NEW_FLUID}, new int[] {50, 0},
+                                                                                ImmutableList.of(new FluidStack(Fluids.WATER, 20))));
+    List<FluidStack> fluids = decoded.getUpdatedFluids(3, previous);
+    assertThat(fluids).isNotNull();
+    assertFluids(fluids, new FluidStack(Fluids.LAVA, 50), new FluidStack(Fluids.WATER, 20));
+  }
+
+  @Test
+  void delta_empty() {
+    SmelteryTankUpdatePacket decoded = roundTrip(SmelteryTankUpdatePacket.delta(POS, 3, 4, new int[0], new int[0], Collections.emptyList()));
+    List<FluidStack> fluids = decoded.getUpdatedFluids(3, ImmutableList.of(new FluidStack(Fluids.WATER, 100)));
+    assertThat(fluids).isNotNull().isEmpty();
+  }
+
+  @Test
+  void delta_versionMismatch() {
+    List<FluidStack> previous = ImmutableList.of(new FluidStack(Fluids.WATER, 100));
+    SmelteryTankUpdatePacket decoded = roundTrip(SmelteryTankUpdatePacket.delta(POS, 3, 4, new int[] {0}, new int[] {80}, Collections.emptyList()));
+    assertThat(decoded.getUpdatedFluids(2, previous)).isNull();
+    // version from a sync that lacked the tank version
+    assertThat(decoded.getUpdatedFluids(-1, previous)).isNull();
+  }
+
+  @Test
+  void delta_invalidReference() {
+    SmelteryTankUpdatePacket decoded = roundTrip(SmelteryTankUpdatePacket.delta(POS, 3, 4, new int[] {2}, new int[] {80}, Collections.emptyList()));
+    assertThat(decoded.getUpdatedFluids(3, ImmutableList.of(new FluidStack(Fluids.WATER, 100)))).isNull();
+  }
+}